@@ -0,0 +1,76 @@
+#!/usr/bin/env bash
+# 기동 시간 벤치마크: JVM 시작 ~ 첫 업로드 성공(HTTP 200)까지의 시간 측정
+#
+# 사용법:
+#   ./gradlew bootJar
+#   scripts/startup-benchmark.sh [반복 횟수]
+#
+# 환경 변수:
+#   APP_DIR    CDS 레이아웃으로 추출할 디렉터리 (기본: build/startup-bench)
+#   PORT       애플리케이션 포트 (기본: 18080)
+#   DB_URL / DB_USERNAME / DB_PASSWORD  애플리케이션과 동일
+#
+# 측정 모드:
+#   baseline  : 기본 프로필, CDS/AOT 미사용
+#   fast      : fast 프로필 + Spring AOT + AppCDS 아카이브
+set -euo pipefail
+
+RUNS="${1:-3}"
+PORT="${PORT:-18080}"
+APP_DIR="${APP_DIR:-build/startup-bench}"
+JAR="$(ls build/libs/*.jar | grep -v plain | head -n 1)"
+SAMPLE="$(mktemp --suffix=.txt)"
+echo "hello" > "$SAMPLE"
+trap 'rm -f "$SAMPLE"' EXIT
+
+now_ms() { date +%s%3N; }
+
+prepare_cds() {
+    rm -rf "$APP_DIR"
+    java -Djarmode=tools -jar "$JAR" extract --destination "$APP_DIR" > /dev/null
+    java -XX:ArchiveClassesAtExit="$APP_DIR/app.jsa" \
+         -Dspring.context.exit=onRefresh \
+         -Dspring.aot.enabled=true \
+         -Dspring.profiles.active=fast \
+         -Dspring.sql.init.mode=never \
+         -jar "$APP_DIR/app.jar" > /dev/null 2>&1
+}
+
+# $1: 모드 이름, 나머지: java 실행 인자
+measure() {
+    local mode="$1"; shift
+    local start pid elapsed
+    start="$(now_ms)"
+    java -Dserver.port="$PORT" "$@" > "build/startup-bench-$mode.log" 2>&1 &
+    pid=$!
+
+    until curl -sf -o /dev/null -F "files=@$SAMPLE" "http://localhost:$PORT/api/extensions/upload"; do
+        if ! kill -0 "$pid" 2> /dev/null; then
+            echo "[$mode] 애플리케이션이 종료되었습니다. build/startup-bench-$mode.log 확인" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+
+    elapsed=$(( $(now_ms) - start ))
+    kill "$pid"
+    wait "$pid" 2> /dev/null || true
+    echo "$elapsed"
+}
+
+report() {
+    local mode="$1"; shift
+    local total=0 t
+    for i in $(seq 1 "$RUNS"); do
+        t="$(measure "$mode" "$@")"
+        echo "[$mode] run $i: first successful upload after ${t} ms"
+        total=$(( total + t ))
+    done
+    echo "[$mode] average: $(( total / RUNS )) ms"
+}
+
+prepare_cds
+
+report baseline -jar "$JAR"
+report fast -XX:SharedArchiveFile="$APP_DIR/app.jsa" -Dspring.aot.enabled=true \
+            -Dspring.profiles.active=fast -jar "$APP_DIR/app.jar"
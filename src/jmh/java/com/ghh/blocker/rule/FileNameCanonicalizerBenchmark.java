@@ -0,0 +1,53 @@
+package com.ghh.blocker.rule;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 파일명 정규화 + 후보 확장자 판정 비용
+ *
+ *   ./gradlew jmh
+ *
+ * gc 프로파일러의 gc.alloc.rate.norm이 ascii 케이스에서 0 B/op이어야 합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FileNameCanonicalizerBenchmark {
+
+    @Param({"ascii", "double", "evasion"})
+    private String kind;
+
+    private String fileName;
+    private BlockRuleSnapshot rules;
+
+    @Setup
+    public void setUp() {
+        fileName = switch (kind) {
+            case "ascii" -> "quarterly-report-2024-final.pdf";
+            case "double" -> "quarterly.report.2024.final.pdf";
+            default -> "quarterly-report\u202Efdp.\uFF45\uFF58\uFF45::$DATA";
+        };
+        rules = BlockRuleSnapshot.compile(
+                List.of("bat", "cmd", "com", "cpl", "exe", "scr", "js", "ph*", "tar.gz"), List.of(), List.of(), 10000);
+    }
+
+    @Benchmark
+    public CharSequence canonicalize() {
+        return FileNameCanonicalizer.canonicalize(fileName);
+    }
+
+    @Benchmark
+    public String match() {
+        return rules.match(fileName);
+    }
+}
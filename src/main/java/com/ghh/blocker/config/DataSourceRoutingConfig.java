@@ -0,0 +1,68 @@
+package com.ghh.blocker.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅 (app.datasource.routing.enabled=true 일 때만 활성화)
+ *
+ *   @Transactional(readOnly = true) → healthy 레플리카 (라운드로빈)
+ *   쓰기 트랜잭션 / 레플리카 전부 지연·장애 → Primary
+ *
+ * DataSource 빈 구성 자체를 바꾸므로 빈 조건으로 둠 → AOT 실행 시에는 processAot 시점 설정으로 고정
+ * (Docker 이미지는 AOT를 기본으로 켜지 않음)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(DataSourceRoutingProperties properties) {
+        List<DataSource> replicas = properties.replicas().stream()
+                .map(DataSourceRoutingConfig::createReplica)
+                .toList();
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(
+                replicas, properties.lagQuery(), properties.maxReplicaLagMs());
+        monitor.checkAll();
+        return monitor;
+    }
+
+    @Bean
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primary.setPoolName("primary");
+        return primary;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaLagMonitor monitor) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primaryDataSource, monitor));
+    }
+
+    private static DataSource createReplica(DataSourceRoutingProperties.Replica replica) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(replica.url())
+                .username(replica.username())
+                .password(replica.password())
+                .build();
+        dataSource.setPoolName("replica-" + replica.url());
+        dataSource.setMaximumPoolSize(replica.maximumPoolSize());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+}
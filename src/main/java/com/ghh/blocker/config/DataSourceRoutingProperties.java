@@ -0,0 +1,34 @@
+package com.ghh.blocker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅 설정 (app.datasource.routing.*)
+ */
+@ConfigurationProperties(prefix = "app.datasource.routing")
+public record DataSourceRoutingProperties(
+
+        boolean enabled,
+
+        /* 이 값보다 지연된 레플리카는 읽기 대상에서 제외 */
+        @DefaultValue("1000")
+        long maxReplicaLagMs,
+
+        /* 레플리카 지연(ms)을 반환하는 쿼리 (기본: PostgreSQL 스트리밍 복제) */
+        @DefaultValue("SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+                + "ELSE COALESCE(EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())) * 1000, 0) END")
+        String lagQuery,
+
+        @DefaultValue
+        List<Replica> replicas
+) {
+    public record Replica(
+            String url,
+            String username,
+            String password,
+            @DefaultValue("10") int maximumPoolSize
+    ) {}
+}
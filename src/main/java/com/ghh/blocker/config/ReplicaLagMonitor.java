@@ -0,0 +1,118 @@
+package com.ghh.blocker.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 레플리카 복제 지연 감시
+ * - 주기적으로 lagQuery를 실행하여 maxReplicaLagMs 이내인 레플리카만 healthy로 표시
+ * - 연결 실패 / 쿼리 실패 / 지연 초과 → unhealthy (읽기는 Primary로 폴백)
+ */
+@Slf4j
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    private final List<Replica> replicas;
+    private final String lagQuery;
+    private final long maxReplicaLagMs;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public ReplicaLagMonitor(List<DataSource> replicaDataSources, String lagQuery, long maxReplicaLagMs) {
+        this.replicas = replicaDataSources.stream()
+                .map(Replica::new)
+                .toList();
+        this.lagQuery = lagQuery;
+        this.maxReplicaLagMs = maxReplicaLagMs;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.routing.lag-check-interval-ms:5000}")
+    public void checkAll() {
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get(i);
+            try {
+                Number lag = replica.jdbcTemplate.queryForObject(lagQuery, Number.class);
+                long lagMs = lag != null ? lag.longValue() : Long.MAX_VALUE;
+                replica.lagMs = lagMs;
+                updateHealth(i, replica, lagMs <= maxReplicaLagMs);
+            } catch (Exception e) {
+                log.warn("레플리카[{}] 지연 조회 실패: {}", i, e.getMessage());
+                updateHealth(i, replica, false);
+            }
+        }
+    }
+
+    /**
+     * healthy 레플리카 중 하나를 라운드로빈으로 선택, 없으면 null (→ Primary)
+     */
+    DataSource nextHealthyReplica() {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+        int start = Math.floorMod(cursor.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica.dataSource;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 커넥션 획득 실패 시 다음 점검 주기까지 제외
+     */
+    void markDown(DataSource dataSource, Exception cause) {
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get(i);
+            if (replica.dataSource == dataSource) {
+                log.warn("레플리카[{}] 커넥션 실패, Primary로 폴백: {}", i, cause.getMessage());
+                replica.healthy = false;
+            }
+        }
+    }
+
+    public long getLagMs(int index) {
+        return replicas.get(index).lagMs;
+    }
+
+    public boolean isHealthy(int index) {
+        return replicas.get(index).healthy;
+    }
+
+    /**
+     * 레플리카 커넥션 풀 종료 (빈 소멸 시 호출)
+     */
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private void updateHealth(int index, Replica replica, boolean healthy) {
+        if (replica.healthy != healthy) {
+            log.info("레플리카[{}] 상태 변경: {} (지연 {}ms)", index, healthy ? "UP" : "DOWN", replica.lagMs);
+        }
+        replica.healthy = healthy;
+    }
+
+    private static final class Replica {
+        private final DataSource dataSource;
+        private final JdbcTemplate jdbcTemplate;
+        private volatile boolean healthy;
+        private volatile long lagMs = -1;
+
+        private Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+            this.jdbcTemplate.setQueryTimeout(2);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.ghh.blocker.config;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 읽기 전용 트랜잭션 → 레플리카, 그 외(쓰기 / 트랜잭션 없음) → Primary
+ *
+ * 트랜잭션의 readOnly 플래그는 커넥션 획득 이후에 동기화되므로
+ * 반드시 LazyConnectionDataSourceProxy로 감싸서 첫 쿼리 시점에 라우팅해야 합니다.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final ReplicaLagMonitor monitor;
+
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaLagMonitor monitor) {
+        this.primary = primary;
+        this.monitor = monitor;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        DataSource replica = determineReplica();
+        if (replica == null) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.getConnection();
+        } catch (SQLException e) {
+            monitor.markDown(replica, e);
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        DataSource replica = determineReplica();
+        if (replica == null) {
+            return primary.getConnection(username, password);
+        }
+        try {
+            return replica.getConnection(username, password);
+        } catch (SQLException e) {
+            monitor.markDown(replica, e);
+            return primary.getConnection(username, password);
+        }
+    }
+
+    private DataSource determineReplica() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return null;
+        }
+        return monitor.nextHealthyReplica();
+    }
+}
@@ -0,0 +1,106 @@
+package com.ghh.blocker.controller;
+
+import com.ghh.blocker.dto.ApiResponse;
+import com.ghh.blocker.dto.ChunkedUploadDto;
+import com.ghh.blocker.exception.UploadSessionException;
+import com.ghh.blocker.service.ChunkedUploadService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 재개 가능한 분할 업로드 API (tus 1.0 core 방식)
+ *
+ *   POST   /api/extensions/uploads        Upload-Length, Upload-Metadata(filename) → 201 + Location
+ *   PATCH  /api/extensions/uploads/{id}   Upload-Offset + 청크 본문 → 204 + Upload-Offset
+ *   HEAD   /api/extensions/uploads/{id}   현재 Upload-Offset 조회 (재개 시작점)
+ *   DELETE /api/extensions/uploads/{id}   업로드 취소
+ */
+@RestController
+@RequestMapping("/api/extensions/uploads")
+@RequiredArgsConstructor
+public class ChunkedUploadController {
+
+    private static final String TUS_RESUMABLE = "Tus-Resumable";
+    private static final String TUS_VERSION = "1.0.0";
+    private static final String UPLOAD_LENGTH = "Upload-Length";
+    private static final String UPLOAD_OFFSET = "Upload-Offset";
+    private static final String UPLOAD_METADATA = "Upload-Metadata";
+
+    private final ChunkedUploadService chunkedUploadService;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<ChunkedUploadDto.Status>> create(
+            @RequestHeader(UPLOAD_LENGTH) long length,
+            @RequestHeader(value = UPLOAD_METADATA, required = false) String metadata) {
+        var result = chunkedUploadService.create(parseFileName(metadata), length);
+        return ResponseEntity.created(URI.create("/api/extensions/uploads/" + result.id()))
+                .header(TUS_RESUMABLE, TUS_VERSION)
+                .header(UPLOAD_OFFSET, String.valueOf(result.offset()))
+                .body(ApiResponse.ok("업로드 세션 생성", result));
+    }
+
+    @PatchMapping("/{id}")
+    public ResponseEntity<Void> append(
+            @PathVariable String id,
+            @RequestHeader(UPLOAD_OFFSET) long offset,
+            HttpServletRequest request) throws IOException {
+        var result = chunkedUploadService.append(id, offset, request.getContentLengthLong(), request.getInputStream());
+        return ResponseEntity.noContent()
+                .header(TUS_RESUMABLE, TUS_VERSION)
+                .header(UPLOAD_OFFSET, String.valueOf(result.offset()))
+                .build();
+    }
+
+    @RequestMapping(value = "/{id}", method = RequestMethod.HEAD)
+    public ResponseEntity<Void> head(@PathVariable String id) {
+        var result = chunkedUploadService.status(id);
+        return ResponseEntity.ok()
+                .header(TUS_RESUMABLE, TUS_VERSION)
+                .header(UPLOAD_OFFSET, String.valueOf(result.offset()))
+                .header(UPLOAD_LENGTH, String.valueOf(result.length()))
+                .header(HttpHeaders.CACHE_CONTROL, "no-store")
+                .build();
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiResponse<ChunkedUploadDto.Status>> status(@PathVariable String id) {
+        return ResponseEntity.ok(ApiResponse.ok("조회 성공", chunkedUploadService.status(id)));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> cancel(@PathVariable String id) {
+        chunkedUploadService.cancel(id);
+        return ResponseEntity.noContent()
+                .header(TUS_RESUMABLE, TUS_VERSION)
+                .build();
+    }
+
+    /**
+     * Upload-Metadata: "filename <base64>, key <base64>, ..."
+     */
+    private static String parseFileName(String metadata) {
+        if (metadata == null) {
+            throw new UploadSessionException(HttpStatus.BAD_REQUEST, "Upload-Metadata에 filename이 없습니다.");
+        }
+        for (String pair : metadata.split(",")) {
+            String[] kv = pair.trim().split(" ", 2);
+            if (kv.length == 2 && kv[0].equals("filename")) {
+                try {
+                    return new String(Base64.getDecoder().decode(kv[1].trim()), StandardCharsets.UTF_8);
+                } catch (IllegalArgumentException e) {
+                    throw new UploadSessionException(HttpStatus.BAD_REQUEST, "filename이 올바른 Base64가 아닙니다.");
+                }
+            }
+        }
+        throw new UploadSessionException(HttpStatus.BAD_REQUEST, "Upload-Metadata에 filename이 없습니다.");
+    }
+}
@@ -3,14 +3,34 @@ package com.ghh.blocker.controller;
 import com.ghh.blocker.dto.ApiResponse;
 import com.ghh.blocker.dto.ExtensionDto;
 import com.ghh.blocker.dto.FileUploadDto;
+import com.ghh.blocker.dto.MimeRuleDto;
+import com.ghh.blocker.dto.RuleChangeDto;
+import com.ghh.blocker.dto.UploadJobDto;
+import com.ghh.blocker.dto.UploadStatsDto;
+import com.ghh.blocker.inspection.HashBlocklistCache;
+import com.ghh.blocker.rule.BlockRuleCache;
+import com.ghh.blocker.rule.RuleBundle;
+import com.ghh.blocker.rule.RuleBundleCache;
 import com.ghh.blocker.service.ExtensionService;
 import com.ghh.blocker.service.FileUploadService;
+import com.ghh.blocker.service.MimeRuleService;
+import com.ghh.blocker.service.RuleChangeFeed;
+import com.ghh.blocker.service.UploadJobService;
+import com.ghh.blocker.stats.UploadStats;
+import io.micrometer.observation.annotation.Observed;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.net.URI;
 import java.util.List;
 
 @RestController
@@ -20,6 +40,13 @@ public class ExtensionApiController {
 
     private final ExtensionService extensionService;
     private final FileUploadService fileUploadService;
+    private final MimeRuleService mimeRuleService;
+    private final UploadJobService uploadJobService;
+    private final HashBlocklistCache hashBlocklistCache;
+    private final RuleChangeFeed ruleChangeFeed;
+    private final RuleBundleCache ruleBundleCache;
+    private final UploadStats uploadStats;
+    private final BlockRuleCache blockRuleCache;
 
     // ===== 고정 확장자 =====
 
@@ -42,6 +69,27 @@ public class ExtensionApiController {
         return ResponseEntity.ok(ApiResponse.ok(msg, count));
     }
 
+    @PatchMapping("/fixed/batch")
+    public ResponseEntity<ApiResponse<Integer>> batchUpdateFixed(
+            @Valid @RequestBody ExtensionDto.FixedBatchUpdateRequest request) {
+        int count = extensionService.batchUpdateFixed(request.extensions());
+        return ResponseEntity.ok(ApiResponse.ok("일괄 변경 완료 (" + count + "개)", count));
+    }
+
+    // ===== 내용 규칙 =====
+
+    @GetMapping("/content-rules")
+    public ResponseEntity<ApiResponse<List<ExtensionDto.ContentRuleResponse>>> getContentRules() {
+        return ResponseEntity.ok(ApiResponse.ok("조회 성공", extensionService.getContentRules()));
+    }
+
+    @PatchMapping("/content-rules")
+    public ResponseEntity<ApiResponse<ExtensionDto.ContentRuleResponse>> updateContentRule(
+            @Valid @RequestBody ExtensionDto.ContentRuleUpdateRequest request) {
+        var result = extensionService.updateContentRule(request.rule(), request.blocked());
+        return ResponseEntity.ok(ApiResponse.ok("업데이트 성공", result));
+    }
+
     // ===== 커스텀 확장자 =====
 
     @GetMapping("/custom")
@@ -62,12 +110,102 @@ public class ExtensionApiController {
         return ResponseEntity.ok(ApiResponse.ok("삭제 완료"));
     }
 
+    /**
+     * 선택/접두사 일괄 삭제 - DELETE 1회, 규칙 버전 1회 증가 (삭제된 확장자 반환)
+     */
+    @PostMapping("/custom/bulk-delete")
+    public ResponseEntity<ApiResponse<List<ExtensionDto.CustomResponse>>> bulkDeleteCustom(
+            @Valid @RequestBody ExtensionDto.CustomBulkDeleteRequest request) {
+        var result = request.prefix() != null && !request.prefix().isEmpty()
+                ? extensionService.deleteCustomExtensionsByPrefix(request.prefix())
+                : extensionService.deleteCustomExtensions(request.ids());
+        return ResponseEntity.ok(ApiResponse.ok(result.size() + "개 확장자가 삭제되었습니다.", result));
+    }
+
     @DeleteMapping("/custom")
     public ResponseEntity<ApiResponse<Integer>> deleteAllCustom() {
         int count = extensionService.deleteAllCustomExtensions();
         return ResponseEntity.ok(ApiResponse.ok("커스텀 확장자 " + count + "개 삭제 완료", count));
     }
 
+    // ===== MIME 규칙 =====
+
+    @GetMapping("/mime-rules")
+    public ResponseEntity<ApiResponse<List<MimeRuleDto.Response>>> getMimeRules() {
+        return ResponseEntity.ok(ApiResponse.ok("조회 성공", mimeRuleService.getMimeRules()));
+    }
+
+    @PostMapping("/mime-rules")
+    public ResponseEntity<ApiResponse<MimeRuleDto.Response>> addMimeRule(
+            @Valid @RequestBody MimeRuleDto.AddRequest request) {
+        var result = mimeRuleService.addMimeRule(request.mimeType(), request.extension());
+        return ResponseEntity.ok(ApiResponse.ok("MIME 규칙이 추가되었습니다.", result));
+    }
+
+    @DeleteMapping("/mime-rules/{id}")
+    public ResponseEntity<ApiResponse<Void>> deleteMimeRule(@PathVariable Long id) {
+        mimeRuleService.deleteMimeRule(id);
+        return ResponseEntity.ok(ApiResponse.ok("삭제 완료"));
+    }
+
+    // ===== 규칙 변경 피드 (원격 적용 지점 동기화) =====
+
+    /**
+     * since 이후 변경분 (since 생략 시 스냅샷), waitMs > 0이면 변경이 생길 때까지 대기 (롱폴링)
+     */
+    @GetMapping("/changes")
+    public DeferredResult<ApiResponse<RuleChangeDto.Response>> getChanges(
+            @RequestParam(defaultValue = "-1") long since,
+            @RequestParam(defaultValue = "0") long waitMs) {
+        return ruleChangeFeed.await(since, waitMs);
+    }
+
+    /**
+     * SSE - 재연결 시 브라우저가 보내는 Last-Event-ID(= 마지막 버전)부터 이어서 전송
+     */
+    @GetMapping(value = "/changes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @RequestParam(required = false) Long since,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return ruleChangeFeed.stream(lastEventId != null ? lastEventId : since != null ? since : -1);
+    }
+
+    // ===== 규칙 번들 (메모리 매핑 적재용 바이너리) =====
+
+    /**
+     * 현재 규칙을 번들로 내려받음 - ETag = 규칙 버전 (If-None-Match가 같으면 304)
+     */
+    @GetMapping("/rule-bundle")
+    public ResponseEntity<byte[]> exportRuleBundle(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        byte[] bundle = extensionService.exportRuleBundle();
+        long version = RuleBundle.ruleVersionOf(bundle);
+        String etag = "\"" + version + "\"";
+        if (etag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("rule-bundle-" + version + ".bin").build().toString())
+                .body(bundle);
+    }
+
+    @PostMapping("/rule-bundle/reload")
+    public ResponseEntity<ApiResponse<Long>> reloadRuleBundle() {
+        long version = ruleBundleCache.reload();
+        return ResponseEntity.ok(ApiResponse.ok("규칙 번들(버전 " + version + ")을 불러왔습니다.", version));
+    }
+
+    // ===== 악성 파일 해시 목록 =====
+
+    @PostMapping("/hash-blocklist/reload")
+    public ResponseEntity<ApiResponse<Long>> reloadHashBlocklist() {
+        long count = hashBlocklistCache.reload();
+        return ResponseEntity.ok(ApiResponse.ok("해시 목록 " + count + "개를 불러왔습니다.", count));
+    }
+
     // ===== 초기화 =====
 
     @PostMapping("/reset")
@@ -87,9 +225,41 @@ public class ExtensionApiController {
     // ===== 파일 업로드 =====
 
     @PostMapping("/upload")
+    @Observed(name = "blocker.upload.request", contextualName = "upload")
     public ResponseEntity<ApiResponse<FileUploadDto.Response>> uploadFiles(
             @RequestParam("files") List<MultipartFile> files) {
         var result = fileUploadService.uploadFiles(files);
         return ResponseEntity.ok(ApiResponse.ok("파일 업로드 성공!", result));
     }
+
+    // ===== 비동기 업로드 검증 (프록시 타임아웃보다 오래 걸리는 대용량 업로드) =====
+
+    @PostMapping(value = "/upload", params = "async=true")
+    @Observed(name = "blocker.upload.request", contextualName = "upload-async")
+    public ResponseEntity<ApiResponse<UploadJobDto.Status>> submitUploadJob(
+            @RequestParam("files") List<MultipartFile> files) {
+        var result = uploadJobService.submit(files);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/extensions/upload-jobs/" + result.id()))
+                .body(ApiResponse.ok("업로드 검증 작업이 접수되었습니다.", result));
+    }
+
+    @GetMapping("/upload-jobs/{id}")
+    public ResponseEntity<ApiResponse<UploadJobDto.Status>> getUploadJob(@PathVariable String id) {
+        return ResponseEntity.ok(ApiResponse.ok("조회 성공", uploadJobService.status(id)));
+    }
+
+    @GetMapping(value = "/upload-jobs/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter watchUploadJob(@PathVariable String id) {
+        return uploadJobService.subscribe(id);
+    }
+
+    // ===== 업로드 통계 (최근 window, 메모리 집계) =====
+
+    @GetMapping("/stats/uploads")
+    public ResponseEntity<ApiResponse<UploadStatsDto.Response>> getUploadStats(
+            @RequestParam(defaultValue = "10") int top) {
+        var result = uploadStats.snapshot(top, blockRuleCache.current());
+        return ResponseEntity.ok(ApiResponse.ok("조회 성공", result));
+    }
 }
@@ -5,6 +5,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Table(name = "blocked_extension", uniqueConstraints = {
@@ -25,6 +26,11 @@ public class BlockedExtension extends BaseTimeEntity {
     @Column(nullable = false, length = 10)
     private ExtensionType type;
 
+    @Enumerated(EnumType.STRING)
+    @ColumnDefault("'EXACT'")
+    @Column(name = "match_type", nullable = false, length = 10)
+    private MatchType matchType;
+
     @Column(nullable = false)
     private boolean blocked;
 
@@ -38,9 +44,10 @@ public class BlockedExtension extends BaseTimeEntity {
     private Long version;
 
     @Builder
-    public BlockedExtension(String extension, ExtensionType type, boolean blocked) {
+    public BlockedExtension(String extension, ExtensionType type, MatchType matchType, boolean blocked) {
         this.extension = extension.toLowerCase().trim();
         this.type = type;
+        this.matchType = matchType != null ? matchType : MatchType.EXACT;
         this.blocked = blocked;
     }
 
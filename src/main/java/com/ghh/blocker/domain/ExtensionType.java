@@ -2,5 +2,7 @@ package com.ghh.blocker.domain;
 
 public enum ExtensionType {
     FIXED,
-    CUSTOM
+    CUSTOM,
+    /** 파일명이 아닌 내용으로 판정하는 규칙 (예: vba-macro) - 확장자 DFA에는 포함되지 않음 */
+    CONTENT
 }
@@ -0,0 +1,11 @@
+package com.ghh.blocker.domain;
+
+/**
+ * 확장자 규칙 일치 방식
+ * - EXACT: 마지막 확장자가 정확히 일치 (exe)
+ * - GLOB:  와일드카드(*, ?) 또는 복합 확장자 (ph*, tar.gz, doc*x)
+ */
+public enum MatchType {
+    EXACT,
+    GLOB
+}
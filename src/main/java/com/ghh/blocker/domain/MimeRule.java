@@ -0,0 +1,36 @@
+package com.ghh.blocker.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * MIME Type → 확장자 매핑
+ * - 감지된 MIME이 차단 중인 확장자에 매핑되면 위변조로 판정 (.exe를 .jpg로 바꾼 경우 등)
+ */
+@Entity
+@Table(name = "mime_rule", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"mime_type", "extension"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MimeRule extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "mime_type", nullable = false, length = 100)
+    private String mimeType;
+
+    @Column(nullable = false, length = 20)
+    private String extension;
+
+    @Builder
+    public MimeRule(String mimeType, String extension) {
+        this.mimeType = mimeType.toLowerCase().trim();
+        this.extension = extension.toLowerCase().trim();
+    }
+}
@@ -0,0 +1,61 @@
+package com.ghh.blocker.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * blocked_extension 변경 기록 (규칙 버전 1개 = 변경된 확장자마다 1행)
+ * - 행은 변경 직후의 상태를 담음 (삭제면 deleted = true) → 같은 확장자는 마지막 행만 적용하면 됨
+ */
+@Entity
+@Table(name = "rule_change_log", indexes = {
+        @Index(name = "idx_rule_change_log_version", columnList = "version")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RuleChangeLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private long version;
+
+    @Column(nullable = false, length = 20)
+    private String operation;
+
+    @Column(nullable = false, length = 20)
+    private String extension;
+
+    /** 삭제된 확장자면 null */
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10)
+    private ExtensionType type;
+
+    @Column(nullable = false)
+    private boolean blocked;
+
+    @Column(nullable = false)
+    private boolean deleted;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public RuleChangeLog(long version, String operation, String extension, ExtensionType type,
+                         boolean blocked, boolean deleted) {
+        this.version = version;
+        this.operation = operation;
+        this.extension = extension;
+        this.type = type;
+        this.blocked = blocked;
+        this.deleted = deleted;
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,29 @@
+package com.ghh.blocker.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 전역 규칙 버전 (행 1개)
+ * - 규칙 쓰기 트랜잭션마다 UPDATE로 1 증가 → 행 잠금이 커밋까지 유지되어
+ *   여러 인스턴스의 쓰기가 직렬화되고 버전 순서 = 커밋 순서가 됨
+ */
+@Entity
+@Table(name = "rule_version")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RuleVersion {
+
+    public static final int ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(nullable = false)
+    private long version;
+}
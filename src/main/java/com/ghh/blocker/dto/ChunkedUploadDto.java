@@ -0,0 +1,18 @@
+package com.ghh.blocker.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+public class ChunkedUploadDto {
+
+    private ChunkedUploadDto() {}
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Status(
+            String id,
+            String fileName,
+            long offset,
+            long length,
+            boolean complete,
+            String contentId
+    ) {}
+}
@@ -1,13 +1,18 @@
 package com.ghh.blocker.dto;
 
 import com.ghh.blocker.domain.BlockedExtension;
+import com.ghh.blocker.domain.MatchType;
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
 
 public class ExtensionDto {
 
@@ -28,14 +33,50 @@ public class ExtensionDto {
             boolean blocked
     ) {}
 
+    /**
+     * extensions: 고정 확장자 → 차단 여부 (예: {"exe": true, "bat": false})
+     */
+    public record FixedBatchUpdateRequest(
+
+            @NotEmpty(message = "변경할 확장자를 입력해주세요.")
+            Map<String, Boolean> extensions
+    ) {}
+
     public record CustomAddRequest(
 
             @NotBlank(message = "확장자를 입력해주세요.")
             @Size(max = 500, message = "입력 길이가 너무 깁니다.")
-            @Pattern(regexp = "^[a-z0-9,\\s]+$", message = "영문 소문자, 숫자, 쉼표만 허용됩니다.")
+            @Pattern(regexp = "^[a-z0-9*?.,\\s]+$", message = "영문 소문자, 숫자, 쉼표, 패턴 문자(* ? .)만 허용됩니다.")
             String extensions
     ) {}
 
+    /**
+     * 커스텀 확장자 일괄 삭제 - ids(선택 삭제) 또는 prefix(접두사 일치) 중 하나만 지정
+     */
+    public record CustomBulkDeleteRequest(
+
+            @Size(max = 1000, message = "한 번에 최대 1000개까지 삭제할 수 있습니다.")
+            List<Long> ids,
+
+            @Size(max = 20, message = "접두사는 최대 20자까지 가능합니다.")
+            @Pattern(regexp = "^[a-z0-9*?.]+$", message = "접두사는 영문 소문자, 숫자, 패턴 문자(* ? .)만 허용됩니다.")
+            String prefix
+    ) {
+        @AssertTrue(message = "ids와 prefix 중 하나만 지정해주세요.")
+        public boolean isSingleTarget() {
+            return (ids != null && !ids.isEmpty()) != (prefix != null && !prefix.isEmpty());
+        }
+    }
+
+    public record ContentRuleUpdateRequest(
+
+            @NotBlank(message = "규칙 이름을 입력해주세요.")
+            @Size(max = 20, message = "규칙 이름은 최대 20자까지 가능합니다.")
+            String rule,
+
+            boolean blocked
+    ) {}
+
     // ===== Response =====
 
     public record FixedResponse(
@@ -47,15 +88,26 @@ public class ExtensionDto {
         }
     }
 
+    public record ContentRuleResponse(
+            String rule,
+            boolean blocked
+    ) {
+        public static ContentRuleResponse from(BlockedExtension entity) {
+            return new ContentRuleResponse(entity.getExtension(), entity.isBlocked());
+        }
+    }
+
     public record CustomResponse(
             Long id,
             String extension,
+            MatchType matchType,
             String createdAt
     ) {
         public static CustomResponse from(BlockedExtension entity) {
             return new CustomResponse(
                     entity.getId(),
                     entity.getExtension(),
+                    entity.getMatchType(),
                     formatDateTime(entity.getCreatedAt())
             );
         }
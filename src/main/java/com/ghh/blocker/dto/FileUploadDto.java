@@ -1,14 +1,21 @@
 package com.ghh.blocker.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 
 public class FileUploadDto {
 
     private FileUploadDto() {}
 
+    /**
+     * contentIds: 저장소 사용 시 acceptedFileNames와 같은 순서의 SHA-256 콘텐츠 ID (미사용 시 생략)
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public record Response(
             int totalFiles,
             int acceptedFiles,
-            List<String> acceptedFileNames
+            List<String> acceptedFileNames,
+            List<String> contentIds
     ) {}
 }
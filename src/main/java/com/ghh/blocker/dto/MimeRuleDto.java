@@ -0,0 +1,42 @@
+package com.ghh.blocker.dto;
+
+import com.ghh.blocker.domain.MimeRule;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+public class MimeRuleDto {
+
+    private MimeRuleDto() {}
+
+    // ===== Request =====
+
+    public record AddRequest(
+
+            @NotBlank(message = "MIME Type을 입력해주세요.")
+            @Size(max = 100, message = "MIME Type은 최대 100자까지 가능합니다.")
+            @Pattern(regexp = "^[a-z0-9][a-z0-9.+-]*/[a-z0-9][a-z0-9.+-]*$", message = "MIME Type 형식이 올바르지 않습니다. (예: application/x-msdownload)")
+            String mimeType,
+
+            @NotBlank(message = "확장자를 입력해주세요.")
+            @Size(max = 20, message = "확장자는 최대 20자까지 가능합니다.")
+            @Pattern(regexp = "^[a-z0-9]+$", message = "영문 소문자와 숫자만 허용됩니다.")
+            String extension
+    ) {}
+
+    // ===== Response =====
+
+    /**
+     * @param active 매핑된 확장자가 현재 차단 중이라 이 규칙이 판정에 쓰이는지
+     */
+    public record Response(
+            Long id,
+            String mimeType,
+            String extension,
+            boolean active
+    ) {
+        public static Response from(MimeRule entity, boolean active) {
+            return new Response(entity.getId(), entity.getMimeType(), entity.getExtension(), active);
+        }
+    }
+}
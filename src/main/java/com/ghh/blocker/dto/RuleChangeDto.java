@@ -0,0 +1,43 @@
+package com.ghh.blocker.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.ghh.blocker.domain.BlockedExtension;
+import com.ghh.blocker.domain.ExtensionType;
+import com.ghh.blocker.domain.RuleChangeLog;
+
+import java.util.List;
+
+public class RuleChangeDto {
+
+    private RuleChangeDto() {}
+
+    /**
+     * 확장자 1개의 변경 후 상태 (deleted면 type 없음)
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Change(
+            String extension,
+            ExtensionType type,
+            boolean blocked,
+            boolean deleted
+    ) {
+        public static Change from(RuleChangeLog log) {
+            return new Change(log.getExtension(), log.getType(), log.isBlocked(), log.isDeleted());
+        }
+
+        public static Change from(BlockedExtension entity) {
+            return new Change(entity.getExtension(), entity.getType(), entity.isBlocked(), false);
+        }
+    }
+
+    /**
+     * @param version  이 응답을 적용한 뒤의 규칙 버전 (다음 요청의 since)
+     * @param snapshot true면 changes가 전체 목록 → 로컬 상태를 교체
+     * @param changes  since 이후 변경 (확장자마다 마지막 상태 1건으로 압축)
+     */
+    public record Response(
+            long version,
+            boolean snapshot,
+            List<Change> changes
+    ) {}
+}
@@ -0,0 +1,36 @@
+package com.ghh.blocker.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
+
+public class UploadJobDto {
+
+    private UploadJobDto() {}
+
+    public enum State {
+        QUEUED,
+        RUNNING,
+        /** 전체 파일 통과 (result 포함) */
+        ACCEPTED,
+        /** 차단된 파일 포함 → 전체 거부 (message에 사유) */
+        BLOCKED,
+        /** 검사 중 오류 */
+        FAILED;
+
+        public boolean isFinished() {
+            return this == ACCEPTED || this == BLOCKED || this == FAILED;
+        }
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Status(
+            String id,
+            State state,
+            int totalFiles,
+            String message,
+            FileUploadDto.Response result,
+            Instant submittedAt,
+            Instant finishedAt
+    ) {}
+}
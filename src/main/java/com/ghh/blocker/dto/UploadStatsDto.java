@@ -0,0 +1,46 @@
+package com.ghh.blocker.dto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+public class UploadStatsDto {
+
+    private UploadStatsDto() {}
+
+    /**
+     * @param count 추정 건수 (실제 이상, 실제와의 차이 ≤ Ranking.maxOverestimate)
+     */
+    public record ExtensionCount(
+            String extension,
+            long count
+    ) {}
+
+    /**
+     * @param total           집계 대상 파일 수
+     * @param maxOverestimate 추정 건수의 과대 추정 한도 (높은 확률로)
+     * @param extensions      추정 건수 내림차순 (확장자 없는 파일은 "")
+     */
+    public record Ranking(
+            long total,
+            long maxOverestimate,
+            List<ExtensionCount> extensions
+    ) {}
+
+    /**
+     * @param since          집계 시작 시각 (가장 오래된 버킷의 시작)
+     * @param uploads        판정한 파일 수
+     * @param blocked        차단한 파일 수
+     * @param blockedByStage 검사 단계별 차단 수 (extension, content, ...)
+     * @param topBlocked     차단이 많은 확장자
+     * @param topUnblocked   현재 규칙으로 차단하지 않는 확장자 중 업로드가 많은 순
+     */
+    public record Response(
+            Instant since,
+            long uploads,
+            long blocked,
+            Map<String, Long> blockedByStage,
+            Ranking topBlocked,
+            Ranking topUnblocked
+    ) {}
+}
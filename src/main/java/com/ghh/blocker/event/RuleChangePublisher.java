@@ -0,0 +1,79 @@
+package com.ghh.blocker.event;
+
+import com.ghh.blocker.domain.BlockedExtension;
+import com.ghh.blocker.domain.RuleChangeLog;
+import com.ghh.blocker.repository.BlockedExtensionRepository;
+import com.ghh.blocker.repository.RuleChangeLogRepository;
+import com.ghh.blocker.repository.RuleVersionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 규칙 변경 이벤트 발행 + 버전 관리 (확장자 규칙, MIME 규칙 공용)
+ * - 쓰기 트랜잭션 안에서 호출 → 리스너는 커밋 이후 실행
+ * - 버전은 DB 행(rule_version) 하나로 관리 → 모든 인스턴스에서 단조 증가, 커밋 순서와 일치
+ * - 확장자 규칙 변경은 변경된 확장자의 현재 상태를 rule_change_log에 같은 트랜잭션으로 기록
+ *   (원격 적용 지점은 RuleChangeFeed로 버전 이후 변경분만 받아감)
+ */
+@Component
+@RequiredArgsConstructor
+public class RuleChangePublisher {
+
+    /** blocked_extension을 바꾸지 않는 연산 (버전만 증가) */
+    private static final Set<RuleChangedEvent.Operation> NOT_LOGGED =
+            EnumSet.of(RuleChangedEvent.Operation.MIME_ADD, RuleChangedEvent.Operation.MIME_DELETE);
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final RuleVersionRepository versionRepository;
+    private final RuleChangeLogRepository changeLogRepository;
+    private final BlockedExtensionRepository extensionRepository;
+
+    /**
+     * 규칙 쓰기 트랜잭션 시작 시 호출 - 인스턴스 간 쓰기 직렬화 (publish 전의 조회/검증까지 포함)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lock() {
+        versionRepository.lock();
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(RuleChangedEvent.Operation operation, List<String> extensions) {
+        versionRepository.increment();
+        long version = versionRepository.findCurrent().orElseThrow();
+
+        if (!NOT_LOGGED.contains(operation) && !extensions.isEmpty()) {
+            Map<String, BlockedExtension> current = extensionRepository.findByExtensionIn(extensions).stream()
+                    .collect(Collectors.toMap(BlockedExtension::getExtension, Function.identity()));
+            changeLogRepository.saveAll(extensions.stream()
+                    .distinct()
+                    .map(ext -> {
+                        BlockedExtension entity = current.get(ext);
+                        return RuleChangeLog.builder()
+                                .version(version)
+                                .operation(operation.name())
+                                .extension(ext)
+                                .type(entity == null ? null : entity.getType())
+                                .blocked(entity != null && entity.isBlocked())
+                                .deleted(entity == null)
+                                .build();
+                    })
+                    .toList());
+        }
+
+        eventPublisher.publishEvent(new RuleChangedEvent(version, operation, extensions));
+    }
+
+    public long getRuleVersion() {
+        return versionRepository.findCurrent().orElse(0L);
+    }
+}
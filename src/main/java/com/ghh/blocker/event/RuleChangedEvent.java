@@ -0,0 +1,32 @@
+package com.ghh.blocker.event;
+
+import java.util.List;
+
+/**
+ * 차단 규칙 변경 이벤트 (ExtensionService / MimeRuleService 쓰기 연산마다 1회 발행)
+ * - 리스너는 @TransactionalEventListener(AFTER_COMMIT)로 커밋 이후에 처리
+ *
+ * @param version    전역 규칙 버전 (DB rule_version, 모든 인스턴스에서 단조 증가)
+ * @param operation  변경 종류
+ * @param extensions 변경된 확장자 (일괄 연산은 대상 전체, MIME 규칙이면 매핑된 확장자)
+ */
+public record RuleChangedEvent(
+        long version,
+        Operation operation,
+        List<String> extensions
+) {
+    public enum Operation {
+        FIXED_UPDATE,
+        FIXED_BULK_UPDATE,
+        FIXED_BATCH_UPDATE,
+        CONTENT_UPDATE,
+        CUSTOM_ADD,
+        CUSTOM_DELETE,
+        CUSTOM_BULK_DELETE,
+        CUSTOM_DELETE_ALL,
+        RESET,
+        TEST_DATA,
+        MIME_ADD,
+        MIME_DELETE
+    }
+}
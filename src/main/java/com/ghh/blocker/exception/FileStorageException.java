@@ -0,0 +1,7 @@
+package com.ghh.blocker.exception;
+
+public class FileStorageException extends RuntimeException {
+    public FileStorageException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
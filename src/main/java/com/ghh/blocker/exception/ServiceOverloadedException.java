@@ -0,0 +1,7 @@
+package com.ghh.blocker.exception;
+
+public class ServiceOverloadedException extends RuntimeException {
+    public ServiceOverloadedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,18 @@
+package com.ghh.blocker.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 분할 업로드 세션 / 비동기 검증 작업 오류 (없음/만료 404, 오프셋 불일치 409 등)
+ */
+@Getter
+public class UploadSessionException extends RuntimeException {
+
+    private final HttpStatus status;
+
+    public UploadSessionException(HttpStatus status, String message) {
+        super(message);
+        this.status = status;
+    }
+}
@@ -0,0 +1,89 @@
+package com.ghh.blocker.grpc;
+
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * gRPC 서버 기동/종료 - 웹 서버와 별도 포트 (app.grpc.port, 0이면 임의 포트)
+ *
+ * app.grpc.enabled는 빈 조건이 아니라 start()에서 확인
+ * → AOT 실행(빈 조건이 processAot 시점에 고정)에서도 실행 시 설정을 따름
+ */
+@Slf4j
+@Component
+public class GrpcServerLifecycle implements SmartLifecycle {
+
+    private final VerdictGrpcService verdictGrpcService;
+    private final boolean enabled;
+    private final int port;
+    private final long shutdownGraceMillis;
+
+    private volatile Server server;
+
+    public GrpcServerLifecycle(VerdictGrpcService verdictGrpcService,
+                               @Value("${app.grpc.enabled:false}") boolean enabled,
+                               @Value("${app.grpc.port:9090}") int port,
+                               @Value("${app.grpc.shutdown-grace-ms:5000}") long shutdownGraceMillis) {
+        this.verdictGrpcService = verdictGrpcService;
+        this.enabled = enabled;
+        this.port = port;
+        this.shutdownGraceMillis = shutdownGraceMillis;
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            log.debug("gRPC 서버 비활성화 (app.grpc.enabled=false)");
+            return;
+        }
+        try {
+            server = ServerBuilder.forPort(port)
+                    .addService(verdictGrpcService)
+                    .build()
+                    .start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("gRPC 서버 기동 실패 (port " + port + ")", e);
+        }
+        log.info("gRPC 서버 기동: port {}", server.getPort());
+    }
+
+    @Override
+    public void stop() {
+        Server current = server;
+        if (current == null) {
+            return;
+        }
+        current.shutdown();
+        try {
+            if (!current.awaitTermination(shutdownGraceMillis, TimeUnit.MILLISECONDS)) {
+                current.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            current.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        server = null;
+        log.info("gRPC 서버 종료");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * 실제 바인딩된 포트 (port 0 설정 시 테스트에서 조회)
+     */
+    public int getPort() {
+        Server current = server;
+        return current != null ? current.getPort() : -1;
+    }
+}
@@ -0,0 +1,264 @@
+package com.ghh.blocker.grpc;
+
+import com.ghh.blocker.domain.ExtensionType;
+import com.ghh.blocker.dto.RuleChangeDto;
+import com.ghh.blocker.event.RuleChangedEvent;
+import com.ghh.blocker.exception.ServiceOverloadedException;
+import com.ghh.blocker.grpc.v1.ContentChunk;
+import com.ghh.blocker.grpc.v1.FilenameRequest;
+import com.ghh.blocker.grpc.v1.RuleChange;
+import com.ghh.blocker.grpc.v1.Verdict;
+import com.ghh.blocker.grpc.v1.VerdictServiceGrpc;
+import com.ghh.blocker.grpc.v1.WatchRulesRequest;
+import com.ghh.blocker.inspection.RandomAccessSource;
+import com.ghh.blocker.rule.BlockRuleCache;
+import com.ghh.blocker.rule.BlockRuleSnapshot;
+import com.ghh.blocker.service.FileUploadService;
+import com.ghh.blocker.service.RuleChangeFeed;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * gRPC 판정 서비스 - REST와 동일하게 BlockRuleCache 규칙 + FileUploadService 검사 사용
+ *
+ * WatchRules 메시지의 버전과 차단 목록은 RuleChangeFeed 스냅샷 하나에서 꺼냄 (같은 트랜잭션에서 읽은 값)
+ * 변경 전송은 전용 스레드(grpc-rule-notify)에서 → 관리자 쓰기 스레드는 조회/전송을 기다리지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VerdictGrpcService extends VerdictServiceGrpc.VerdictServiceImplBase {
+
+    private final FileUploadService fileUploadService;
+    private final BlockRuleCache blockRuleCache;
+    private final RuleChangeFeed ruleChangeFeed;
+
+    @Value("${app.chunked-upload.inspect-bytes:64KB}")
+    private DataSize inspectBytes;
+
+    private final Set<RuleSubscriber> subscribers = new CopyOnWriteArraySet<>();
+
+    /** 단일 스레드 → 변경 순서대로 전송 */
+    private final ExecutorService notifier = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "grpc-rule-notify");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Override
+    public void checkFilename(FilenameRequest request, StreamObserver<Verdict> responseObserver) {
+        try {
+            String reason = fileUploadService.checkExtension(
+                    request.getFilename(), blockRuleCache.current());
+            responseObserver.onNext(verdict(reason, 0));
+            responseObserver.onCompleted();
+        } catch (RuntimeException e) {
+            responseObserver.onError(toStatus(e).asRuntimeException());
+        }
+    }
+
+    /**
+     * 청크를 inspect-bytes까지만 모아서 검사 체인으로 판정 → 응답 후 나머지 청크는 무시
+     * - inspect-bytes에서 끊으면 완성된 파일이 필요한 검사(해시, 매크로)는 제외, 내장 실행 파일 등은 받은 바이트까지 검사
+     */
+    @Override
+    public StreamObserver<ContentChunk> checkContent(StreamObserver<Verdict> responseObserver) {
+        return new StreamObserver<>() {
+
+            private final ByteArrayOutputStream prefix = new ByteArrayOutputStream();
+            private String filename;
+            private BlockRuleSnapshot rules;
+            private boolean decided;
+
+            @Override
+            public void onNext(ContentChunk chunk) {
+                if (decided) {
+                    return;
+                }
+                try {
+                    accept(chunk);
+                } catch (RuntimeException e) {
+                    fail(e);
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                log.debug("CheckContent 클라이언트 스트림 오류: {}", t.getMessage());
+            }
+
+            @Override
+            public void onCompleted() {
+                if (decided) {
+                    return;
+                }
+                if (filename == null) {
+                    fail(Status.INVALID_ARGUMENT.withDescription("청크가 없습니다.").asRuntimeException());
+                    return;
+                }
+                try {
+                    decide(inspectContent(true));
+                } catch (RuntimeException e) {
+                    fail(e);
+                }
+            }
+
+            private void accept(ContentChunk chunk) {
+                if (filename == null) {
+                    filename = chunk.getFilename();
+                    rules = blockRuleCache.current();
+                    String reason = fileUploadService.checkExtension(filename, rules);
+                    if (reason != null) {
+                        decide(reason);
+                        return;
+                    }
+                }
+                int room = (int) Math.min(Integer.MAX_VALUE, inspectBytes.toBytes() - prefix.size());
+                byte[] part = chunk.getData().substring(0, Math.min(room, chunk.getData().size())).toByteArray();
+                prefix.write(part, 0, part.length);
+                if (prefix.size() >= inspectBytes.toBytes()) {
+                    decide(inspectContent(false));
+                }
+            }
+
+            /**
+             * @param complete 스트림이 inspect-bytes 전에 끝남 → 받은 바이트가 파일 전체 (해시/매크로까지 판정)
+             */
+            private String inspectContent(boolean complete) {
+                byte[] content = prefix.toByteArray();
+                RandomAccessSource.StreamOpener opener = () -> new ByteArrayInputStream(content);
+                return complete
+                        ? fileUploadService.verify(filename, content.length, null, opener, rules)
+                        : fileUploadService.verifyPartial(filename, content.length, opener, rules);
+            }
+
+            private void decide(String reason) {
+                decided = true;
+                responseObserver.onNext(verdict(reason, prefix.size()));
+                responseObserver.onCompleted();
+            }
+
+            private void fail(RuntimeException e) {
+                decided = true;
+                responseObserver.onError(e instanceof StatusRuntimeException ? e : toStatus(e).asRuntimeException());
+            }
+        };
+    }
+
+    @Override
+    public void watchRules(WatchRulesRequest request, StreamObserver<RuleChange> responseObserver) {
+        ServerCallStreamObserver<RuleChange> observer = (ServerCallStreamObserver<RuleChange>) responseObserver;
+        RuleSubscriber subscriber = new RuleSubscriber(observer);
+        observer.setOnCancelHandler(() -> subscribers.remove(subscriber));
+        observer.setOnReadyHandler(subscriber::drain);
+        subscribers.add(subscriber);
+
+        subscriber.offer(ruleChange(ruleChangeFeed.snapshot(-1), "SNAPSHOT", List.of()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRuleChanged(RuleChangedEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        notifier.execute(() -> {
+            try {
+                RuleChange change = ruleChange(ruleChangeFeed.snapshot(event.version()),
+                        event.operation().name(), event.extensions());
+                for (RuleSubscriber subscriber : subscribers) {
+                    subscriber.offer(change);
+                }
+            } catch (RuntimeException e) {
+                log.warn("규칙 변경 전송 실패 (버전 {}): {}", event.version(), e.getMessage());
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        notifier.shutdownNow();
+    }
+
+    // ===== Private =====
+
+    /**
+     * @param snapshot 버전과 전체 목록을 같은 시점에 읽은 피드 스냅샷 (내용 규칙 제외한 차단 확장자만 전달)
+     */
+    private static RuleChange ruleChange(RuleChangeDto.Response snapshot, String operation, List<String> changed) {
+        return RuleChange.newBuilder()
+                .setVersion(snapshot.version())
+                .setOperation(operation)
+                .addAllChangedExtensions(changed)
+                .addAllBlockedExtensions(snapshot.changes().stream()
+                        .filter(change -> change.blocked() && change.type() != ExtensionType.CONTENT)
+                        .map(RuleChangeDto.Change::extension)
+                        .toList())
+                .build();
+    }
+
+    /**
+     * 검사 과부하(ServiceOverloadedException) → RESOURCE_EXHAUSTED (REST의 503에 해당)
+     */
+    private static Status toStatus(RuntimeException e) {
+        if (e instanceof ServiceOverloadedException) {
+            return Status.RESOURCE_EXHAUSTED.withDescription(e.getMessage());
+        }
+        log.error("gRPC 판정 중 오류", e);
+        return Status.INTERNAL.withDescription("서버 내부 오류가 발생했습니다.");
+    }
+
+    private static Verdict verdict(String reason, long bytesInspected) {
+        return Verdict.newBuilder()
+                .setAllowed(reason == null)
+                .setReason(reason == null ? "" : reason)
+                .setBytesInspected(bytesInspected)
+                .build();
+    }
+
+    /**
+     * 느린 구독자 보호: 전송 버퍼가 차 있으면 최신 변경 1건만 보관했다가 ready 시 전송
+     * (각 메시지가 전체 차단 목록을 담고 있으므로 중간 변경은 건너뛰어도 됨)
+     */
+    private static final class RuleSubscriber {
+        private final ServerCallStreamObserver<RuleChange> observer;
+        private RuleChange pending;
+
+        private RuleSubscriber(ServerCallStreamObserver<RuleChange> observer) {
+            this.observer = observer;
+        }
+
+        private synchronized void offer(RuleChange change) {
+            pending = change;
+            drain();
+        }
+
+        private synchronized void drain() {
+            if (pending == null || observer.isCancelled() || !observer.isReady()) {
+                return;
+            }
+            try {
+                observer.onNext(pending);
+                pending = null;
+            } catch (RuntimeException e) {
+                log.debug("규칙 피드 전송 실패: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.ghh.blocker.inspection;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({ContentScanProperties.class, HashBlocklistProperties.class, ExecutableScanProperties.class})
+public class ContentScanConfig {
+
+    @Bean
+    public ContentScanner contentScanner(ContentScanProperties properties) {
+        return new ContentScanner(properties);
+    }
+}
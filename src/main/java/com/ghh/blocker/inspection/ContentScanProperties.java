@@ -0,0 +1,28 @@
+package com.ghh.blocker.inspection;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+
+/**
+ * 내장 스크립트 시그니처 검사 설정 (app.content-scan.*)
+ */
+@ConfigurationProperties(prefix = "app.content-scan")
+public record ContentScanProperties(
+
+        @DefaultValue("true")
+        boolean enabled,
+
+        /* 파일 앞쪽에서 검사할 최대 크기 */
+        @DefaultValue("1MB")
+        DataSize maxBytes,
+
+        /* Tika 감지 결과가 이 타입일 때만 검사 (실행 파일 등은 MIME 규칙이 담당) */
+        @DefaultValue({"text/plain", "application/octet-stream"})
+        List<String> mimeTypes,
+
+        @DefaultValue
+        List<SignatureScanner.Signature> signatures
+) {}
@@ -0,0 +1,60 @@
+package com.ghh.blocker.inspection;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Set;
+
+/**
+ * MIME 검사를 통과한 텍스트/바이너리 파일에서 스크립트 페이로드 탐지
+ * (PowerShell, VBScript, HTA, 셸 스크립트 등 - 시그니처는 설정으로 관리)
+ */
+@Slf4j
+public class ContentScanner {
+
+    private final boolean enabled;
+    private final Set<String> mimeTypes;
+    private final SignatureScanner scanner;
+
+    public ContentScanner(ContentScanProperties properties) {
+        this.enabled = properties.enabled() && !properties.signatures().isEmpty();
+        this.mimeTypes = Set.copyOf(properties.mimeTypes());
+        this.scanner = new SignatureScanner(properties.signatures(), properties.maxBytes().toBytes());
+        log.info("시그니처 검사: {}개 시그니처, {}개 상태, 앞쪽 {} bytes",
+                properties.signatures().size(), scanner.getStateCount(), scanner.getMaxBytes());
+    }
+
+    public boolean shouldScan(String detectedMime) {
+        return enabled && mimeTypes.contains(detectedMime);
+    }
+
+    /**
+     * @return 차단 사유 (통과 시 null)
+     */
+    public String scan(InputStream is) throws IOException {
+        return reasonOf(scanner.scan(is));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 나눠 받는 검색 (검사 체인의 공유 스트림 읽기용)
+     */
+    public SignatureScanner.Cursor cursor() {
+        return scanner.cursor();
+    }
+
+    /**
+     * @return 차단 사유 (일치 없으면 null)
+     */
+    public static String reasonOf(SignatureScanner.Match match) {
+        if (match == null) {
+            return null;
+        }
+        return "스크립트 시그니처 탐지: " + match.signature().name()
+                + " (" + match.signature().pattern() + ", offset " + match.offset() + ")";
+    }
+}
@@ -0,0 +1,74 @@
+package com.ghh.blocker.inspection;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * 폴리글랏 파일 - 이미지/PDF로 감지됐지만 안에 PE/ELF 헤더가 있는 파일 (파일 전체, 설정으로 켤 때만)
+ */
+@Slf4j
+@Component
+@Order(60)
+public class ExecutableInspector implements Inspector {
+
+    private final boolean enabled;
+    private final Set<String> mimeTypes;
+
+    public ExecutableInspector(ExecutableScanProperties properties) {
+        this.enabled = properties.enabled();
+        this.mimeTypes = Set.copyOf(properties.mimeTypes());
+        if (enabled) {
+            log.info("내장 실행 파일 검사: {} ({})", mimeTypes, ExecutableScanner.implementation());
+        }
+    }
+
+    @Override
+    public String name() {
+        return "executable";
+    }
+
+    @Override
+    public Cost cost() {
+        return Cost.HIGH;
+    }
+
+    @Override
+    public Input input() {
+        return Input.STREAM;
+    }
+
+    @Override
+    public boolean appliesTo(InspectionContext context) {
+        return enabled;
+    }
+
+    @Override
+    public StreamSink openStream(InspectionContext context) throws IOException {
+        if (!mimeTypes.contains(context.detectedMime())) {
+            return null;
+        }
+        ExecutableScanner.Cursor cursor = ExecutableScanner.cursor();
+        return new StreamSink() {
+            @Override
+            public String update(byte[] buffer, int offset, int length) {
+                return reasonOf(cursor.update(buffer, offset, length));
+            }
+
+            @Override
+            public String finish() {
+                return reasonOf(cursor.finish());
+            }
+        };
+    }
+
+    private static String reasonOf(ExecutableScanner.Match match) {
+        if (match == null) {
+            return null;
+        }
+        return "실행 파일 포함: " + match.format() + " (offset " + match.offset() + ")";
+    }
+}
@@ -0,0 +1,20 @@
+package com.ghh.blocker.inspection;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * 내장 실행 파일 심층 검사 설정 (app.executable-scan.*)
+ */
+@ConfigurationProperties(prefix = "app.executable-scan")
+public record ExecutableScanProperties(
+
+        @DefaultValue("false")
+        boolean enabled,
+
+        /* Tika 감지 결과가 이 타입일 때만 파일 전체 검사 (실행 파일 자체는 MIME 규칙이 담당) */
+        @DefaultValue({"image/jpeg", "image/png", "image/gif", "application/pdf"})
+        List<String> mimeTypes
+) {}
@@ -0,0 +1,193 @@
+package com.ghh.blocker.inspection;
+
+import java.util.Arrays;
+
+/**
+ * 파일 전체에서 실행 파일 헤더 검색 (JPEG/PDF 뒤나 안에 끼워 넣은 PE/ELF)
+ *
+ * 2단계:
+ *   1) 후보 검색  "MZ" 또는 0x7F 'E' 가 시작되는 위치 - Vector API(SIMD)로 레인 수만큼 한 번에 비교
+ *   2) 후보 확인  스칼라로 헤더 구조 검사 → 우연히 나온 2바이트는 여기서 걸러짐
+ *      PE   e_lfanew(+0x3C, LE int)가 [0x40, MAX_PE_OFFSET] 안이고 그 위치가 "PE\0\0"
+ *      ELF  "\x7FELF" + class(1|2) + data(1|2) + version(1)
+ *
+ * Vector API는 JDK 17에서 인큐베이터 모듈 → --add-modules jdk.incubator.vector로 실행할 때만 사용,
+ * 모듈이 없으면 같은 결과의 스칼라 검색으로 동작
+ *
+ * 메모리: 파일당 청크 + LOOKAHEAD 바이트 (파일 크기와 무관)
+ */
+public final class ExecutableScanner {
+
+    /** 실제 PE의 e_lfanew는 대부분 0x80~0x200 - 이보다 멀면 PE로 보지 않음 */
+    static final int MAX_PE_OFFSET = 1024;
+    /** 후보 위치 뒤로 확인에 필요한 최대 바이트 (청크 경계를 넘는 헤더용) */
+    static final int LOOKAHEAD = MAX_PE_OFFSET + 4;
+
+    private static final int DOS_HEADER_SIZE = 0x40;
+    private static final int ELF_IDENT_SIZE = 7;
+
+    private static final boolean VECTORIZED = vectorAvailable();
+    private static final int VECTOR_LANES = VECTORIZED ? VectorHeaderSearch.lanes() : 1;
+
+    private ExecutableScanner() {
+    }
+
+    /**
+     * @param format PE / ELF
+     */
+    public record Match(String format, long offset) {}
+
+    /**
+     * 배열 전체 검색
+     * @return 처음 확인된 헤더 (없으면 null)
+     */
+    public static Match find(byte[] data) {
+        return find(data, 0, data.length, data.length, 0);
+    }
+
+    /**
+     * 나눠 받는 검색 (검사 체인의 공유 스트림 읽기용)
+     */
+    public static Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * 로그/벤치마크용 (예: vector 256-bit, scalar)
+     */
+    public static String implementation() {
+        return VECTORIZED ? "vector " + VectorHeaderSearch.bitSize() + "-bit" : "scalar";
+    }
+
+    public static final class Cursor {
+
+        /** 이전 청크에서 아직 확인하지 못한 꼬리 (LOOKAHEAD 미만) + 이번 청크 */
+        private byte[] window = new byte[0];
+        private int size;
+        /** window[0]의 파일 내 위치 */
+        private long base;
+
+        private Cursor() {
+        }
+
+        /**
+         * @return 처음 확인된 헤더 (없으면 null - 계속 전달)
+         */
+        public Match update(byte[] buffer, int offset, int length) {
+            if (size + length > window.length) {
+                window = Arrays.copyOf(window, Math.max(size + length, window.length * 2));
+            }
+            System.arraycopy(buffer, offset, window, size, length);
+            size += length;
+
+            // 뒤에 LOOKAHEAD 바이트가 있는 위치까지만 확정 (나머지는 다음 청크와 함께)
+            int end = size - LOOKAHEAD;
+            if (end <= 0) {
+                return null;
+            }
+            Match match = find(window, 0, end, size, base);
+            System.arraycopy(window, end, window, 0, size - end);
+            size -= end;
+            base += end;
+            return match;
+        }
+
+        /**
+         * 파일 끝 - 남은 꼬리 확인
+         */
+        public Match finish() {
+            Match match = find(window, 0, size, size, base);
+            size = 0;
+            return match;
+        }
+    }
+
+    // ===== Package-private (벤치마크/테스트) =====
+
+    /**
+     * [from, to) 안에서 후보 위치 검색 (a[i + 1]까지 보므로 i < limit - 1)
+     * @return 후보 위치 (없으면 -1)
+     */
+    static int nextCandidate(byte[] a, int from, int to, int limit) {
+        if (!VECTORIZED) {
+            return nextCandidateScalar(a, from, to, limit);
+        }
+        int end = Math.min(to, limit - 1);
+        // 레인 수로 나눠떨어지는 구간은 SIMD, 남는 꼬리는 스칼라
+        int tail = Math.max(from, from + (end - from) / VECTOR_LANES * VECTOR_LANES);
+        int hit = VectorHeaderSearch.next(a, from, tail);
+        return hit >= 0 ? hit : nextCandidateScalar(a, tail, to, limit);
+    }
+
+    static int nextCandidateScalar(byte[] a, int from, int to, int limit) {
+        int end = Math.min(to, limit - 1);
+        for (int i = from; i < end; i++) {
+            byte b = a[i];
+            if ((b == 'M' && a[i + 1] == 'Z') || (b == 0x7F && a[i + 1] == 'E')) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static boolean isVectorized() {
+        return VECTORIZED;
+    }
+
+    // ===== Private =====
+
+    /**
+     * @param to    후보 시작 위치 상한 (미포함)
+     * @param limit 확인에 쓸 수 있는 데이터 끝
+     * @param base  a[0]의 파일 내 위치
+     */
+    private static Match find(byte[] a, int from, int to, int limit, long base) {
+        int i = from;
+        while ((i = nextCandidate(a, i, to, limit)) >= 0) {
+            String format = a[i] == 'M' ? verifyPe(a, i, limit) : verifyElf(a, i, limit);
+            if (format != null) {
+                return new Match(format, base + i);
+            }
+            i++;
+        }
+        return null;
+    }
+
+    private static String verifyPe(byte[] a, int i, int limit) {
+        if (i + DOS_HEADER_SIZE > limit) {
+            return null;
+        }
+        int lfanew = (a[i + 0x3C] & 0xFF)
+                | (a[i + 0x3D] & 0xFF) << 8
+                | (a[i + 0x3E] & 0xFF) << 16
+                | (a[i + 0x3F] & 0xFF) << 24;
+        if (lfanew < DOS_HEADER_SIZE || lfanew > MAX_PE_OFFSET || i + lfanew + 4 > limit) {
+            return null;
+        }
+        int pe = i + lfanew;
+        return a[pe] == 'P' && a[pe + 1] == 'E' && a[pe + 2] == 0 && a[pe + 3] == 0 ? "PE" : null;
+    }
+
+    private static String verifyElf(byte[] a, int i, int limit) {
+        if (i + ELF_IDENT_SIZE > limit || a[i + 2] != 'L' || a[i + 3] != 'F') {
+            return null;
+        }
+        byte elfClass = a[i + 4];
+        byte data = a[i + 5];
+        return (elfClass == 1 || elfClass == 2) && (data == 1 || data == 2) && a[i + 6] == 1 ? "ELF" : null;
+    }
+
+    /**
+     * 인큐베이터 모듈이 부트 레이어에 없으면 VectorHeaderSearch를 로드하지 않음 (NoClassDefFoundError 방지)
+     */
+    private static boolean vectorAvailable() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return false;
+        }
+        try {
+            return VectorHeaderSearch.bitSize() >= 128;
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.ghh.blocker.inspection;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파일명이 차단 규칙(정확 일치 + 패턴)에 걸리는지 - 규칙 전체를 컴파일한 DFA로 파일명 1회 순회
+ */
+@Component
+@Order(10)
+public class ExtensionInspector implements Inspector {
+
+    public static final String NAME = "extension";
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public Cost cost() {
+        return Cost.TRIVIAL;
+    }
+
+    @Override
+    public Input input() {
+        return Input.NAME;
+    }
+
+    @Override
+    public String inspect(InspectionContext context) {
+        String rule = context.rules().match(context.fileName());
+        return rule != null ? "확장자 차단: ." + rule : null;
+    }
+}
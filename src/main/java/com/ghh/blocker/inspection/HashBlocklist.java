@@ -0,0 +1,217 @@
+package com.ghh.blocker.inspection;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 알려진 악성 파일 SHA-256 목록 (불변) - 정렬된 바이너리 파일을 off-heap으로 매핑
+ *
+ * 파일 형식:
+ *   [8] 매직 "BLKHASH1"  [8] 항목 수 n (big-endian)  [32 × n] SHA-256 (부호 없는 사전순 정렬, 중복 없음)
+ *
+ * 조회:
+ *   힙의 Bloom 필터(항목당 bitsPerEntry 비트) → 대부분의 정상 파일은 여기서 끝남
+ *   통과 시 매핑된 영역에서 이진 탐색 (항목별 객체 없음, 해시는 long 4개로 비교)
+ *
+ * SHA-256은 이미 균일 분포이므로 Bloom 인덱스는 해시의 앞 16바이트로 이중 해싱해 계산합니다.
+ */
+public final class HashBlocklist {
+
+    public static final int HASH_BYTES = 32;
+
+    private static final byte[] MAGIC = "BLKHASH1".getBytes(StandardCharsets.US_ASCII);
+    private static final int HEADER_BYTES = 16;
+    /** 매핑 1개 최대 크기 (2GB 미만, 32의 배수) */
+    private static final long SEGMENT_BYTES = 1L << 30;
+    private static final int ENTRIES_PER_SEGMENT = (int) (SEGMENT_BYTES / HASH_BYTES);
+
+    private static final HashBlocklist EMPTY = new HashBlocklist(new MappedByteBuffer[0], 0, new long[1], 64, 1);
+
+    private final MappedByteBuffer[] segments;
+    private final long size;
+    private final long[] bloom;
+    private final long bloomBits;
+    private final int bloomHashes;
+
+    private HashBlocklist(MappedByteBuffer[] segments, long size, long[] bloom, long bloomBits, int bloomHashes) {
+        this.segments = segments;
+        this.size = size;
+        this.bloom = bloom;
+        this.bloomBits = bloomBits;
+        this.bloomHashes = bloomHashes;
+    }
+
+    public static HashBlocklist empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 파일을 매핑하고 형식/정렬을 검증하면서 Bloom 필터 생성 (순차 1회 읽기)
+     * - 매핑은 파일을 닫아도 유지되므로, 피드 갱신은 새 파일로 교체(rename)하면 기존 조회에 영향 없음
+     */
+    public static HashBlocklist open(Path file, int bloomBitsPerEntry) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_BYTES) {
+                throw new IOException("해시 목록 헤더가 없습니다: " + file);
+            }
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) {
+                    throw new IOException("해시 목록 헤더를 읽을 수 없습니다: " + file);
+                }
+            }
+            byte[] magic = new byte[MAGIC.length];
+            header.get(0, magic);
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw new IOException("해시 목록 형식이 아닙니다: " + file);
+            }
+            long count = header.getLong(MAGIC.length);
+            if (count < 0 || fileSize != HEADER_BYTES + count * HASH_BYTES) {
+                throw new IOException("해시 목록 크기가 항목 수와 맞지 않습니다: " + file);
+            }
+
+            int segmentCount = (int) ((count + ENTRIES_PER_SEGMENT - 1) / ENTRIES_PER_SEGMENT);
+            MappedByteBuffer[] segments = new MappedByteBuffer[segmentCount];
+            for (int s = 0; s < segmentCount; s++) {
+                long first = (long) s * ENTRIES_PER_SEGMENT;
+                long bytes = Math.min(ENTRIES_PER_SEGMENT, count - first) * HASH_BYTES;
+                segments[s] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES + first * HASH_BYTES, bytes);
+                segments[s].order(ByteOrder.BIG_ENDIAN);
+            }
+
+            long bloomBits = Math.max(64, count * Math.max(1, bloomBitsPerEntry));
+            int bloomHashes = (int) Math.max(1, Math.min(16, Math.round(bloomBitsPerEntry * Math.log(2))));
+            long[] bloom = new long[(int) ((bloomBits + 63) >>> 6)];
+            HashBlocklist blocklist = new HashBlocklist(segments, count, bloom, bloomBits, bloomHashes);
+
+            for (long i = 0; i < count; i++) {
+                if (i > 0 && blocklist.compareAt(i - 1, blocklist.segment(i), blocklist.offset(i)) >= 0) {
+                    throw new IOException("해시 목록이 정렬되어 있지 않거나 중복이 있습니다 (항목 " + i + "): " + file);
+                }
+                blocklist.addToBloom(blocklist.segment(i).getLong(blocklist.offset(i)),
+                        blocklist.segment(i).getLong(blocklist.offset(i) + 8));
+            }
+            return blocklist;
+        }
+    }
+
+    /**
+     * 해시 목록 파일 작성 (정렬 + 중복 제거, 임시 파일 → 원자적 교체)
+     */
+    public static void write(Collection<byte[]> hashes, Path target) throws IOException {
+        List<byte[]> sorted = new ArrayList<>(hashes);
+        for (byte[] hash : sorted) {
+            if (hash.length != HASH_BYTES) {
+                throw new IllegalArgumentException("SHA-256 해시는 32바이트여야 합니다.");
+            }
+        }
+        sorted.sort(Arrays::compareUnsigned);
+        List<byte[]> unique = new ArrayList<>(sorted.size());
+        for (byte[] hash : sorted) {
+            if (unique.isEmpty() || !Arrays.equals(unique.get(unique.size() - 1), hash)) {
+                unique.add(hash);
+            }
+        }
+
+        Path parent = target.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, ".blocklist-", ".tmp");
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp))) {
+                out.write(MAGIC);
+                out.write(ByteBuffer.allocate(8).putLong(unique.size()).array());
+                for (byte[] hash : unique) {
+                    out.write(hash);
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    public boolean contains(byte[] sha256) {
+        if (size == 0 || sha256.length != HASH_BYTES) {
+            return false;
+        }
+        ByteBuffer key = ByteBuffer.wrap(sha256);
+        if (!mightContain(key.getLong(0), key.getLong(8))) {
+            return false;
+        }
+
+        long low = 0;
+        long high = size - 1;
+        while (low <= high) {
+            long mid = (low + high) >>> 1;
+            int cmp = compare(segment(mid), offset(mid), key, 0);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    // ===== Private =====
+
+    private MappedByteBuffer segment(long index) {
+        return segments[(int) (index / ENTRIES_PER_SEGMENT)];
+    }
+
+    private int offset(long index) {
+        return (int) (index % ENTRIES_PER_SEGMENT) * HASH_BYTES;
+    }
+
+    private int compareAt(long index, ByteBuffer other, int otherOffset) {
+        return compare(segment(index), offset(index), other, otherOffset);
+    }
+
+    private static int compare(ByteBuffer a, int aOffset, ByteBuffer b, int bOffset) {
+        for (int i = 0; i < HASH_BYTES; i += 8) {
+            int cmp = Long.compareUnsigned(a.getLong(aOffset + i), b.getLong(bOffset + i));
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return 0;
+    }
+
+    private void addToBloom(long h1, long h2) {
+        for (int i = 0; i < bloomHashes; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * (h2 | 1), bloomBits);
+            bloom[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    private boolean mightContain(long h1, long h2) {
+        for (int i = 0; i < bloomHashes; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * (h2 | 1), bloomBits);
+            if ((bloom[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
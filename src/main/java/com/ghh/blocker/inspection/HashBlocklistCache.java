@@ -0,0 +1,104 @@
+package com.ghh.blocker.inspection;
+
+import com.ghh.blocker.exception.BlockedExtensionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HexFormat;
+
+/**
+ * 악성 파일 해시 목록 - 파일이 바뀌면 새로 매핑한 목록으로 원자적 교체 (재시작 불필요)
+ *
+ * 갱신 시점:
+ *   - reload-interval-ms 주기로 파일 수정 시각/크기 확인
+ *   - POST /api/extensions/hash-blocklist/reload
+ *
+ * 피드 갱신은 새 파일을 쓴 뒤 rename으로 교체 → 교체 전 매핑으로 진행 중인 조회는 그대로 끝남
+ * 불러오기 실패 시 기존 목록 유지
+ */
+@Slf4j
+@Component
+public class HashBlocklistCache {
+
+    private final HashBlocklistProperties properties;
+    private final Path file;
+
+    private volatile HashBlocklist blocklist = HashBlocklist.empty();
+    private volatile String loadedVersion;
+
+    public HashBlocklistCache(HashBlocklistProperties properties) {
+        this.properties = properties;
+        this.file = Path.of(properties.file()).toAbsolutePath();
+        if (properties.enabled()) {
+            reloadIfChanged();
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * @return 차단 사유 (목록에 없으면 null)
+     */
+    public String check(byte[] sha256) {
+        if (!blocklist.contains(sha256)) {
+            return null;
+        }
+        return "알려진 악성 파일 해시: " + HexFormat.of().formatHex(sha256);
+    }
+
+    public long size() {
+        return blocklist.size();
+    }
+
+    @Scheduled(fixedDelayString = "${app.hash-blocklist.reload-interval-ms:60000}")
+    public void reloadIfChanged() {
+        if (!properties.enabled()) {
+            return;
+        }
+        try {
+            if (!versionOf(file).equals(loadedVersion)) {
+                reload();
+            }
+        } catch (IOException e) {
+            log.warn("해시 목록 파일 확인 실패: {} ({})", file, e.getMessage());
+        } catch (IllegalStateException e) {
+            log.error("해시 목록 갱신 실패 - 기존 목록 유지 ({}개): {}", blocklist.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * @return 불러온 항목 수
+     */
+    public synchronized long reload() {
+        if (!properties.enabled()) {
+            throw new BlockedExtensionException("해시 목록 검사가 꺼져 있습니다. (app.hash-blocklist.enabled)");
+        }
+        try {
+            String version = versionOf(file);
+            HashBlocklist loaded = HashBlocklist.open(file, properties.bloomBitsPerEntry());
+            blocklist = loaded;
+            loadedVersion = version;
+            log.info("해시 목록 불러오기: {}개 ({})", loaded.size(), file);
+            return loaded.size();
+        } catch (IOException e) {
+            throw new IllegalStateException("해시 목록을 불러올 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * rename 교체를 감지하도록 inode(fileKey) + 수정 시각 사용 (fileKey 미지원 FS는 크기로 대체)
+     */
+    private static String versionOf(Path file) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        return attributes.fileKey() != null
+                ? attributes.fileKey() + "@" + attributes.lastModifiedTime()
+                : attributes.size() + "@" + attributes.lastModifiedTime();
+    }
+}
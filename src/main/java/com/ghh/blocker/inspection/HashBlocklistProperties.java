@@ -0,0 +1,22 @@
+package com.ghh.blocker.inspection;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 악성 파일 해시 목록 설정 (app.hash-blocklist.*)
+ */
+@ConfigurationProperties(prefix = "app.hash-blocklist")
+public record HashBlocklistProperties(
+
+        @DefaultValue("false")
+        boolean enabled,
+
+        /* 정렬된 바이너리 해시 파일 (HashBlocklist 형식) */
+        @DefaultValue("hash-blocklist.bin")
+        String file,
+
+        /* Bloom 필터 항목당 비트 수 (10 → 오탐 약 1%, 오탐은 이진 탐색으로 걸러짐) */
+        @DefaultValue("10")
+        int bloomBitsPerEntry
+) {}
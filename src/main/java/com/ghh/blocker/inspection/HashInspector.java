@@ -0,0 +1,72 @@
+package com.ghh.blocker.inspection;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 알려진 악성 파일 해시 - 다른 STREAM 검사와 같은 읽기로 SHA-256을 계산하고 끝에서 목록 조회
+ */
+@Component
+@Order(50)
+@RequiredArgsConstructor
+public class HashInspector implements Inspector {
+
+    private final HashBlocklistCache hashBlocklist;
+
+    @Override
+    public String name() {
+        return "hash";
+    }
+
+    @Override
+    public Cost cost() {
+        return Cost.HIGH;
+    }
+
+    @Override
+    public Input input() {
+        return Input.STREAM;
+    }
+
+    @Override
+    public boolean appliesTo(InspectionContext context) {
+        return hashBlocklist.isEnabled();
+    }
+
+    /**
+     * 일부만 받은 파일의 해시는 목록과 일치할 수 없음
+     */
+    @Override
+    public boolean needsCompleteFile() {
+        return true;
+    }
+
+    @Override
+    public StreamSink openStream(InspectionContext context) {
+        MessageDigest digest = sha256();
+        return new StreamSink() {
+            @Override
+            public String update(byte[] buffer, int offset, int length) {
+                digest.update(buffer, offset, length);
+                return null;
+            }
+
+            @Override
+            public String finish() {
+                return hashBlocklist.check(digest.digest());
+            }
+        };
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,358 @@
+package com.ghh.blocker.inspection;
+
+import com.ghh.blocker.jfr.TikaDetectionEvent;
+import com.ghh.blocker.ratelimit.AdaptiveConcurrencyLimiter;
+import com.ghh.blocker.rule.BlockRuleSnapshot;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.tika.Tika;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 업로드 파일 검사 체인 - 등록된 Inspector를 비용 순으로 실행, 처음 차단한 검사에서 종료
+ *
+ * 순서:
+ *   Inspector.Cost 오름차순 → 같은 비용끼리는 차단 비율 (차단 + 1) / (실행 + 2) 내림차순
+ *   비용이 같으면 차단할 확률이 높은 검사를 먼저 해야 뒤쪽 검사를 건너뛰는 기대 횟수가 최대
+ *   → REORDER_INTERVAL 파일마다 통계로 다시 정렬 (판정 경로는 volatile 목록만 읽음)
+ *
+ * 입력 공유:
+ *   - PREFIX: 파일을 한 번 열어 앞부분만 읽고 모든 검사가 같은 배열 사용
+ *   - STREAM: 처음 STREAM 검사에 도달하면 남은 STREAM 검사 전부(모든 비용 단계)에 한 번의 읽기로 바이트 전달
+ *     (prefix를 먼저 넘기고 이어서 나머지 → 파일은 검사 1건당 최대 한 번만 순차 읽기)
+ *     수신기는 체인 순서(비용 오름차순)로 받음, 하나가 차단하면 그 뒤 수신기만 중단하고 앞선 수신기는 끝까지
+ *     결과는 각 검사의 순서가 왔을 때 반영 → 앞선 검사(RANDOM_ACCESS 포함)의 차단 사유가 우선
+ *     대신 더 싼 RANDOM_ACCESS 검사가 차단할 파일도 비싼 STREAM 검사까지 읽음 (재읽기보다 읽기 1회를 택함)
+ *
+ * 일부만 받은 파일 (inspectPartial - 분할 업로드 첫 청크, gRPC inspect-bytes):
+ *   완성된 파일이 필요한 검사(needsCompleteFile)는 건너뛰고 받은 바이트만 검사
+ *
+ * 적응형 동시 실행 제한 (초과 시 503):
+ *   PREFIX 검사(Tika MIME 탐지 등 CPU 위주, 입력은 최대 PREFIX_BYTES)를 실행하는 동안만 허가를 잡음
+ *   STREAM / RANDOM_ACCESS 검사는 파일 크기에 비례하는 I/O라 제외
+ *   → 관측 지연이 파일 크기와 무관 (큰 파일이 한도를 min-limit으로 끌어내려 작은 파일이 503을 받지 않음)
+ */
+@Slf4j
+@Component
+public class InspectionChain {
+
+    static final int REORDER_INTERVAL = 1024;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final AdaptiveConcurrencyLimiter inspectionLimiter;
+    private final ObservationRegistry observationRegistry;
+    private final Tika tika;
+    private final List<Registered> registered;
+    private final AtomicLong inspected = new AtomicLong();
+
+    private volatile List<Registered> order;
+
+    /**
+     * 판정 결과
+     *
+     * @param stage  차단한 검사 이름 (통과 시 null)
+     * @param reason 차단 사유 (통과 시 null)
+     */
+    public record Verdict(String stage, String reason) {
+
+        static final Verdict ALLOWED = new Verdict(null, null);
+
+        public boolean allowed() {
+            return reason == null;
+        }
+    }
+
+    /**
+     * 검사별 누적 통계 (실행 = 이 검사까지 도달해 적용된 파일 수)
+     */
+    public record Stats(String name, Inspector.Cost cost, long runs, long blocks) {}
+
+    public InspectionChain(List<Inspector> inspectors,
+                           AdaptiveConcurrencyLimiter inspectionLimiter,
+                           ObservationRegistry observationRegistry,
+                           Tika tika) {
+        this.inspectionLimiter = inspectionLimiter;
+        this.observationRegistry = observationRegistry;
+        this.tika = tika;
+        this.registered = inspectors.stream().map(Registered::new).toList();
+        this.order = sorted();
+        log.info("업로드 검사 체인: {}", names(order));
+    }
+
+    /**
+     * 완성된 파일 판정
+     * @param opener 파일 내용 스트림 (PREFIX/STREAM 검사가 있을 때 1회, RANDOM_ACCESS 검사는 필요한 위치만 다시 엶)
+     */
+    public Verdict inspect(String fileName, long size, BlockRuleSnapshot rules,
+                           RandomAccessSource.StreamOpener opener) {
+        return inspect(fileName, size, rules, opener, false);
+    }
+
+    /**
+     * 앞부분만 받은 파일 판정 - 완성된 파일이 필요한 검사 제외 (통과해도 완성 후 inspect로 다시 판정)
+     * @param available 지금까지 받은 바이트 수 (opener가 읽을 수 있는 만큼)
+     */
+    public Verdict inspectPartial(String fileName, long available, BlockRuleSnapshot rules,
+                                  RandomAccessSource.StreamOpener opener) {
+        return inspect(fileName, available, rules, opener, true);
+    }
+
+    /**
+     * 현재 실행 순서 (검사 이름)
+     */
+    public List<String> order() {
+        return names(order);
+    }
+
+    public List<Stats> stats() {
+        return order.stream()
+                .map(r -> new Stats(r.inspector.name(), r.inspector.cost(), r.runs.sum(), r.blocks.sum()))
+                .toList();
+    }
+
+    /**
+     * 통계로 순서 재계산 (같은 비용 안에서만 바뀜)
+     */
+    public void reorder() {
+        List<Registered> next = sorted();
+        if (!next.equals(order)) {
+            log.info("업로드 검사 순서 변경: {} → {}", names(order), names(next));
+            order = next;
+        }
+    }
+
+    // ===== Private =====
+
+    private Verdict inspect(String fileName, long size, BlockRuleSnapshot rules,
+                            RandomAccessSource.StreamOpener opener, boolean partial) {
+        List<Registered> current = order;
+        Map<Registered, String> streamResults = null;
+        long permit = -1;
+
+        try (InspectionContext context = new InspectionContext(fileName, size, rules, opener, this::detect)) {
+            for (int i = 0; i < current.size(); i++) {
+                Registered entry = current.get(i);
+                Inspector inspector = entry.inspector;
+                if (!applies(inspector, context, partial)) {
+                    continue;
+                }
+                if (inspector.input() == Inspector.Input.PREFIX) {
+                    if (permit < 0) {
+                        permit = inspectionLimiter.acquire();
+                    }
+                } else {
+                    permit = release(permit);
+                }
+
+                String reason;
+                if (inspector.input() == Inspector.Input.STREAM) {
+                    if (streamResults == null) {
+                        streamResults = readStream(context, current.subList(i, current.size()), partial);
+                    }
+                    if (!streamResults.containsKey(entry)) {
+                        continue;
+                    }
+                    reason = streamResults.get(entry);
+                } else {
+                    reason = observe(inspector, context);
+                }
+
+                entry.runs.increment();
+                if (reason != null) {
+                    entry.blocks.increment();
+                    return new Verdict(inspector.name(), reason);
+                }
+            }
+            return Verdict.ALLOWED;
+        } catch (InspectionFailure e) {
+            log.error("{} 검사 실패: {}", e.stage, fileName, e.getCause());
+            return new Verdict(e.stage, "파일 검사 오류");
+        } catch (IOException e) {
+            log.error("파일 검사 실패: {}", fileName, e);
+            return new Verdict(null, "파일 검사 오류");
+        } finally {
+            release(permit);
+            if (inspected.incrementAndGet() % REORDER_INTERVAL == 0) {
+                reorder();
+            }
+        }
+    }
+
+    /**
+     * @return 해제 후 허가 없음(-1)
+     */
+    private long release(long permit) {
+        if (permit >= 0) {
+            inspectionLimiter.release(permit);
+        }
+        return -1;
+    }
+
+    private static boolean applies(Inspector inspector, InspectionContext context, boolean partial) {
+        return !(partial && inspector.needsCompleteFile()) && inspector.appliesTo(context);
+    }
+
+    private String observe(Inspector inspector, InspectionContext context) {
+        Observation observation = Observation.start("blocker.upload." + inspector.name() + "-check", observationRegistry);
+        try (Observation.Scope scope = observation.openScope()) {
+            return inspector.inspect(context);
+        } catch (IOException e) {
+            observation.error(e);
+            throw new InspectionFailure(inspector.name(), e);
+        } catch (RuntimeException e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    /**
+     * 남은 STREAM 검사 전부에 파일을 한 번 읽어 전달 (수신기는 체인 순서)
+     * @return 검사 → 차단 사유 (건너뛴 검사와 앞선 수신기의 차단으로 중단된 검사는 없음)
+     */
+    private Map<Registered, String> readStream(InspectionContext context, List<Registered> remaining, boolean partial) {
+        List<Registered> entries = new ArrayList<>();
+        List<Inspector.StreamSink> sinks = new ArrayList<>();
+        Map<Registered, String> results = new LinkedHashMap<>();
+        Observation observation = Observation.start("blocker.upload.stream-check", observationRegistry);
+        Registered opening = null;
+        try (Observation.Scope scope = observation.openScope()) {
+            for (Registered entry : remaining) {
+                if (entry.inspector.input() == Inspector.Input.STREAM && applies(entry.inspector, context, partial)) {
+                    opening = entry;
+                    Inspector.StreamSink sink = entry.inspector.openStream(context);
+                    if (sink != null) {
+                        entries.add(entry);
+                        sinks.add(sink);
+                        results.put(entry, null);
+                    }
+                }
+            }
+            opening = null;
+            observation.highCardinalityKeyValue("inspectors", String.join(",", names(entries)));
+            if (sinks.isEmpty()) {
+                return results;
+            }
+
+            byte[] prefix = context.prefix();
+            feed(entries, sinks, results, prefix, prefix.length);
+            InputStream rest = context.remainder();
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while (!allDone(sinks) && (read = rest.read(buffer)) > 0) {
+                feed(entries, sinks, results, buffer, read);
+            }
+
+            for (int i = 0; i < sinks.size(); i++) {
+                opening = entries.get(i);
+                results.put(opening, sinks.get(i).finish());
+            }
+            return results;
+        } catch (IOException e) {
+            observation.error(e);
+            throw new InspectionFailure(opening != null ? opening.inspector.name() : "stream", e);
+        } catch (RuntimeException e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    /**
+     * 차단한 수신기와 그 뒤 수신기는 목록에서 뺌 (뒤 수신기는 판정 없음 - 실행 통계에서도 제외)
+     */
+    private static void feed(List<Registered> entries, List<Inspector.StreamSink> sinks,
+                             Map<Registered, String> results, byte[] buffer, int length) throws IOException {
+        for (int i = 0; i < sinks.size(); i++) {
+            Inspector.StreamSink sink = sinks.get(i);
+            if (sink.isDone()) {
+                continue;
+            }
+            String reason = sink.update(buffer, 0, length);
+            if (reason != null) {
+                results.put(entries.get(i), reason);
+                // 이전 버퍼에서 차단해 이미 빠진 뒤쪽 수신기의 결과도 함께 제거
+                List<Registered> later = List.copyOf(results.keySet());
+                later.subList(later.indexOf(entries.get(i)) + 1, later.size()).forEach(results::remove);
+                entries.subList(i, entries.size()).clear();
+                sinks.subList(i, sinks.size()).clear();
+                return;
+            }
+        }
+    }
+
+    private static boolean allDone(List<Inspector.StreamSink> sinks) {
+        for (Inspector.StreamSink sink : sinks) {
+            if (!sink.isDone()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String detect(byte[] prefix, String fileName) {
+        TikaDetectionEvent detection = new TikaDetectionEvent();
+        detection.begin();
+        String detectedMime = tika.detect(prefix, fileName);
+        detection.end();
+        if (detection.shouldCommit()) {
+            detection.fileName = fileName;
+            detection.detectedMime = detectedMime;
+            detection.commit();
+        }
+        log.debug("파일 [{}] 감지된 MIME: {}", fileName, detectedMime);
+        return detectedMime;
+    }
+
+    private List<Registered> sorted() {
+        List<Registered> sorted = new ArrayList<>(registered);
+        sorted.sort(Comparator.<Registered, Inspector.Cost>comparing(r -> r.inspector.cost())
+                .thenComparing(Comparator.comparingDouble(Registered::blockRate).reversed()));
+        return List.copyOf(sorted);
+    }
+
+    private static List<String> names(List<Registered> entries) {
+        return entries.stream().map(r -> r.inspector.name()).toList();
+    }
+
+    private static final class Registered {
+
+        private final Inspector inspector;
+        private final LongAdder runs = new LongAdder();
+        private final LongAdder blocks = new LongAdder();
+
+        private Registered(Inspector inspector) {
+            this.inspector = inspector;
+        }
+
+        private double blockRate() {
+            return (blocks.sum() + 1.0) / (runs.sum() + 2.0);
+        }
+    }
+
+    /**
+     * 검사 중 IOException → 어느 단계에서 실패했는지 함께 전달
+     */
+    private static final class InspectionFailure extends RuntimeException {
+
+        private final String stage;
+
+        private InspectionFailure(String stage, IOException cause) {
+            super(cause);
+            this.stage = stage;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.ghh.blocker.inspection;
+
+import com.ghh.blocker.rule.BlockRuleSnapshot;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 파일 1개 검사 상태 - 검사 간에 공유하는 입력과 중간 결과
+ *
+ * 스트림은 한 번만 엶:
+ *   prefix()      처음 요청 시 앞쪽 PREFIX_BYTES까지 읽어 보관 (MIME 탐지 등 PREFIX 검사 공용)
+ *   remainder()   같은 스트림의 prefix 이후 부분 (STREAM 검사 전부가 공유하는 1회 읽기 - InspectionChain만 사용)
+ * detectedMime()은 처음 요청 시 prefix로 1회 탐지
+ */
+public final class InspectionContext implements Closeable {
+
+    /** Tika 매직 넘버 검사 범위와 같은 크기 */
+    public static final int PREFIX_BYTES = 64 * 1024;
+
+    @FunctionalInterface
+    public interface MimeDetector {
+        String detect(byte[] prefix, String fileName) throws IOException;
+    }
+
+    private final String fileName;
+    private final long size;
+    private final BlockRuleSnapshot rules;
+    private final RandomAccessSource.StreamOpener opener;
+    private final MimeDetector mimeDetector;
+
+    private InputStream stream;
+    private byte[] prefix;
+    private String detectedMime;
+
+    InspectionContext(String fileName, long size, BlockRuleSnapshot rules,
+                      RandomAccessSource.StreamOpener opener, MimeDetector mimeDetector) {
+        this.fileName = fileName;
+        this.size = size;
+        this.rules = rules;
+        this.opener = opener;
+        this.mimeDetector = mimeDetector;
+    }
+
+    public String fileName() {
+        return fileName;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public BlockRuleSnapshot rules() {
+        return rules;
+    }
+
+    /**
+     * 파일 앞부분 (파일이 PREFIX_BYTES보다 작으면 전체) - 수정 금지
+     */
+    public byte[] prefix() throws IOException {
+        if (prefix == null) {
+            stream = opener.open();
+            prefix = stream.readNBytes(PREFIX_BYTES);
+        }
+        return prefix;
+    }
+
+    public String detectedMime() throws IOException {
+        if (detectedMime == null) {
+            detectedMime = mimeDetector.detect(prefix(), fileName);
+        }
+        return detectedMime;
+    }
+
+    /**
+     * 임의 위치 읽기 (읽을 때마다 다시 엶 - 디렉터리만 읽는 검사용, 디스크 업로드는 skip = lseek)
+     */
+    public RandomAccessSource randomAccess() {
+        return RandomAccessSource.of(size, opener);
+    }
+
+    /**
+     * prefix 이후 부분 (prefix가 파일 전체면 빈 스트림) - 파일 1개당 1회만 호출
+     */
+    InputStream remainder() throws IOException {
+        if (prefix().length < PREFIX_BYTES) {
+            return InputStream.nullInputStream();
+        }
+        return stream;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+}
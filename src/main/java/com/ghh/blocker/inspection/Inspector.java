@@ -0,0 +1,91 @@
+package com.ghh.blocker.inspection;
+
+import java.io.IOException;
+
+/**
+ * 업로드 파일 검사 1단계 (SPI) - 빈으로 등록하면 InspectionChain에 포함됨
+ *
+ * 실행 순서:
+ *   cost 오름차순 → 같은 cost끼리는 관측된 차단 비율이 높은 검사 먼저 (InspectionChain이 주기적으로 재정렬)
+ *   처음 차단한 검사에서 종료 → 뒤쪽(비싼) 검사는 실행하지 않음
+ *
+ * 입력:
+ *   NAME           파일명만 (파일을 열지 않음)
+ *   PREFIX         파일 앞부분 (InspectionContext.prefix(), 모든 검사가 같은 바이트 배열 공유)
+ *   STREAM         파일 전체를 순서대로 (openStream의 StreamSink로 받음 - 모든 STREAM 검사가 읽기 1회 공유)
+ *   RANDOM_ACCESS  임의 위치 읽기 (컨테이너 디렉터리 등 일부만 읽는 검사)
+ *
+ * 구현은 input에 맞는 메서드 하나만 재정의 (NAME/PREFIX/RANDOM_ACCESS → inspect, STREAM → openStream)
+ * 나머지 기본 구현은 판정 없음(null)을 돌려줌
+ */
+public interface Inspector {
+
+    enum Cost { TRIVIAL, LOW, MEDIUM, HIGH }
+
+    enum Input { NAME, PREFIX, STREAM, RANDOM_ACCESS }
+
+    /**
+     * 판정 단계 이름 (JFR stage, 추적 span blocker.upload.{name}-check)
+     */
+    String name();
+
+    Cost cost();
+
+    Input input();
+
+    /**
+     * 이 파일에 검사를 적용할지 (설정/규칙으로 꺼진 경우 false → 실행/통계 모두 제외)
+     */
+    default boolean appliesTo(InspectionContext context) {
+        return true;
+    }
+
+    /**
+     * 완성된 파일이 있어야 판정할 수 있는지 (해시, 끝에 디렉터리가 있는 컨테이너 등)
+     * - true면 앞부분만 받은 파일 검사(InspectionChain.inspectPartial)에서 제외
+     */
+    default boolean needsCompleteFile() {
+        return input() == Input.RANDOM_ACCESS;
+    }
+
+    /**
+     * NAME / PREFIX / RANDOM_ACCESS 검사
+     * @return 차단 사유 (통과 시 null)
+     */
+    default String inspect(InspectionContext context) throws IOException {
+        return null;
+    }
+
+    /**
+     * STREAM 검사 - 파일 1개의 바이트를 받을 수신기 (이 파일은 건너뛰면 null)
+     */
+    default StreamSink openStream(InspectionContext context) throws IOException {
+        return null;
+    }
+
+    /**
+     * 공유 스트림 읽기의 수신기 - 파일 앞에서부터 순서대로 호출됨
+     */
+    interface StreamSink {
+
+        /**
+         * @return 차단 사유 (계속 읽으려면 null - 하나라도 차단하면 읽기 중단)
+         */
+        String update(byte[] buffer, int offset, int length) throws IOException;
+
+        /**
+         * 더 받을 필요가 없는지 (모든 수신기가 끝나면 파일 끝까지 읽지 않음)
+         */
+        default boolean isDone() {
+            return false;
+        }
+
+        /**
+         * 읽기가 끝난 뒤 최종 판정
+         * @return 차단 사유 (통과 시 null)
+         */
+        default String finish() throws IOException {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.ghh.blocker.inspection;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Office 문서의 VBA 매크로 탐지 - 압축 해제 없이 컨테이너 디렉터리만 임의 위치 읽기
+ *
+ * OOXML (ZIP):
+ *   파일 끝의 EOCD(+ZIP64) → 중앙 디렉터리 항목 이름만 순회
+ *   vbaProject.bin 또는 xl/macrosheets/ (Excel 4.0 매크로) 가 있으면 매크로 문서
+ *
+ * OLE (CFB, .doc/.xls/.ppt):
+ *   헤더 → FAT 체인을 따라 디렉터리 섹터만 읽어 _VBA_PROJECT / _VBA_PROJECT_CUR 항목 확인
+ *
+ * 읽는 양은 디렉터리 크기에 비례하고 문서 본문(시트, 이미지) 크기와는 무관합니다.
+ */
+public final class MacroDetector {
+
+    /** ExtensionService의 CONTENT 규칙 이름 */
+    public static final String RULE = "vba-macro";
+
+    private static final int ZIP_LOCAL_HEADER = 0x04034b50;
+    private static final int ZIP_CENTRAL_HEADER = 0x02014b50;
+    private static final int ZIP_EOCD = 0x06054b50;
+    private static final int ZIP64_LOCATOR = 0x07064b50;
+    private static final int ZIP64_EOCD = 0x06064b50;
+    private static final int EOCD_MIN = 22;
+    private static final int EOCD_SEARCH = EOCD_MIN + 0xFFFF;
+    private static final int CD_WINDOW = 256 * 1024;
+
+    private static final long OLE_MAGIC = 0xE11AB1A1E011CFD0L;
+    private static final int OLE_HEADER_DIFAT = 109;
+    private static final long OLE_MAX_REGULAR = 0xFFFFFFFAL;
+    private static final int OLE_MAX_DIRECTORY_SECTORS = 4096;
+
+    private MacroDetector() {}
+
+    /**
+     * @return 탐지 내용 (매크로 없음 / 컨테이너 아님이면 null)
+     */
+    public static String detect(RandomAccessSource source) throws IOException {
+        long size = source.size();
+        if (size < 8) {
+            return null;
+        }
+        byte[] magic = new byte[8];
+        source.readFully(0, magic, 0, 8);
+
+        if (u32(magic, 0) == ZIP_LOCAL_HEADER) {
+            return detectZip(source, size);
+        }
+        if (u64(magic, 0) == OLE_MAGIC) {
+            return detectOle(source, size);
+        }
+        return null;
+    }
+
+    // ===== OOXML (ZIP) =====
+
+    private static String detectZip(RandomAccessSource source, long size) throws IOException {
+        int tailLength = (int) Math.min(size, EOCD_SEARCH);
+        long tailStart = size - tailLength;
+        byte[] tail = new byte[tailLength];
+        source.readFully(tailStart, tail, 0, tailLength);
+
+        int eocd = -1;
+        for (int i = tailLength - EOCD_MIN; i >= 0; i--) {
+            if (u32(tail, i) == ZIP_EOCD) {
+                eocd = i;
+                break;
+            }
+        }
+        if (eocd < 0) {
+            throw new IOException("ZIP 중앙 디렉터리 끝(EOCD)을 찾을 수 없습니다.");
+        }
+
+        long cdSize = u32(tail, eocd + 12) & 0xFFFFFFFFL;
+        long cdOffset = u32(tail, eocd + 16) & 0xFFFFFFFFL;
+
+        if (cdOffset == 0xFFFFFFFFL || cdSize == 0xFFFFFFFFL) {
+            long locator = tailStart + eocd - 20;
+            byte[] buf = new byte[56];
+            source.readFully(locator, buf, 0, 20);
+            if (u32(buf, 0) != ZIP64_LOCATOR) {
+                throw new IOException("ZIP64 locator가 없습니다.");
+            }
+            long zip64Eocd = u64(buf, 8);
+            source.readFully(zip64Eocd, buf, 0, 56);
+            if (u32(buf, 0) != ZIP64_EOCD) {
+                throw new IOException("ZIP64 EOCD가 올바르지 않습니다.");
+            }
+            cdSize = u64(buf, 40);
+            cdOffset = u64(buf, 48);
+        }
+        if (cdOffset < 0 || cdSize < 0 || cdOffset + cdSize > size) {
+            throw new IOException("ZIP 중앙 디렉터리 위치가 파일 범위를 벗어납니다.");
+        }
+
+        // 중앙 디렉터리를 고정 크기 창으로 순회 (창에 다 들어오지 않은 항목은 다음 창에서 다시 읽음)
+        byte[] window = new byte[(int) Math.min(CD_WINDOW, cdSize)];
+        long end = cdOffset + cdSize;
+        long position = cdOffset;
+        while (position < end) {
+            int length = (int) Math.min(window.length, end - position);
+            source.readFully(position, window, 0, length);
+
+            int i = 0;
+            while (i + 46 <= length) {
+                if (u32(window, i) != ZIP_CENTRAL_HEADER) {
+                    throw new IOException("ZIP 중앙 디렉터리 항목이 올바르지 않습니다.");
+                }
+                int nameLength = u16(window, i + 28);
+                int entryLength = 46 + nameLength + u16(window, i + 30) + u16(window, i + 32);
+                if (i + 46 + nameLength > length) {
+                    break;
+                }
+                String name = new String(window, i + 46, nameLength, StandardCharsets.UTF_8);
+                if (isMacroEntry(name)) {
+                    return "OOXML 매크로: " + name;
+                }
+                i += entryLength;
+            }
+            if (i == 0) {
+                throw new IOException("ZIP 중앙 디렉터리 항목이 너무 큽니다.");
+            }
+            position += i;
+        }
+        return null;
+    }
+
+    private static boolean isMacroEntry(String name) {
+        String lower = name.toLowerCase(Locale.ROOT);
+        return lower.endsWith("vbaproject.bin") || lower.startsWith("xl/macrosheets/");
+    }
+
+    // ===== OLE (Compound File Binary) =====
+
+    private static String detectOle(RandomAccessSource source, long size) throws IOException {
+        byte[] header = new byte[512];
+        source.readFully(0, header, 0, 512);
+
+        int sectorShift = u16(header, 0x1E);
+        if (sectorShift != 9 && sectorShift != 12) {
+            throw new IOException("OLE 섹터 크기가 올바르지 않습니다.");
+        }
+        Ole ole = new Ole(source, header, sectorShift, size);
+
+        byte[] sector = new byte[ole.sectorSize];
+        long current = u32(header, 0x30) & 0xFFFFFFFFL;
+        for (int visited = 0; current < OLE_MAX_REGULAR; visited++) {
+            if (visited >= OLE_MAX_DIRECTORY_SECTORS) {
+                throw new IOException("OLE 디렉터리 체인이 너무 깁니다.");
+            }
+            source.readFully(ole.offset(current), sector, 0, ole.sectorSize);
+            for (int entry = 0; entry < ole.sectorSize; entry += 128) {
+                int nameLength = u16(sector, entry + 0x40);
+                if (nameLength < 2 || nameLength > 64) {
+                    continue;
+                }
+                String name = new String(sector, entry, nameLength - 2, StandardCharsets.UTF_16LE);
+                if (name.equalsIgnoreCase("_VBA_PROJECT") || name.equalsIgnoreCase("_VBA_PROJECT_CUR")) {
+                    return "OLE 매크로: " + name;
+                }
+            }
+            current = ole.next(current);
+        }
+        return null;
+    }
+
+    /**
+     * FAT 항목을 필요한 것만 읽음 (FAT 전체를 메모리에 올리지 않음)
+     */
+    private static final class Ole {
+        private final RandomAccessSource source;
+        private final byte[] header;
+        private final int sectorShift;
+        private final int sectorSize;
+        private final int entriesPerSector;
+        private final long firstDifatSector;
+        private final long size;
+        private final byte[] word = new byte[4];
+
+        private Ole(RandomAccessSource source, byte[] header, int sectorShift, long size) {
+            this.source = source;
+            this.header = header;
+            this.sectorShift = sectorShift;
+            this.sectorSize = 1 << sectorShift;
+            this.entriesPerSector = sectorSize / 4;
+            this.firstDifatSector = u32(header, 0x44) & 0xFFFFFFFFL;
+            this.size = size;
+        }
+
+        private long offset(long sector) throws IOException {
+            long offset = (sector + 1) << sectorShift;
+            if (offset + sectorSize > size) {
+                throw new IOException("OLE 섹터가 파일 범위를 벗어납니다: " + sector);
+            }
+            return offset;
+        }
+
+        private long next(long sector) throws IOException {
+            long fatSector = difat(sector / entriesPerSector);
+            return readWord(offset(fatSector) + (sector % entriesPerSector) * 4);
+        }
+
+        private long difat(long index) throws IOException {
+            if (index < OLE_HEADER_DIFAT) {
+                return u32(header, 0x4C + (int) index * 4) & 0xFFFFFFFFL;
+            }
+            long k = index - OLE_HEADER_DIFAT;
+            long sector = firstDifatSector;
+            int perSector = entriesPerSector - 1;
+            for (int hops = 0; k >= perSector; hops++) {
+                if (hops >= OLE_MAX_DIRECTORY_SECTORS || sector >= OLE_MAX_REGULAR) {
+                    throw new IOException("OLE DIFAT 체인이 올바르지 않습니다.");
+                }
+                sector = readWord(offset(sector) + (long) perSector * 4);
+                k -= perSector;
+            }
+            return readWord(offset(sector) + k * 4);
+        }
+
+        private long readWord(long position) throws IOException {
+            source.readFully(position, word, 0, 4);
+            return u32(word, 0) & 0xFFFFFFFFL;
+        }
+    }
+
+    // ===== Little-endian =====
+
+    private static int u16(byte[] b, int i) {
+        return (b[i] & 0xFF) | (b[i + 1] & 0xFF) << 8;
+    }
+
+    private static int u32(byte[] b, int i) {
+        return (b[i] & 0xFF) | (b[i + 1] & 0xFF) << 8 | (b[i + 2] & 0xFF) << 16 | (b[i + 3] & 0xFF) << 24;
+    }
+
+    private static long u64(byte[] b, int i) {
+        return (u32(b, i) & 0xFFFFFFFFL) | (long) u32(b, i + 4) << 32;
+    }
+}
@@ -0,0 +1,41 @@
+package com.ghh.blocker.inspection;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * OOXML / OLE 컨테이너의 VBA 매크로 (내용 규칙 vba-macro가 켜져 있을 때만)
+ * - 컨테이너가 아니면 헤더 8바이트만 읽고 통과, 컨테이너면 디렉터리만 임의 위치로 읽음
+ */
+@Component
+@Order(40)
+public class MacroInspector implements Inspector {
+
+    @Override
+    public String name() {
+        return "macro";
+    }
+
+    @Override
+    public Cost cost() {
+        return Cost.MEDIUM;
+    }
+
+    @Override
+    public Input input() {
+        return Input.RANDOM_ACCESS;
+    }
+
+    @Override
+    public boolean appliesTo(InspectionContext context) {
+        return context.rules().blocksContent(MacroDetector.RULE);
+    }
+
+    @Override
+    public String inspect(InspectionContext context) throws IOException {
+        String detected = MacroDetector.detect(context.randomAccess());
+        return detected != null ? "매크로 문서 차단: " + detected : null;
+    }
+}
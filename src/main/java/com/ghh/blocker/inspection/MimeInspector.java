@@ -0,0 +1,52 @@
+package com.ghh.blocker.inspection;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * 실제 바이너리(Magic Number)로 감지한 MIME Type이 차단 중인 확장자에 매핑되는지 (위변조 탐지)
+ * - 단계 이름 content: 기존 판정 단계/추적 span(blocker.upload.content-check) 이름 유지
+ */
+@Component
+@Order(20)
+@RequiredArgsConstructor
+public class MimeInspector implements Inspector {
+
+    private final ObservationRegistry observationRegistry;
+
+    @Override
+    public String name() {
+        return "content";
+    }
+
+    @Override
+    public Cost cost() {
+        return Cost.LOW;
+    }
+
+    @Override
+    public Input input() {
+        return Input.PREFIX;
+    }
+
+    @Override
+    public String inspect(InspectionContext context) throws IOException {
+        String detectedMime = context.detectedMime();
+        Observation current = observationRegistry.getCurrentObservation();
+        if (current != null) {
+            current.highCardinalityKeyValue("mime.detected", detectedMime);
+        }
+
+        // 규칙 변경 시 미리 계산된 MIME → 차단 확장자 (해시 조회 1회)
+        String blockedExtension = context.rules().blockedExtensionForMime(detectedMime);
+        if (blockedExtension != null) {
+            return "MIME 위변조 탐지: 실제 타입: " + detectedMime + " → 차단 확장자: ." + blockedExtension;
+        }
+        return null;
+    }
+}
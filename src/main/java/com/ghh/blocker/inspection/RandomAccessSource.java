@@ -0,0 +1,85 @@
+package com.ghh.blocker.inspection;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * 임의 위치 읽기 - 컨테이너 형식(ZIP, OLE)의 디렉터리만 골라 읽을 때 사용
+ */
+public interface RandomAccessSource {
+
+    long size() throws IOException;
+
+    /**
+     * @return 읽은 바이트 수 (끝이면 -1)
+     */
+    int read(long position, byte[] buffer, int offset, int length) throws IOException;
+
+    default void readFully(long position, byte[] buffer, int offset, int length) throws IOException {
+        int done = 0;
+        while (done < length) {
+            int n = read(position + done, buffer, offset + done, length - done);
+            if (n < 0) {
+                throw new EOFException("위치 " + (position + done) + "에서 파일이 끝났습니다.");
+            }
+            done += n;
+        }
+    }
+
+    static RandomAccessSource of(FileChannel channel) {
+        return new RandomAccessSource() {
+            @Override
+            public long size() throws IOException {
+                return channel.size();
+            }
+
+            @Override
+            public int read(long position, byte[] buffer, int offset, int length) throws IOException {
+                return channel.read(ByteBuffer.wrap(buffer, offset, length), position);
+            }
+        };
+    }
+
+    /**
+     * 다시 열 수 있는 스트림 (MultipartFile 등) - 읽을 때마다 열고 skip
+     * 디스크에 있는 업로드는 FileInputStream이므로 skip = lseek (파일 크기와 무관)
+     */
+    static RandomAccessSource of(long size, StreamOpener opener) {
+        return new RandomAccessSource() {
+            @Override
+            public long size() {
+                return size;
+            }
+
+            @Override
+            public int read(long position, byte[] buffer, int offset, int length) throws IOException {
+                if (position >= size) {
+                    return -1;
+                }
+                try (InputStream in = opener.open()) {
+                    long remaining = position;
+                    while (remaining > 0) {
+                        long skipped = in.skip(remaining);
+                        if (skipped <= 0) {
+                            if (in.read() < 0) {
+                                return -1;
+                            }
+                            skipped = 1;
+                        }
+                        remaining -= skipped;
+                    }
+                    int n = in.readNBytes(buffer, offset, length);
+                    return n == 0 && length > 0 ? -1 : n;
+                }
+            }
+        };
+    }
+
+    @FunctionalInterface
+    interface StreamOpener {
+        InputStream open() throws IOException;
+    }
+}
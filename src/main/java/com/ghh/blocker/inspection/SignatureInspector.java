@@ -0,0 +1,57 @@
+package com.ghh.blocker.inspection;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * 내장 스크립트 시그니처 (Aho-Corasick 단일 패스) - 감지된 MIME이 검사 대상일 때만, 앞쪽 max-bytes까지
+ */
+@Component
+@Order(30)
+@RequiredArgsConstructor
+public class SignatureInspector implements Inspector {
+
+    private final ContentScanner contentScanner;
+
+    @Override
+    public String name() {
+        return "signature";
+    }
+
+    @Override
+    public Cost cost() {
+        return Cost.MEDIUM;
+    }
+
+    @Override
+    public Input input() {
+        return Input.STREAM;
+    }
+
+    @Override
+    public boolean appliesTo(InspectionContext context) {
+        return contentScanner.isEnabled();
+    }
+
+    @Override
+    public StreamSink openStream(InspectionContext context) throws IOException {
+        if (!contentScanner.shouldScan(context.detectedMime())) {
+            return null;
+        }
+        SignatureScanner.Cursor cursor = contentScanner.cursor();
+        return new StreamSink() {
+            @Override
+            public String update(byte[] buffer, int offset, int length) {
+                return ContentScanner.reasonOf(cursor.update(buffer, offset, length));
+            }
+
+            @Override
+            public boolean isDone() {
+                return cursor.isDone();
+            }
+        };
+    }
+}
@@ -0,0 +1,251 @@
+package com.ghh.blocker.inspection;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 다중 시그니처 스트리밍 검색 (Aho-Corasick)
+ *
+ * 구조:
+ *   시그니처 전체로 트라이 + 실패 링크를 만든 뒤, 실패 전이까지 미리 채운 완전 DFA로 변환
+ *   → 입력 바이트마다 테이블 조회 1회 (역추적 없음, 시그니처 수와 무관)
+ *   전이 값은 (다음 상태 × 클래스 수)로 미리 곱해 두고, 출력이 있는 상태로 가는 전이는 비트 반전(~)으로 표시
+ *   → 일치 후보가 없는 바이트는 분기 1개로 통과
+ *
+ * 매칭 규칙:
+ *   - ASCII 대소문자 구분 없음
+ *   - '^'로 시작하는 시그니처는 파일 맨 앞(offset 0)에서만 일치 (예: ^#!/bin/)
+ *
+ * 메모리: 파일당 상태 int 1개 + 읽기 버퍼 (파일 크기와 무관), 검사 범위는 앞쪽 maxBytes까지
+ */
+public final class SignatureScanner {
+
+    private static final char ANCHOR = '^';
+    private static final int BUFFER_SIZE = 8192;
+
+    private final List<Signature> signatures;
+    private final int[] lengths;
+    private final int[] classOf;
+    private final int classCount;
+    /** [상태 × 클래스 수 + 클래스] → 다음 상태 × 클래스 수 (출력 상태면 ~값) */
+    private final int[] delta;
+    /** 이 상태에서 끝나는 시그니처 (없으면 -1) */
+    private final int[] output;
+    /** 실패 링크를 따라가며 만나는 다음 출력 상태 (없으면 -1) */
+    private final int[] outputLink;
+    private final long maxBytes;
+
+    /**
+     * @param name    보고용 이름 (예: PowerShell)
+     * @param pattern 검색 문자열 ('^' 접두사 = 파일 시작 고정)
+     */
+    public record Signature(String name, String pattern) {
+
+        boolean anchored() {
+            return pattern.charAt(0) == ANCHOR;
+        }
+
+        byte[] bytes() {
+            String text = anchored() ? pattern.substring(1) : pattern;
+            return text.toLowerCase().getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * @param signature 일치한 시그니처
+     * @param offset    일치 시작 위치 (바이트)
+     */
+    public record Match(Signature signature, long offset) {}
+
+    public SignatureScanner(List<Signature> signatures, long maxBytes) {
+        this.signatures = List.copyOf(signatures);
+        this.maxBytes = maxBytes;
+
+        // 바이트 → 문자 클래스 (대소문자 통합, 시그니처에 없는 바이트는 클래스 0)
+        byte[][] patterns = new byte[signatures.size()][];
+        this.lengths = new int[patterns.length];
+        int[] classes = new int[256];
+        int count = 1;
+        for (int i = 0; i < patterns.length; i++) {
+            Signature signature = signatures.get(i);
+            if (signature.pattern() == null || signature.pattern().isEmpty()
+                    || (patterns[i] = signature.bytes()).length == 0) {
+                throw new IllegalArgumentException("빈 시그니처: " + signature.name());
+            }
+            lengths[i] = patterns[i].length;
+            for (byte b : patterns[i]) {
+                int v = b & 0xFF;
+                if (classes[v] == 0) {
+                    classes[v] = count++;
+                }
+            }
+        }
+        this.classOf = new int[256];
+        for (int v = 0; v < 256; v++) {
+            int folded = v >= 'A' && v <= 'Z' ? v + ('a' - 'A') : v;
+            classOf[v] = classes[folded];
+        }
+        this.classCount = count;
+
+        // 트라이
+        List<int[]> trie = new ArrayList<>();
+        List<Integer> outputs = new ArrayList<>();
+        trie.add(newRow());
+        outputs.add(-1);
+        for (int i = 0; i < patterns.length; i++) {
+            int state = 0;
+            for (byte b : patterns[i]) {
+                int cls = classOf[b & 0xFF];
+                if (trie.get(state)[cls] < 0) {
+                    trie.get(state)[cls] = trie.size();
+                    trie.add(newRow());
+                    outputs.add(-1);
+                }
+                state = trie.get(state)[cls];
+            }
+            if (outputs.get(state) < 0) {
+                outputs.set(state, i);
+            }
+        }
+
+        // 실패 링크 (BFS) + 완전 DFA
+        int states = trie.size();
+        int[] fail = new int[states];
+        this.delta = new int[states * classCount];
+        this.output = outputs.stream().mapToInt(Integer::intValue).toArray();
+        this.outputLink = new int[states];
+        Arrays.fill(outputLink, -1);
+
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int cls = 0; cls < classCount; cls++) {
+            int next = trie.get(0)[cls];
+            if (next < 0) {
+                delta[cls] = 0;
+            } else {
+                delta[cls] = next;
+                fail[next] = 0;
+                queue.add(next);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            int f = fail[state];
+            outputLink[state] = output[f] >= 0 ? f : outputLink[f];
+            for (int cls = 0; cls < classCount; cls++) {
+                int next = trie.get(state)[cls];
+                if (next < 0) {
+                    delta[state * classCount + cls] = delta[f * classCount + cls];
+                } else {
+                    delta[state * classCount + cls] = next;
+                    fail[next] = delta[f * classCount + cls];
+                    queue.add(next);
+                }
+            }
+        }
+
+        // 전이 값 인코딩 (다음 상태 오프셋, 출력 상태면 비트 반전)
+        for (int i = 0; i < delta.length; i++) {
+            int next = delta[i];
+            boolean emits = output[next] >= 0 || outputLink[next] >= 0;
+            delta[i] = emits ? ~(next * classCount) : next * classCount;
+        }
+    }
+
+    /**
+     * 스트림 앞쪽 maxBytes까지 한 번에 검색
+     * @return 처음 일치한 시그니처 (없으면 null)
+     */
+    public Match scan(InputStream in) throws IOException {
+        Cursor cursor = cursor();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while (!cursor.isDone()
+                && (read = in.read(buffer, 0, (int) Math.min(buffer.length, maxBytes - cursor.position))) > 0) {
+            Match match = cursor.update(buffer, 0, read);
+            if (match != null) {
+                return match;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 바이트를 나눠 받는 검색 (다른 검사와 한 번의 읽기를 공유할 때) - 파일 1개당 1개
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    public final class Cursor {
+
+        private int offset;
+        private long position;
+
+        private Cursor() {}
+
+        /**
+         * 이어지는 바이트 검색 (maxBytes를 넘는 부분은 무시)
+         * @return 처음 일치한 시그니처 (없으면 null)
+         */
+        public Match update(byte[] buffer, int from, int length) {
+            int end = from + (int) Math.min(length, maxBytes - position);
+            // 상태는 지역 변수로 순회 (필드 쓰기는 호출당 1회)
+            int state = offset;
+            for (int i = from; i < end; i++) {
+                state = delta[state + classOf[buffer[i] & 0xFF]];
+                if (state < 0) {
+                    state = ~state;
+                    Match match = matchAt(state / classCount, position + i - from);
+                    if (match != null) {
+                        offset = state;
+                        position += i - from + 1;
+                        return match;
+                    }
+                }
+            }
+            offset = state;
+            position += end - from;
+            return null;
+        }
+
+        /**
+         * 검사 범위(maxBytes)를 다 읽었는지
+         */
+        public boolean isDone() {
+            return position >= maxBytes;
+        }
+    }
+
+    public int getStateCount() {
+        return output.length;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    // ===== Private =====
+
+    private Match matchAt(int state, long end) {
+        for (int s = output[state] >= 0 ? state : outputLink[state]; s >= 0; s = outputLink[s]) {
+            Signature signature = signatures.get(output[s]);
+            long start = end - lengths[output[s]] + 1;
+            if (!signature.anchored() || start == 0) {
+                return new Match(signature, start);
+            }
+        }
+        return null;
+    }
+
+    private int[] newRow() {
+        int[] row = new int[classCount];
+        Arrays.fill(row, -1);
+        return row;
+    }
+}
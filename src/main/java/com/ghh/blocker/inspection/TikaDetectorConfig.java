@@ -0,0 +1,43 @@
+package com.ghh.blocker.inspection;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.tika.Tika;
+import org.apache.tika.config.TikaConfig;
+import org.apache.tika.mime.MimeTypes;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.InputStream;
+
+/**
+ * Tika 탐지기 빈 - 기동 시 한 번 생성 (MIME 레지스트리를 첫 업로드가 아닌 기동 시점에 로딩)
+ *
+ *   config 지정  → 해당 tika-config.xml
+ *   minimal=true → MimeTypes만 (매직 넘버 + 파일명 glob + 텍스트 판별), ServiceLoader 탐색 없음
+ *   minimal=false → new Tika() (클래스패스의 모든 탐지기)
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(TikaProperties.class)
+public class TikaDetectorConfig {
+
+    @Bean
+    public Tika tika(TikaProperties properties) throws Exception {
+        long start = System.nanoTime();
+        Tika tika;
+        if (!properties.config().isBlank()) {
+            try (InputStream in = new DefaultResourceLoader().getResource(properties.config()).getInputStream()) {
+                tika = new Tika(new TikaConfig(in));
+            }
+        } else if (properties.minimal()) {
+            tika = new Tika(MimeTypes.getDefaultMimeTypes());
+        } else {
+            tika = new Tika();
+        }
+        log.info("Tika 탐지기 준비: {} ({}ms)", tika.getDetector().getClass().getSimpleName(),
+                (System.nanoTime() - start) / 1_000_000);
+        return tika;
+    }
+}
@@ -0,0 +1,27 @@
+package com.ghh.blocker.inspection;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Tika MIME 탐지기 설정 (app.tika.*)
+ */
+@ConfigurationProperties(prefix = "app.tika")
+public record TikaProperties(
+
+        /* true: 매직 넘버 + 파일명 glob(MimeTypes)만 사용, false: ServiceLoader 기본 탐지기 체인 */
+        @DefaultValue("true")
+        boolean minimal,
+
+        /* tika-config.xml 위치 (classpath:/file:, 지정 시 minimal보다 우선) */
+        @DefaultValue("")
+        String config,
+
+        /* 기동 시 샘플로 탐지 + 차단 집합 조회를 미리 실행 (끝나기 전까지 readiness DOWN) */
+        @DefaultValue("true")
+        boolean warmupEnabled,
+
+        /* 샘플 전체를 반복할 횟수 */
+        @DefaultValue("200")
+        int warmupIterations
+) {}
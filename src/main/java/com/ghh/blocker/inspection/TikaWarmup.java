@@ -0,0 +1,99 @@
+package com.ghh.blocker.inspection;
+
+import com.ghh.blocker.rule.BlockRuleCache;
+import com.ghh.blocker.rule.BlockRuleSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.tika.Tika;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 기동 시 업로드 검사 경로 예열 (배포 직후 첫 업로드의 클래스 로딩 / JIT 비용 제거)
+ *
+ * 대표 샘플(실행 파일, 문서, 이미지, 스크립트)을 반복해서
+ *   Tika 탐지 → 차단 MIME 집합 조회 → 확장자 오토마톤 판정
+ * 까지 실행합니다.
+ *
+ * readiness:
+ *   ApplicationRunner는 ApplicationReadyEvent 전에 실행되고, Spring Boot는 그 뒤에 ReadinessState를
+ *   ACCEPTING_TRAFFIC으로 바꿈 → 예열이 끝나기 전까지 /actuator/health/readiness 는 OUT_OF_SERVICE
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TikaWarmup implements ApplicationRunner {
+
+    private final Tika tika;
+    private final BlockRuleCache blockRuleCache;
+    private final TikaProperties properties;
+
+    private volatile boolean completed;
+
+    private record Sample(String fileName, byte[] content) {}
+
+    private static final List<Sample> SAMPLES = List.of(
+            new Sample("setup.exe", bytes(0x4D, 0x5A, 0x90, 0x00, 0x03, 0x00, 0x00, 0x00)),
+            new Sample("photo.jpg", bytes(0x4D, 0x5A, 0x90, 0x00)),
+            new Sample("run", bytes(0x7F, 0x45, 0x4C, 0x46, 0x02, 0x01, 0x01, 0x00)),
+            new Sample("report.pdf", text("%PDF-1.7\n%âã\n1 0 obj\n")),
+            new Sample("image.png", bytes(0x89, 0x50, 0x4E, 0x47, 0x0D, 0x0A, 0x1A, 0x0A, 0x00, 0x00, 0x00, 0x0D)),
+            new Sample("image.jpg", bytes(0xFF, 0xD8, 0xFF, 0xE0, 0x00, 0x10, 0x4A, 0x46, 0x49, 0x46, 0x00)),
+            new Sample("anim.gif", text("GIF89a\u0001\u0000\u0001\u0000")),
+            new Sample("archive.zip", bytes(0x50, 0x4B, 0x03, 0x04, 0x14, 0x00, 0x00, 0x00, 0x08, 0x00)),
+            new Sample("legacy.doc", bytes(0xD0, 0xCF, 0x11, 0xE0, 0xA1, 0xB1, 0x1A, 0xE1, 0x00, 0x00)),
+            new Sample("notes.txt", text("plain text notes for warm-up\n")),
+            new Sample("install.sh", text("#!/bin/sh\necho warm-up\n")),
+            new Sample("page.html", text("<!DOCTYPE html><html><head><title>w</title></head></html>"))
+    );
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.warmupEnabled()) {
+            completed = true;
+            return;
+        }
+        long start = System.nanoTime();
+        int detections = 0;
+        try {
+            for (int i = 0; i < properties.warmupIterations(); i++) {
+                // 매 반복마다 현재 스냅샷 사용 (기동 중 규칙 갱신과 무관하게 같은 경로)
+                BlockRuleSnapshot rules = blockRuleCache.current();
+                for (Sample sample : SAMPLES) {
+                    String mime = tika.detect(new ByteArrayInputStream(sample.content()), sample.fileName());
+                    rules.blockedExtensionForMime(mime);
+                    rules.match(sample.fileName());
+                    detections++;
+                }
+            }
+            log.info("업로드 검사 예열 완료: 탐지 {}회 ({}ms)", detections, (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException | RuntimeException e) {
+            // 예열 실패로 기동을 막지는 않음 (첫 요청이 느려질 뿐)
+            log.warn("업로드 검사 예열 실패 - 건너뜀: {}", e.getMessage());
+        } finally {
+            completed = true;
+        }
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    private static byte[] bytes(int... values) {
+        byte[] result = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = (byte) values[i];
+        }
+        return result;
+    }
+
+    private static byte[] text(String value) {
+        return value.getBytes(StandardCharsets.ISO_8859_1);
+    }
+}
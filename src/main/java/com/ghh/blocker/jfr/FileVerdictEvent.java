@@ -0,0 +1,43 @@
+package com.ghh.blocker.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 업로드 파일 1개의 판정 (duration = 확장자 ~ 매크로 검사 전체)
+ */
+@Name("com.ghh.blocker.FileVerdict")
+@Label("File Verdict")
+@Category({"Blocker", "Upload"})
+@Description("업로드 파일 1개의 검증 결과")
+@StackTrace(false)
+public class FileVerdictEvent extends jdk.jfr.Event {
+
+    @Label("File Name")
+    public String fileName;
+
+    @Label("Extension")
+    public String extension;
+
+    @Label("Declared MIME")
+    @Description("클라이언트가 보낸 Content-Type (실제 탐지 결과는 Tika Detection 이벤트)")
+    public String declaredMime;
+
+    @Label("Size")
+    @DataAmount
+    public long size;
+
+    @Label("Allowed")
+    public boolean allowed;
+
+    @Label("Stage")
+    @Description("차단한 검사 단계 (extension / content / hash / macro, 통과 시 null)")
+    public String stage;
+
+    @Label("Reason")
+    public String reason;
+}
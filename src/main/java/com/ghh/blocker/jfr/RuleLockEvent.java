@@ -0,0 +1,18 @@
+package com.ghh.blocker.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * ExtensionService 쓰기 락 획득 (duration = 락 대기 시간: JVM 모니터 + 규칙 버전 행 잠금)
+ * - 스택 트레이스 기본 포함 → 어느 API가 기다렸는지 확인 가능
+ */
+@Name("com.ghh.blocker.RuleLock")
+@Label("Rule Write Lock")
+@Category({"Blocker", "Rules"})
+public class RuleLockEvent extends jdk.jfr.Event {
+
+    @Label("Operation")
+    public String operation;
+}
@@ -0,0 +1,28 @@
+package com.ghh.blocker.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 규칙 스냅샷 재적재 (duration = DB 조회 + 오토마톤 컴파일)
+ */
+@Name("com.ghh.blocker.RuleReload")
+@Label("Rule Reload")
+@Category({"Blocker", "Rules"})
+@StackTrace(false)
+public class RuleReloadEvent extends jdk.jfr.Event {
+
+    @Label("Rules")
+    public int rules;
+
+    @Label("Automaton States")
+    public int automatonStates;
+
+    @Label("Blocked MIME Types")
+    public int blockedMimeTypes;
+
+    @Label("Failed")
+    public boolean failed;
+}
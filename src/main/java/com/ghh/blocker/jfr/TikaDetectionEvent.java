@@ -0,0 +1,22 @@
+package com.ghh.blocker.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Tika MIME 탐지 1회 (duration = detect 호출 시간, 동시 실행 제한 대기 제외)
+ */
+@Name("com.ghh.blocker.TikaDetection")
+@Label("Tika Detection")
+@Category({"Blocker", "Upload"})
+@StackTrace(false)
+public class TikaDetectionEvent extends jdk.jfr.Event {
+
+    @Label("File Name")
+    public String fileName;
+
+    @Label("Detected MIME")
+    public String detectedMime;
+}
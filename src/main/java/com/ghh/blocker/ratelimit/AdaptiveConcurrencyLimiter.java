@@ -0,0 +1,184 @@
+package com.ghh.blocker.ratelimit;
+
+import com.ghh.blocker.exception.ServiceOverloadedException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 지연 시간 기반 적응형 동시 실행 제한 (TCP Vegas 방식)
+ *
+ * 한도 조정:
+ *   queue = limit × (1 - minRtt / rtt)   … 지연 증가분으로 추정한 대기열 길이
+ *   queue < alpha → limit + 1 (여유 있음, 한도의 절반 이상 사용 중일 때만)
+ *   queue > beta  → limit - 1 (포화, 지연 증가)
+ *   minRtt는 일정 샘플마다 재측정하여 기준 지연의 변화를 따라감
+ *
+ * 대기열:
+ *   한도 초과 요청은 최대 maxQueue개까지 maxWait 동안 대기,
+ *   대기열이 가득 차거나 시간이 지나면 즉시 ServiceOverloadedException (→ 503)
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final int MIN_RTT_RESET_SAMPLES = 1000;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int maxQueue;
+    private final long maxWaitNanos;
+    private final double alpha;
+    private final double beta;
+    private final LongSupplier nanoClock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+
+    private int limit;
+    private int inFlight;
+    private int queued;
+    private long shed;
+    private long minRttNanos = Long.MAX_VALUE;
+    private int samplesSinceReset;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                      int maxQueue, long maxWaitMillis) {
+        this(initialLimit, minLimit, maxLimit, maxQueue, maxWaitMillis, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                               int maxQueue, long maxWaitMillis, LongSupplier nanoClock) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("1 <= minLimit <= maxLimit 이어야 합니다.");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.maxQueue = maxQueue;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.alpha = 3;
+        this.beta = 6;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 실행 슬롯 획득
+     * @return 시작 시각(ns) - release()에 그대로 전달
+     */
+    public long acquire() {
+        lock.lock();
+        try {
+            if (inFlight < limit) {
+                inFlight++;
+                return nanoClock.getAsLong();
+            }
+            if (queued >= maxQueue) {
+                throw shedLocked();
+            }
+
+            queued++;
+            try {
+                long remaining = maxWaitNanos;
+                while (inFlight >= limit) {
+                    if (remaining <= 0) {
+                        throw shedLocked();
+                    }
+                    remaining = available.awaitNanos(remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw shedLocked();
+            } finally {
+                queued--;
+            }
+            inFlight++;
+            return nanoClock.getAsLong();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 실행 슬롯 반환 + 관측 지연으로 한도 조정
+     */
+    public void release(long startNanos) {
+        long rtt = Math.max(1, nanoClock.getAsLong() - startNanos);
+        lock.lock();
+        try {
+            int previousLimit = limit;
+            adjustLimit(rtt, inFlight);
+            inFlight--;
+            if (limit > previousLimit) {
+                available.signalAll();
+            } else if (inFlight < limit) {
+                available.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getQueued() {
+        lock.lock();
+        try {
+            return queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getShed() {
+        lock.lock();
+        try {
+            return shed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ===== Private =====
+
+    /**
+     * @param observedInFlight 이 요청이 끝나기 직전의 동시 실행 수
+     *                         (한도의 절반도 쓰지 않는 상태에서는 늘리지 않음)
+     */
+    private void adjustLimit(long rtt, int observedInFlight) {
+        if (++samplesSinceReset >= MIN_RTT_RESET_SAMPLES) {
+            samplesSinceReset = 0;
+            minRttNanos = rtt;
+        } else if (rtt < minRttNanos) {
+            minRttNanos = rtt;
+        }
+
+        double queue = limit * (1.0 - (double) minRttNanos / rtt);
+        if (queue < alpha && observedInFlight * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        } else if (queue > beta) {
+            limit = Math.max(minLimit, limit - 1);
+        }
+    }
+
+    private ServiceOverloadedException shedLocked() {
+        shed++;
+        return new ServiceOverloadedException("검사 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
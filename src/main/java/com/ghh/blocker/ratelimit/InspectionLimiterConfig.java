@@ -0,0 +1,47 @@
+package com.ghh.blocker.ratelimit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 파일 내용 검사(Tika)의 적응형 동시 실행 제한
+ *
+ * 메트릭:
+ *   blocker.inspection.limit     현재 동시 실행 한도
+ *   blocker.inspection.inflight  실행 중인 검사 수
+ *   blocker.inspection.queued    대기 중인 검사 수
+ *   blocker.inspection.shed      거부(503)된 검사 수
+ */
+@Configuration
+public class InspectionLimiterConfig {
+
+    @Bean
+    public AdaptiveConcurrencyLimiter inspectionLimiter(
+            @Value("${app.inspection-limit.initial-limit:8}") int initialLimit,
+            @Value("${app.inspection-limit.min-limit:1}") int minLimit,
+            @Value("${app.inspection-limit.max-limit:64}") int maxLimit,
+            @Value("${app.inspection-limit.max-queue:32}") int maxQueue,
+            @Value("${app.inspection-limit.max-wait-ms:500}") long maxWaitMillis,
+            MeterRegistry meterRegistry) {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                initialLimit, minLimit, maxLimit, maxQueue, maxWaitMillis);
+
+        Gauge.builder("blocker.inspection.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("검사 동시 실행 한도")
+                .register(meterRegistry);
+        Gauge.builder("blocker.inspection.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("실행 중인 검사 수")
+                .register(meterRegistry);
+        Gauge.builder("blocker.inspection.queued", limiter, AdaptiveConcurrencyLimiter::getQueued)
+                .description("대기 중인 검사 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("blocker.inspection.shed", limiter, AdaptiveConcurrencyLimiter::getShed)
+                .description("과부하로 거부된 검사 수")
+                .register(meterRegistry);
+        return limiter;
+    }
+}
@@ -0,0 +1,71 @@
+package com.ghh.blocker.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 그룹별 요청 제한 인터셉터 등록 (app.rate-limit.enabled=false면 등록하지 않음)
+ * - 빈 조건이 아니라 등록 시점에 확인 → AOT 실행에서도 실행 시 설정을 따름
+ *
+ * 메트릭:
+ *   blocker.ratelimit.throttled{group}  거부된 요청 수
+ *   blocker.ratelimit.keys{group}       추적 중인 클라이언트 키 수
+ */
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig implements WebMvcConfigurer {
+
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final List<TokenBucketRateLimiter> limiters = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (!properties.enabled()) {
+            return;
+        }
+        properties.groups().forEach((name, group) -> {
+            TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(
+                    group.capacity(), group.refillPerSecond(),
+                    properties.maxKeys(), properties.overflowStripes());
+            limiters.add(limiter);
+
+            Counter throttled = Counter.builder("blocker.ratelimit.throttled")
+                    .description("요청 제한으로 거부된 요청 수")
+                    .tag("group", name)
+                    .register(meterRegistry);
+            Gauge.builder("blocker.ratelimit.keys", limiter, TokenBucketRateLimiter::size)
+                    .description("추적 중인 클라이언트 키 수")
+                    .tag("group", name)
+                    .register(meterRegistry);
+
+            Set<String> methods = new HashSet<>();
+            group.methods().forEach(method -> methods.add(method.toUpperCase()));
+
+            registry.addInterceptor(new RateLimitInterceptor(
+                            name, methods, properties.keyHeader(), properties.trustedHops(), limiter, throttled))
+                    .addPathPatterns(group.paths());
+        });
+    }
+
+    /**
+     * 유휴 버킷 정리 (요청 경로에서 맵 전체를 훑지 않도록 스케줄러 스레드에서만)
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limit.sweep-interval-ms:1000}")
+    public void sweepIdleBuckets() {
+        limiters.forEach(TokenBucketRateLimiter::sweepIdle);
+    }
+}
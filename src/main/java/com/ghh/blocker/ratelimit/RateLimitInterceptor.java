@@ -0,0 +1,84 @@
+package com.ghh.blocker.ratelimit;
+
+import com.ghh.blocker.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔드포인트 그룹 1개에 대한 요청 제한
+ * - 거부 시 RateLimitExceededException → 429 + Retry-After (GlobalExceptionHandler)
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final String group;
+    private final Set<String> methods;
+    private final String keyHeader;
+    private final int trustedHops;
+    private final TokenBucketRateLimiter limiter;
+    private final Counter throttled;
+
+    public RateLimitInterceptor(String group, Set<String> methods, String keyHeader, int trustedHops,
+                                TokenBucketRateLimiter limiter, Counter throttled) {
+        if (trustedHops < 1) {
+            throw new IllegalArgumentException("app.rate-limit.trusted-hops는 1 이상이어야 합니다.");
+        }
+        this.group = group;
+        this.methods = methods;
+        this.keyHeader = keyHeader;
+        this.trustedHops = trustedHops;
+        this.limiter = limiter;
+        this.throttled = throttled;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!methods.isEmpty() && !methods.contains(request.getMethod())) {
+            return true;
+        }
+
+        long waitNanos = limiter.tryAcquire(clientKey(request));
+        if (waitNanos == 0) {
+            return true;
+        }
+
+        throttled.increment();
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        throw new RateLimitExceededException(
+                "요청이 너무 많습니다. " + retryAfterSeconds + "초 후 다시 시도해주세요. (" + group + ")",
+                retryAfterSeconds);
+    }
+
+    /**
+     * key-header가 있으면 오른쪽에서 trustedHops번째 항목 (신뢰 프록시가 덧붙인 값)
+     * - 왼쪽 항목은 클라이언트가 보낸 값이라 요청마다 바꿔 버킷을 피할 수 있음
+     * - 항목이 trustedHops개보다 적으면(프록시를 거치지 않은 요청) 접속 IP
+     */
+    String clientKey(HttpServletRequest request) {
+        if (!keyHeader.isEmpty()) {
+            String value = request.getHeader(keyHeader);
+            if (value != null) {
+                int end = value.length();
+                for (int hop = 1; hop <= trustedHops; hop++) {
+                    int comma = value.lastIndexOf(',', end - 1);
+                    if (hop == trustedHops) {
+                        String entry = value.substring(comma + 1, end).trim();
+                        if (!entry.isEmpty()) {
+                            return entry;
+                        }
+                        break;
+                    }
+                    if (comma < 0) {
+                        break;
+                    }
+                    end = comma;
+                }
+            }
+        }
+        return request.getRemoteAddr();
+    }
+}
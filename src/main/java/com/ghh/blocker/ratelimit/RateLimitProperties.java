@@ -0,0 +1,43 @@
+package com.ghh.blocker.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 엔드포인트 그룹별 요청 제한 설정 (app.rate-limit.*)
+ */
+@ConfigurationProperties(prefix = "app.rate-limit")
+public record RateLimitProperties(
+
+        @DefaultValue("true")
+        boolean enabled,
+
+        /* 클라이언트 키로 쓸 헤더 (예: X-Forwarded-For). 비어 있으면 접속 IP 사용 */
+        @DefaultValue("")
+        String keyHeader,
+
+        /* key-header에 주소를 덧붙이는 신뢰 프록시 수 → 오른쪽에서 이 순번의 항목이 클라이언트 (왼쪽은 클라이언트가 위조 가능) */
+        @DefaultValue("1")
+        int trustedHops,
+
+        /* 그룹당 추적할 최대 클라이언트 키 수 */
+        @DefaultValue("100000")
+        int maxKeys,
+
+        /* 키 한도 초과 시 공유할 스트라이프 버킷 수 */
+        @DefaultValue("1024")
+        int overflowStripes,
+
+        @DefaultValue
+        Map<String, Group> groups
+) {
+    public record Group(
+            List<String> paths,
+            @DefaultValue List<String> methods,
+            int capacity,
+            double refillPerSecond
+    ) {}
+}
@@ -0,0 +1,115 @@
+package com.ghh.blocker.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 클라이언트 키별 토큰 버킷 (GCRA 방식, lock-free)
+ *
+ * 버킷 상태를 "이론적 도착 시각(TAT)" long 하나로 표현합니다.
+ *   - 요청 1개 = 토큰 1개 = emissionInterval 만큼 TAT 전진
+ *   - TAT - now <= burstTolerance 이면 허용 (capacity 만큼 연속 허용)
+ *   - 허용 경로 비용: Map 조회 1회 + CAS 1회, 할당 없음 (키가 이미 있을 때)
+ *
+ * 메모리 제한:
+ *   - TAT <= now 인 키는 "가득 찬 버킷"과 동일하므로 삭제해도 동작이 같음 → sweepIdle()로 주기적으로 정리
+ *   - 한도에 도달하면 새 키는 고정 크기 스트라이프(해시 공유 버킷)로 대체 → 요청 경로는 항상 O(1)
+ *     (키를 대량으로 바꿔 보내도 요청 스레드가 맵 전체를 훑지 않음)
+ */
+public class TokenBucketRateLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final int maxKeys;
+    private final LongSupplier nanoClock;
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLongArray overflowStripes;
+
+    public TokenBucketRateLimiter(int capacity, double refillPerSecond, int maxKeys, int overflowStripes) {
+        this(capacity, refillPerSecond, maxKeys, overflowStripes, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(int capacity, double refillPerSecond, int maxKeys, int overflowStripes,
+                           LongSupplier nanoClock) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity >= 1, refillPerSecond > 0 이어야 합니다.");
+        }
+        this.emissionIntervalNanos = (long) (1_000_000_000L / refillPerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1);
+        this.maxKeys = maxKeys;
+        this.overflowStripes = new AtomicLongArray(Integer.highestOneBit(Math.max(1, overflowStripes - 1)) << 1);
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @return 0이면 허용, 양수면 거부 + 다음 토큰까지 남은 시간(ns)
+     */
+    public long tryAcquire(String key) {
+        long now = nanoClock.getAsLong();
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = newBucket(key, now);
+        }
+        if (bucket != null) {
+            return acquire(bucket, now);
+        }
+        return acquireStripe(key.hashCode(), now);
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    /**
+     * 가득 찬(유휴) 버킷 정리 - 스케줄러 스레드에서 호출 (RateLimitConfig)
+     */
+    public void sweepIdle() {
+        long now = nanoClock.getAsLong();
+        buckets.values().removeIf(bucket -> bucket.get() <= now);
+    }
+
+    // ===== Private =====
+
+    private long acquire(AtomicLong bucket, long now) {
+        while (true) {
+            long tat = bucket.get();
+            long base = Math.max(tat, now);
+            long waitNanos = base - now - burstToleranceNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (bucket.compareAndSet(tat, base + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    private long acquireStripe(int hash, long now) {
+        int index = (hash ^ (hash >>> 16)) & (overflowStripes.length() - 1);
+        while (true) {
+            long tat = overflowStripes.get(index);
+            long base = Math.max(tat, now);
+            long waitNanos = base - now - burstToleranceNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (overflowStripes.compareAndSet(index, tat, base + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 새 키 등록 - 한도에 도달했으면 null (→ 스트라이프 사용, 정리는 sweepIdle이 담당)
+     */
+    private AtomicLong newBucket(String key, long now) {
+        if (buckets.size() >= maxKeys) {
+            return null;
+        }
+        return buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+    }
+}
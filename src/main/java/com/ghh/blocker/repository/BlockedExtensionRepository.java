@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,17 +17,67 @@ public interface BlockedExtensionRepository extends JpaRepository<BlockedExtensi
 
     boolean existsByExtension(String extension);
 
+    @Query("SELECT b.extension FROM BlockedExtension b WHERE b.extension IN :extensions")
+    List<String> findExistingExtensions(@Param("extensions") Collection<String> extensions);
+
     List<BlockedExtension> findByTypeOrderByCreatedAtDesc(ExtensionType type);
 
+    List<BlockedExtension> findByExtensionIn(Collection<String> extensions);
+
+    @Query("SELECT b.extension FROM BlockedExtension b WHERE b.type = :type")
+    List<String> findExtensionsByType(@Param("type") ExtensionType type);
+
     List<BlockedExtension> findByBlockedTrue();
 
+    /**
+     * 차단 중인 확장자 규칙 문자열 (EXACT → GLOB 순, 판정 사유 우선순위)
+     */
+    @Query("SELECT b.extension FROM BlockedExtension b WHERE b.blocked = true"
+            + " AND b.type <> com.ghh.blocker.domain.ExtensionType.CONTENT ORDER BY b.matchType, b.extension")
+    List<String> findBlockedRules();
+
+    /**
+     * 차단 중인 내용 규칙 이름 (vba-macro 등)
+     */
+    @Query("SELECT b.extension FROM BlockedExtension b WHERE b.blocked = true"
+            + " AND b.type = com.ghh.blocker.domain.ExtensionType.CONTENT")
+    List<String> findBlockedContentRules();
+
     long countByType(ExtensionType type);
 
     @Modifying(clearAutomatically = true)
     @Query("UPDATE BlockedExtension b SET b.blocked = :blocked, b.version = b.version + 1 WHERE b.type = :type")
     int bulkUpdateBlockedByType(@Param("type") ExtensionType type, @Param("blocked") boolean blocked);
 
+    /**
+     * 고정 확장자 여러 개를 UPDATE 1회로 반영 (조회/버전 검사 없음 → 동시 요청은 나중 커밋이 우선)
+     * @param extensions 변경할 고정 확장자 전체
+     * @param blocked    그중 차단으로 바꿀 확장자 (나머지는 허용)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE BlockedExtension b SET b.blocked = CASE WHEN b.extension IN :blocked THEN true ELSE false END,"
+            + " b.version = b.version + 1"
+            + " WHERE b.type = com.ghh.blocker.domain.ExtensionType.FIXED AND b.extension IN :extensions")
+    int batchUpdateFixed(@Param("extensions") Collection<String> extensions,
+                         @Param("blocked") Collection<String> blocked);
+
     @Modifying(clearAutomatically = true)
     @Query("DELETE FROM BlockedExtension b WHERE b.type = :type")
     int deleteAllByType(@Param("type") ExtensionType type);
+
+    /**
+     * id 목록의 커스텀 확장자를 DELETE 1회로 삭제하고 삭제된 행 반환 (PostgreSQL RETURNING)
+     * - 없는 id, 고정/내용 규칙 id는 조건에서 걸러져 그대로 남음
+     */
+    @Query(value = "DELETE FROM blocked_extension WHERE type = 'CUSTOM' AND id IN (:ids) RETURNING *",
+            nativeQuery = true)
+    List<BlockedExtension> deleteCustomByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * prefix로 시작하는 커스텀 확장자를 DELETE 1회로 삭제하고 삭제된 행 반환
+     * - prefix에 LIKE 특수문자(%, _)가 없어야 함 (확장자 형식 검증으로 보장)
+     */
+    @Query(value = "DELETE FROM blocked_extension WHERE type = 'CUSTOM' AND extension LIKE :prefix || '%' RETURNING *",
+            nativeQuery = true)
+    List<BlockedExtension> deleteCustomByPrefix(@Param("prefix") String prefix);
 }
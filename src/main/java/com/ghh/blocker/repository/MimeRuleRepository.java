@@ -0,0 +1,13 @@
+package com.ghh.blocker.repository;
+
+import com.ghh.blocker.domain.MimeRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface MimeRuleRepository extends JpaRepository<MimeRule, Long> {
+
+    boolean existsByMimeTypeAndExtension(String mimeType, String extension);
+
+    List<MimeRule> findAllByOrderByMimeTypeAscExtensionAsc();
+}
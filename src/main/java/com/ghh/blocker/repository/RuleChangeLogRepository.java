@@ -0,0 +1,21 @@
+package com.ghh.blocker.repository;
+
+import com.ghh.blocker.domain.RuleChangeLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface RuleChangeLogRepository extends JpaRepository<RuleChangeLog, Long> {
+
+    List<RuleChangeLog> findByVersionGreaterThanOrderByVersionAscIdAsc(long version);
+
+    /**
+     * 보관 범위 밖의 기록 삭제 (그보다 뒤처진 구독자는 스냅샷으로 다시 동기화)
+     */
+    @Modifying
+    @Query("DELETE FROM RuleChangeLog l WHERE l.version <= :version")
+    int deleteUpTo(@Param("version") long version);
+}
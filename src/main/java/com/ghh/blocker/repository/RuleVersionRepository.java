@@ -0,0 +1,33 @@
+package com.ghh.blocker.repository;
+
+import com.ghh.blocker.domain.RuleVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Optional;
+
+public interface RuleVersionRepository extends JpaRepository<RuleVersion, Integer> {
+
+    /**
+     * 버전 1 증가 (행이 없으면 생성) - 행 잠금은 트랜잭션 커밋까지 유지
+     * - 같은 트랜잭션에서 바꾼 엔티티를 먼저 flush (변경 기록이 변경 후 상태를 읽도록)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO rule_version (id, version) VALUES (1, 1)"
+            + " ON CONFLICT (id) DO UPDATE SET version = rule_version.version + 1", nativeQuery = true)
+    int increment();
+
+    /**
+     * 규칙 쓰기 잠금 - 버전은 그대로 두고 행 잠금만 획득 (행이 없으면 버전 0으로 생성)
+     * - 커밋/롤백까지 유지 → 다른 인스턴스의 규칙 쓰기 트랜잭션은 여기서 대기
+     * - SELECT ... FOR UPDATE는 행이 없을 때(최초 쓰기) 잠글 대상이 없으므로 UPSERT 사용
+     */
+    @Modifying
+    @Query(value = "INSERT INTO rule_version (id, version) VALUES (1, 0)"
+            + " ON CONFLICT (id) DO UPDATE SET version = rule_version.version", nativeQuery = true)
+    int lock();
+
+    @Query("SELECT v.version FROM RuleVersion v WHERE v.id = " + RuleVersion.ID)
+    Optional<Long> findCurrent();
+}
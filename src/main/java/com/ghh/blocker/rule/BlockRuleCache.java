@@ -0,0 +1,145 @@
+package com.ghh.blocker.rule;
+
+import com.ghh.blocker.event.RuleChangedEvent;
+import com.ghh.blocker.domain.MimeRule;
+import com.ghh.blocker.jfr.RuleReloadEvent;
+import com.ghh.blocker.repository.BlockedExtensionRepository;
+import com.ghh.blocker.repository.MimeRuleRepository;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 차단 규칙 스냅샷 캐시 - 업로드마다 DB를 조회하지 않고 컴파일된 DFA로 판정
+ * - 확장자 규칙, 내용 규칙, MIME 규칙을 같은 트랜잭션에서 읽어 하나의 스냅샷으로 교체 (둘이 어긋나는 순간 없음)
+ *
+ * 갱신 시점:
+ *   - RuleChangedEvent 커밋 이후 (이 인스턴스의 변경)
+ *   - refresh-interval-ms 주기 (다른 인스턴스의 변경)
+ *   - 최초 사용 시 (컨텍스트 refresh 중에는 DB를 조회하지 않음)
+ *
+ * 조회는 REQUIRES_NEW + 쓰기 트랜잭션 → 커밋 직후에도 프라이머리에서 읽음 (레플리카 지연 회피)
+ */
+@Slf4j
+@Component
+public class BlockRuleCache {
+
+    private final BlockedExtensionRepository repository;
+    private final MimeRuleRepository mimeRuleRepository;
+    private final TransactionTemplate loadTemplate;
+    private final int maxAutomatonStates;
+    private final ObservationRegistry observationRegistry;
+
+    private volatile BlockRuleSnapshot snapshot;
+
+    public BlockRuleCache(BlockedExtensionRepository repository,
+                          MimeRuleRepository mimeRuleRepository,
+                          PlatformTransactionManager transactionManager,
+                          ObservationRegistry observationRegistry,
+                          @Value("${app.rules.max-automaton-states:10000}") int maxAutomatonStates) {
+        this.repository = repository;
+        this.mimeRuleRepository = mimeRuleRepository;
+        this.loadTemplate = new TransactionTemplate(transactionManager);
+        this.loadTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxAutomatonStates = maxAutomatonStates;
+        this.observationRegistry = observationRegistry;
+    }
+
+    public BlockRuleSnapshot current() {
+        BlockRuleSnapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = refresh();
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 규칙 목록을 컴파일만 해봄 (상태 수 상한 초과 시 IllegalArgumentException)
+     * - 규칙 추가 트랜잭션 안에서 커밋 전에 검증하는 용도
+     */
+    public BlockRuleSnapshot compile(List<String> rules) {
+        return BlockRuleSnapshot.compile(rules, List.of(), List.of(), maxAutomatonStates);
+    }
+
+    /**
+     * 캐시와 별개로 규칙 전체를 컴파일 (규칙 번들 내보내기 - 호출자 트랜잭션에서 읽은 규칙)
+     */
+    public BlockRuleSnapshot compile(List<String> rules, List<String> contentRules, List<MimeRule> mimeRules) {
+        return BlockRuleSnapshot.compile(rules, contentRules, mimeRules, maxAutomatonStates);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRuleChanged(RuleChangedEvent event) {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${app.rules.refresh-interval-ms:30000}")
+    public void scheduledRefresh() {
+        if (snapshot != null) {
+            refresh();
+        }
+    }
+
+    /**
+     * DB 조회 + 컴파일 + 교체를 직렬화 → 늦게 읽은 결과가 항상 나중에 반영됨
+     * 컴파일 실패 시 기존 스냅샷 유지 (규칙 추가 시 검증하므로 정상 경로에서는 발생하지 않음)
+     */
+    public synchronized BlockRuleSnapshot refresh() {
+        return Observation.createNotStarted("blocker.rules.refresh", observationRegistry)
+                .observe(this::load);
+    }
+
+    private BlockRuleSnapshot load() {
+        RuleReloadEvent event = new RuleReloadEvent();
+        event.begin();
+        RuleRows rows = loadTemplate.execute(status ->
+                new RuleRows(repository.findBlockedRules(), repository.findBlockedContentRules(),
+                        mimeRuleRepository.findAllByOrderByMimeTypeAscExtensionAsc()));
+        try {
+            BlockRuleSnapshot compiled = BlockRuleSnapshot.compile(
+                    rows.rules(), rows.contentRules(), rows.mimeRules(), maxAutomatonStates);
+            snapshot = compiled;
+            log.debug("차단 규칙 갱신: {}개 규칙, {}개 상태, 차단 MIME {}개",
+                    rows.rules().size(), compiled.automaton().getStateCount(), compiled.blockedMimeTypes().size());
+            commit(event, rows, compiled);
+            return compiled;
+        } catch (IllegalArgumentException e) {
+            commit(event, rows, null);
+            if (snapshot == null) {
+                throw e;
+            }
+            log.error("차단 규칙 컴파일 실패 - 기존 규칙 유지: {}", e.getMessage());
+            return snapshot;
+        }
+    }
+
+    private static void commit(RuleReloadEvent event, RuleRows rows, BlockRuleSnapshot compiled) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.rules = rows.rules().size();
+            event.failed = compiled == null;
+            if (compiled != null) {
+                event.automatonStates = compiled.automaton().getStateCount();
+                event.blockedMimeTypes = compiled.blockedMimeTypes().size();
+            }
+            event.commit();
+        }
+    }
+
+    private record RuleRows(List<String> rules, List<String> contentRules, List<MimeRule> mimeRules) {
+    }
+}
@@ -0,0 +1,74 @@
+package com.ghh.blocker.rule;
+
+import com.ghh.blocker.domain.MimeRule;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 특정 시점의 차단 규칙 (불변) - 판정 한 건은 하나의 스냅샷으로만 수행
+ *
+ * @param rules             차단 중인 규칙 문자열 (EXACT → GLOB 순)
+ * @param automaton         규칙 전체를 컴파일한 DFA
+ * @param blockedMimeTypes  차단 중인 확장자에 매핑된 MIME Type → 그 확장자 (규칙 변경 시 미리 계산)
+ * @param contentRules      차단 중인 내용 규칙 (vba-macro 등)
+ */
+public record BlockRuleSnapshot(
+        List<String> rules,
+        ExtensionAutomaton automaton,
+        Map<String, String> blockedMimeTypes,
+        Set<String> contentRules
+) {
+    public static BlockRuleSnapshot compile(List<String> rules, Collection<String> contentRules,
+                                            Collection<MimeRule> mimeRules, int maxStates) {
+        ExtensionAutomaton automaton = ExtensionAutomaton.compile(rules, maxStates);
+
+        Map<String, String> blockedMimeTypes = new HashMap<>();
+        for (MimeRule mimeRule : mimeRules) {
+            if (automaton.match("." + mimeRule.getExtension()) != null) {
+                blockedMimeTypes.putIfAbsent(mimeRule.getMimeType(), mimeRule.getExtension());
+            }
+        }
+        return new BlockRuleSnapshot(List.copyOf(rules), automaton, Map.copyOf(blockedMimeTypes),
+                Set.copyOf(contentRules));
+    }
+
+    /**
+     * 정규화한 파일명의 후보 확장자마다 DFA 판정 (마지막 확장자 → 안쪽 확장자 순)
+     * @return 파일명과 일치한 규칙 (없으면 null)
+     */
+    public String match(String fileName) {
+        CharSequence name = FileNameCanonicalizer.canonicalize(fileName);
+        for (int end = name.length(); end > 0; end = FileNameCanonicalizer.previousCandidateEnd(name, end)) {
+            String rule = automaton.match(name, end);
+            if (rule != null) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 확장자 하나가 차단 대상인지
+     */
+    public boolean blocksExtension(String extension) {
+        return automaton.match("." + extension) != null;
+    }
+
+    /**
+     * @return 감지된 MIME Type이 가리키는 차단 확장자 (없으면 null) - 해시 조회 1회
+     */
+    public String blockedExtensionForMime(String mimeType) {
+        return blockedMimeTypes.get(mimeType);
+    }
+
+    /**
+     * 내용 규칙이 켜져 있는지
+     */
+    public boolean blocksContent(String rule) {
+        return contentRules.contains(rule);
+    }
+}
@@ -0,0 +1,252 @@
+package com.ghh.blocker.rule;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 확장자 규칙 전체를 하나의 DFA로 컴파일 (파일명을 뒤에서부터 읽음)
+ *
+ * 규칙 문법 (소문자 기준):
+ *   a-z, 0-9  해당 문자
+ *   ?         '.'을 제외한 문자 1개
+ *   *         '.'을 제외한 문자 0개 이상
+ *   .         세그먼트 구분 (tar.gz 같은 복합 확장자)
+ *
+ * 규칙 p는 파일명이 "." + p 로 끝나면 일치합니다.
+ * (exe → "a.exe" O, "a.exe." X / ph* → "a.phtml" O, "a.ph.txt" X)
+ *
+ * 판정:
+ *   파일명 끝에서부터 한 글자씩 상태 전이 → 수락 상태면 즉시 일치, 죽은 상태면 즉시 불일치
+ *   → 규칙 수와 무관하게 O(파일명 길이), 할당 없음
+ *
+ * 컴파일:
+ *   NFA 위치 집합 → DFA 상태 (부분집합 구성), 상태 수가 maxStates를 넘으면 IllegalArgumentException
+ */
+public final class ExtensionAutomaton {
+
+    private static final int DEAD = -1;
+
+    /** 문자 클래스: 0 = 규칙에 없는 문자, 1 = '.', 2.. = 규칙에 등장하는 문자 */
+    private static final int OTHER = 0;
+    private static final int DOT = 1;
+
+    private static final char ANY_ONE = '?';
+    private static final char ANY_RUN = '*';
+    private static final char SEPARATOR = '.';
+
+    private final byte[] classOf;
+    private final int classCount;
+    private final int[] transitions;
+    private final String[] accepting;
+
+    private ExtensionAutomaton(byte[] classOf, int classCount, int[] transitions, String[] accepting) {
+        this.classOf = classOf;
+        this.classCount = classCount;
+        this.transitions = transitions;
+        this.accepting = accepting;
+    }
+
+    /**
+     * @param patterns  규칙 목록 (앞선 규칙이 판정 사유로 우선)
+     * @param maxStates DFA 상태 수 상한
+     */
+    public static ExtensionAutomaton compile(List<String> patterns, int maxStates) {
+        // 문자 클래스 테이블 (ASCII만 - 규칙 문자는 a-z, 0-9)
+        byte[] classOf = new byte[128];
+        classOf[SEPARATOR] = DOT;
+        int classCount = 2;
+        for (String pattern : patterns) {
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                if (c == ANY_ONE || c == ANY_RUN || c == SEPARATOR) {
+                    continue;
+                }
+                if (c >= 128) {
+                    throw new IllegalArgumentException("규칙에 허용되지 않는 문자가 있습니다: " + pattern);
+                }
+                if (classOf[c] == OTHER) {
+                    if (classCount == Byte.MAX_VALUE) {
+                        throw new IllegalArgumentException("규칙 문자 종류가 너무 많습니다.");
+                    }
+                    classOf[c] = (byte) classCount++;
+                }
+            }
+        }
+
+        // NFA: 규칙마다 뒤집은 토큰 + 마지막 '.' (파일명에서 확장자 앞의 점)
+        int[] ruleOffset = new int[patterns.size() + 1];
+        List<Integer> tokens = new ArrayList<>();
+        List<Integer> ruleOf = new ArrayList<>();
+        for (int r = 0; r < patterns.size(); r++) {
+            ruleOffset[r] = tokens.size();
+            String pattern = patterns.get(r);
+            for (int i = pattern.length() - 1; i >= 0; i--) {
+                char c = pattern.charAt(i);
+                tokens.add(c == ANY_ONE || c == ANY_RUN ? -c : (int) classOf[c]);
+                ruleOf.add(r);
+            }
+            tokens.add((int) DOT);
+            ruleOf.add(r);
+            // 수락 위치 (토큰 없음)
+            tokens.add(null);
+            ruleOf.add(r);
+        }
+        ruleOffset[patterns.size()] = tokens.size();
+
+        Nfa nfa = new Nfa(tokens.toArray(new Integer[0]), ruleOf.stream().mapToInt(Integer::intValue).toArray());
+
+        BitSet start = new BitSet(tokens.size());
+        for (int r = 0; r < patterns.size(); r++) {
+            nfa.addWithClosure(start, ruleOffset[r]);
+        }
+
+        // 부분집합 구성
+        Map<BitSet, Integer> stateIds = new HashMap<>();
+        List<BitSet> states = new ArrayList<>();
+        List<int[]> rows = new ArrayList<>();
+        List<String> accept = new ArrayList<>();
+        Deque<Integer> work = new ArrayDeque<>();
+
+        stateIds.put(start, 0);
+        states.add(start);
+        work.add(0);
+
+        while (!work.isEmpty()) {
+            int id = work.poll();
+            BitSet current = states.get(id);
+            int[] row = new int[classCount];
+            Arrays.fill(row, DEAD);
+
+            int acceptedRule = nfa.acceptedRule(current);
+            accept.add(acceptedRule >= 0 ? patterns.get(acceptedRule) : null);
+
+            // 수락 상태는 판정 종료 → 전이 불필요
+            if (acceptedRule < 0) {
+                for (int cls = 0; cls < classCount; cls++) {
+                    BitSet next = nfa.step(current, cls);
+                    if (next.isEmpty()) {
+                        continue;
+                    }
+                    Integer nextId = stateIds.get(next);
+                    if (nextId == null) {
+                        nextId = states.size();
+                        if (nextId >= maxStates) {
+                            throw new IllegalArgumentException(
+                                    "규칙 오토마톤 상태 수가 상한(" + maxStates + ")을 초과합니다.");
+                        }
+                        stateIds.put(next, nextId);
+                        states.add(next);
+                        work.add(nextId);
+                    }
+                    row[cls] = nextId;
+                }
+            }
+            rows.add(row);
+        }
+
+        int[] transitions = new int[states.size() * classCount];
+        for (int id = 0; id < rows.size(); id++) {
+            System.arraycopy(rows.get(id), 0, transitions, id * classCount, classCount);
+        }
+        return new ExtensionAutomaton(classOf, classCount, transitions, accept.toArray(new String[0]));
+    }
+
+    /**
+     * @return 일치한 규칙 (없으면 null)
+     */
+    public String match(String fileName) {
+        return match(fileName, fileName.length());
+    }
+
+    /**
+     * fileName[0, end)를 파일명으로 보고 판정 (이중 확장자 후보 검사 - 부분 문자열 할당 없음)
+     */
+    public String match(CharSequence fileName, int end) {
+        int state = 0;
+        for (int i = end - 1; i >= 0; i--) {
+            if (accepting[state] != null) {
+                return accepting[state];
+            }
+            char c = Character.toLowerCase(fileName.charAt(i));
+            int cls = c < 128 ? classOf[c] : OTHER;
+            state = transitions[state * classCount + cls];
+            if (state == DEAD) {
+                return null;
+            }
+        }
+        return accepting[state];
+    }
+
+    public int getStateCount() {
+        return accepting.length;
+    }
+
+    // ===== 규칙 번들 직렬화용 (내부 배열 그대로 반환 - 수정 금지) =====
+
+    byte[] classTable() {
+        return classOf;
+    }
+
+    int classCount() {
+        return classCount;
+    }
+
+    int[] transitionTable() {
+        return transitions;
+    }
+
+    String[] acceptingRules() {
+        return accepting;
+    }
+
+    /**
+     * 위치 = 규칙별 토큰 인덱스, 토큰 값: 문자 클래스(>= 0) / -'?' / -'*' / null(수락)
+     */
+    private record Nfa(Integer[] tokens, int[] ruleOf) {
+
+        private void addWithClosure(BitSet set, int position) {
+            set.set(position);
+            Integer token = tokens[position];
+            if (token != null && token == -ANY_RUN) {
+                addWithClosure(set, position + 1);
+            }
+        }
+
+        private BitSet step(BitSet current, int cls) {
+            BitSet next = new BitSet(tokens.length);
+            for (int p = current.nextSetBit(0); p >= 0; p = current.nextSetBit(p + 1)) {
+                Integer token = tokens[p];
+                if (token == null) {
+                    continue;
+                }
+                if (token == -ANY_RUN) {
+                    if (cls != DOT) {
+                        addWithClosure(next, p);
+                    }
+                } else if (token == -ANY_ONE) {
+                    if (cls != DOT) {
+                        addWithClosure(next, p + 1);
+                    }
+                } else if (token == cls) {
+                    addWithClosure(next, p + 1);
+                }
+            }
+            return next;
+        }
+
+        private int acceptedRule(BitSet current) {
+            for (int p = current.nextSetBit(0); p >= 0; p = current.nextSetBit(p + 1)) {
+                if (tokens[p] == null) {
+                    return ruleOf[p];
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.ghh.blocker.rule;
+
+import java.util.Locale;
+
+/**
+ * 확장자 우회 기법을 정규화한 파일명 (확장자 규칙 판정 전 단계)
+ *
+ * 정규화 (문자열 1회 순회):
+ *   경로 구분자 '/', '\'   마지막 구성 요소만 사용 (C:\dir\evil.exe → evil.exe)
+ *   NUL                   이후 전체 버림 (C 문자열 API는 evil.exe\0.png 를 evil.exe로 저장)
+ *   제어 문자             C0(0x00~0x1F)와 DEL 제거 (evil.exe\t → evil.exe)
+ *   끝의 스트림 형식       ':$TYPE'과 빈 ':' 구간 제거 (evil.exe::$DATA → evil.exe)
+ *   서식 문자             RTL override(U+202E), zero-width, BOM 등 보이지 않는 문자 제거
+ *   전각 문자             ASCII로 변환 (ｅｘｅ → exe, ． 。 → .)
+ *   끝의 '.'과 공백       ':' 앞과 이름 끝에서 제거 (Windows가 저장 시 제거 → evil.exe. 는 evil.exe)
+ *
+ * 그 밖의 ':'는 남겨 두고 후보 경계로 사용 → ':' 앞뒤를 모두 검사
+ *   (C:evil.exe, x:evil.exe → evil.exe 부분 / evil.exe:stream → evil.exe 부분에서 탐지)
+ *
+ * 일반적인 ASCII 파일명(위 경우에 해당 없음)은 검사만 하고 입력 문자열을 그대로 반환 → 할당 없음
+ *
+ * 후보 확장자:
+ *   정규화된 이름의 끝 + 각 '.', ':' 앞 위치를 파일명 끝으로 보고 규칙을 다시 맞춤
+ *   (invoice.exe.pdf → "invoice.exe.pdf", "invoice.exe", "invoice" 순 → 이중 확장자 안쪽의 exe도 탐지)
+ */
+public final class FileNameCanonicalizer {
+
+    private FileNameCanonicalizer() {}
+
+    public static CharSequence canonicalize(String fileName) {
+        if (isPlain(fileName)) {
+            return fileName;
+        }
+
+        char[] out = new char[fileName.length()];
+        int length = 0;
+        for (int i = 0; i < fileName.length(); i++) {
+            char c = fileName.charAt(i);
+            if (c == 0) {
+                break;
+            }
+            if (c < 0x20 || c == 0x7F) {
+                continue;
+            }
+            if (c >= 0x80) {
+                if (Character.getType(c) == Character.FORMAT) {
+                    continue;
+                }
+                c = fold(c);
+            }
+            if (c == '/' || c == '\\') {
+                length = 0;
+                continue;
+            }
+            if (c == ':') {
+                length = trimTrailing(out, length);
+            }
+            out[length++] = c;
+        }
+        return new String(out, 0, stripStreamType(out, length));
+    }
+
+    /**
+     * @return end 앞의 마지막 '.' 또는 ':' 위치 = 다음 후보의 파일명 끝 (더 없으면 -1)
+     */
+    public static int previousCandidateEnd(CharSequence name, int end) {
+        for (int i = end - 1; i > 0; i--) {
+            char c = name.charAt(i);
+            if (c == '.' || c == ':') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 정규화한 이름의 마지막 확장자 (마지막 '.' 뒤부터 ':' 앞까지, 소문자) - 통계/JFR 집계 키
+     * 예: evil.exe:stream → exe, x:notes.txt → txt, README → ""
+     */
+    public static String lastExtension(CharSequence name) {
+        int dot = -1;
+        for (int i = name.length() - 1; i >= 0; i--) {
+            if (name.charAt(i) == '.') {
+                dot = i;
+                break;
+            }
+        }
+        if (dot < 0) {
+            return "";
+        }
+        int end = dot + 1;
+        while (end < name.length() && name.charAt(end) != ':') {
+            end++;
+        }
+        return name.subSequence(dot + 1, end).toString().toLowerCase(Locale.ROOT);
+    }
+
+    // ===== Private =====
+
+    private static boolean isPlain(String fileName) {
+        int length = fileName.length();
+        for (int i = 0; i < length; i++) {
+            char c = fileName.charAt(i);
+            if (c < 0x20 || c >= 0x7F || c == '/' || c == '\\' || c == ':') {
+                return false;
+            }
+        }
+        return length == 0 || (fileName.charAt(length - 1) != '.' && fileName.charAt(length - 1) != ' ');
+    }
+
+    /**
+     * 끝의 스트림 형식 구간(':' 뒤가 비었거나 '$'로 시작)을 반복 제거한 뒤 끝의 '.'/공백 제거
+     * @return 새 길이
+     */
+    private static int stripStreamType(char[] out, int length) {
+        length = trimTrailing(out, length);
+        for (int colon = lastColon(out, length); colon >= 0; colon = lastColon(out, length)) {
+            if (colon + 1 < length && out[colon + 1] != '$') {
+                break;
+            }
+            length = trimTrailing(out, colon);
+        }
+        return length;
+    }
+
+    private static int lastColon(char[] out, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            if (out[i] == ':') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int trimTrailing(char[] out, int length) {
+        while (length > 0 && (out[length - 1] == '.' || out[length - 1] == ' ')) {
+            length--;
+        }
+        return length;
+    }
+
+    private static char fold(char c) {
+        if (c >= '\uFF01' && c <= '\uFF5E') {
+            return (char) (c - 0xFEE0);
+        }
+        return switch (c) {
+            case '\u3002', '\uFF61', '\uFE52', '\u2024' -> '.';
+            case '\u00A0', '\u3000', '\u2007', '\u202F' -> ' ';
+            default -> c;
+        };
+    }
+}
@@ -0,0 +1,461 @@
+package com.ghh.blocker.rule;
+
+import com.ghh.blocker.inspection.SignatureScanner;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/**
+ * 컴파일된 차단 규칙 번들 (불변) - 바이너리 파일을 매핑한 채로 조회 (컬렉션으로 역직렬화하지 않음)
+ * - 규칙 DB/JSON 없이 기동 즉시 판정해야 하는 원격 적용 지점용
+ *
+ * 파일 형식 (big-endian):
+ *   헤더 [8] 매직 "BLKRULE1"  [4] 형식 버전  [4] 본문 길이  [8] 규칙 버전  [8] 생성 시각(epoch ms)
+ *        [4] 본문 CRC32C  [4] 예약(0)
+ *   본문 [4 × 7] 구역 시작 위치 (본문 기준)
+ *        AUTOMATON          [4] 문자 클래스 수 c  [4] 상태 수 s  [128] 문자 클래스 표
+ *                           [4 × s] 수락 규칙 번호 (-1 = 없음)  [4 × s × c] 전이표 (-1 = 죽은 상태)
+ *        RULES              문자열 목록 (규칙 순서 - 수락 규칙 번호가 가리킴)
+ *        MIME_TYPES         문자열 목록 (UTF-8 바이트 사전순)
+ *        MIME_EXTENSIONS    MIME_TYPES와 같은 순서의 차단 확장자
+ *        CONTENT            문자열 목록 (사전순)
+ *        SIGNATURE_NAMES    내장 스크립트 시그니처 이름
+ *        SIGNATURE_PATTERNS 같은 순서의 시그니처 패턴
+ *   문자열 목록: [4] 개수 n  [4 × (n + 1)] 바이트 위치 누적 (0부터)  [가변] UTF-8 바이트
+ *
+ * 조회:
+ *   확장자 - 매핑된 전이표를 그대로 따라감 (ExtensionAutomaton과 같은 판정, 일치 전까지 할당 없음)
+ *   MIME / 내용 규칙 - 정렬된 문자열 목록에서 이진 탐색 (키 문자를 매핑된 바이트와 직접 비교)
+ *
+ * 열 때 CRC32C와 구조(위치/번호 범위)를 모두 검증 → 이후 조회는 경계 검사 없이 진행
+ */
+public final class RuleBundle {
+
+    public static final int FORMAT_VERSION = 1;
+
+    private static final byte[] MAGIC = "BLKRULE1".getBytes(StandardCharsets.US_ASCII);
+    private static final int HEADER_BYTES = 40;
+    private static final int LENGTH_OFFSET = 12;
+    private static final int VERSION_OFFSET = 16;
+    private static final int CREATED_OFFSET = 24;
+    private static final int CRC_OFFSET = 32;
+
+    private static final int AUTOMATON = 0;
+    private static final int RULES = 1;
+    private static final int MIME_TYPES = 2;
+    private static final int MIME_EXTENSIONS = 3;
+    private static final int CONTENT = 4;
+    private static final int SIGNATURE_NAMES = 5;
+    private static final int SIGNATURE_PATTERNS = 6;
+    private static final int SECTIONS = 7;
+
+    private static final int CLASS_TABLE_BYTES = 128;
+    private static final int DEAD = -1;
+
+    private final ByteBuffer buffer;
+    private final long ruleVersion;
+    private final long createdAt;
+    private final int size;
+
+    // 구역 위치 (버퍼 기준 절대 위치)
+    private final int classCount;
+    private final int stateCount;
+    private final int classTable;
+    private final int acceptTable;
+    private final int transitionTable;
+    private final int[] sections;
+
+    private RuleBundle(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        this.size = buffer.capacity();
+        this.ruleVersion = buffer.getLong(VERSION_OFFSET);
+        this.createdAt = buffer.getLong(CREATED_OFFSET);
+
+        this.sections = new int[SECTIONS];
+        for (int s = 0; s < SECTIONS; s++) {
+            int offset = buffer.getInt(HEADER_BYTES + s * 4);
+            if (offset < SECTIONS * 4 || offset > size - HEADER_BYTES) {
+                throw new IOException("규칙 번들 구역 위치가 올바르지 않습니다.");
+            }
+            sections[s] = HEADER_BYTES + offset;
+        }
+
+        int automaton = sections[AUTOMATON];
+        require(automaton + 8 + CLASS_TABLE_BYTES <= size);
+        this.classCount = buffer.getInt(automaton);
+        this.stateCount = buffer.getInt(automaton + 4);
+        this.classTable = automaton + 8;
+        this.acceptTable = classTable + CLASS_TABLE_BYTES;
+        this.transitionTable = acceptTable + stateCount * 4;
+        require(classCount >= 2 && classCount <= Byte.MAX_VALUE && stateCount >= 1
+                && (long) stateCount * classCount * 4 + stateCount * 4L <= size - acceptTable);
+
+        validate();
+    }
+
+    /**
+     * 파일을 읽기 전용으로 매핑하고 검증 (매핑은 파일을 닫아도 유지 → rename 교체에 안전)
+     */
+    public static RuleBundle open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize > Integer.MAX_VALUE) {
+                throw new IOException("규칙 번들이 너무 큽니다: " + file);
+            }
+            return wrap(channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize));
+        }
+    }
+
+    /**
+     * 메모리의 번들을 검증 후 감쌈 (복사 없음 - 이후 버퍼를 수정하면 안 됨)
+     */
+    public static RuleBundle wrap(ByteBuffer buffer) throws IOException {
+        ByteBuffer view = buffer.slice().order(ByteOrder.BIG_ENDIAN);
+        if (view.capacity() < HEADER_BYTES + SECTIONS * 4) {
+            throw new IOException("규칙 번들 헤더가 없습니다.");
+        }
+        byte[] magic = new byte[MAGIC.length];
+        view.get(0, magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException("규칙 번들 형식이 아닙니다.");
+        }
+        int format = view.getInt(MAGIC.length);
+        if (format != FORMAT_VERSION) {
+            throw new IOException("지원하지 않는 규칙 번들 형식 버전입니다: " + format);
+        }
+        int length = view.getInt(LENGTH_OFFSET);
+        if (length != view.capacity() - HEADER_BYTES) {
+            throw new IOException("규칙 번들 크기가 헤더와 맞지 않습니다.");
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(view.slice(HEADER_BYTES, length));
+        if ((int) crc.getValue() != view.getInt(CRC_OFFSET)) {
+            throw new IOException("규칙 번들 체크섬이 일치하지 않습니다.");
+        }
+        return new RuleBundle(view);
+    }
+
+    /**
+     * 규칙 스냅샷 → 번들 바이트
+     *
+     * @param ruleVersion 스냅샷을 읽은 시점의 규칙 버전 (같은 트랜잭션에서 읽어야 함)
+     */
+    public static byte[] encode(BlockRuleSnapshot snapshot, long ruleVersion,
+                                List<SignatureScanner.Signature> signatures) {
+        ExtensionAutomaton automaton = snapshot.automaton();
+        Map<String, Integer> ruleIndex = new HashMap<>();
+        for (int i = 0; i < snapshot.rules().size(); i++) {
+            ruleIndex.putIfAbsent(snapshot.rules().get(i), i);
+        }
+
+        String[] accepting = automaton.acceptingRules();
+        int[] transitions = automaton.transitionTable();
+        ByteBuffer automatonSection = ByteBuffer.allocate(
+                8 + CLASS_TABLE_BYTES + accepting.length * 4 + transitions.length * 4);
+        automatonSection.putInt(automaton.classCount()).putInt(accepting.length).put(automaton.classTable());
+        for (String rule : accepting) {
+            automatonSection.putInt(rule == null ? DEAD : ruleIndex.get(rule));
+        }
+        for (int next : transitions) {
+            automatonSection.putInt(next);
+        }
+
+        List<Map.Entry<byte[], String>> mimeEntries = new ArrayList<>();
+        snapshot.blockedMimeTypes().forEach((mime, ext) -> mimeEntries.add(Map.entry(utf8(mime), ext)));
+        mimeEntries.sort(Map.Entry.comparingByKey(Arrays::compareUnsigned));
+        List<byte[]> contentRules = new ArrayList<>(snapshot.contentRules().stream().map(RuleBundle::utf8).toList());
+        contentRules.sort(Arrays::compareUnsigned);
+
+        byte[][] payloadSections = new byte[SECTIONS][];
+        payloadSections[AUTOMATON] = automatonSection.array();
+        payloadSections[RULES] = stringList(snapshot.rules().stream().map(RuleBundle::utf8).toList());
+        payloadSections[MIME_TYPES] = stringList(mimeEntries.stream().map(Map.Entry::getKey).toList());
+        payloadSections[MIME_EXTENSIONS] = stringList(mimeEntries.stream().map(e -> utf8(e.getValue())).toList());
+        payloadSections[CONTENT] = stringList(contentRules);
+        payloadSections[SIGNATURE_NAMES] = stringList(signatures.stream().map(s -> utf8(s.name())).toList());
+        payloadSections[SIGNATURE_PATTERNS] = stringList(signatures.stream().map(s -> utf8(s.pattern())).toList());
+
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        ByteBuffer directory = ByteBuffer.allocate(SECTIONS * 4);
+        int offset = SECTIONS * 4;
+        for (byte[] section : payloadSections) {
+            directory.putInt(offset);
+            offset += section.length;
+        }
+        payload.writeBytes(directory.array());
+        for (byte[] section : payloadSections) {
+            payload.writeBytes(section);
+        }
+        byte[] body = payload.toByteArray();
+
+        CRC32C crc = new CRC32C();
+        crc.update(body);
+        ByteBuffer bundle = ByteBuffer.allocate(HEADER_BYTES + body.length);
+        bundle.put(MAGIC)
+                .putInt(FORMAT_VERSION)
+                .putInt(body.length)
+                .putLong(ruleVersion)
+                .putLong(System.currentTimeMillis())
+                .putInt((int) crc.getValue())
+                .putInt(0)
+                .put(body);
+        return bundle.array();
+    }
+
+    /**
+     * 번들 파일 작성 (임시 파일 → 원자적 교체)
+     */
+    public static void write(byte[] bundle, Path target) throws IOException {
+        Path parent = target.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, ".rule-bundle-", ".tmp");
+        try {
+            Files.write(temp, bundle);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * encode 결과의 규칙 버전 (헤더만 읽음 - ETag 등)
+     */
+    public static long ruleVersionOf(byte[] bundle) {
+        return ByteBuffer.wrap(bundle).getLong(VERSION_OFFSET);
+    }
+
+    // ===== 조회 (BlockRuleSnapshot과 같은 판정) =====
+
+    /**
+     * 정규화한 파일명의 후보 확장자마다 전이표 판정 (마지막 확장자 → 안쪽 확장자 순)
+     * @return 파일명과 일치한 규칙 (없으면 null)
+     */
+    public String match(String fileName) {
+        CharSequence name = FileNameCanonicalizer.canonicalize(fileName);
+        for (int end = name.length(); end > 0; end = FileNameCanonicalizer.previousCandidateEnd(name, end)) {
+            int rule = matchRule(name, end);
+            if (rule != DEAD) {
+                return string(sections[RULES], rule);
+            }
+        }
+        return null;
+    }
+
+    public boolean blocksExtension(String extension) {
+        String name = "." + extension;
+        return matchRule(name, name.length()) != DEAD;
+    }
+
+    /**
+     * @return 감지된 MIME Type이 가리키는 차단 확장자 (없으면 null)
+     */
+    public String blockedExtensionForMime(String mimeType) {
+        int index = find(sections[MIME_TYPES], mimeType);
+        return index < 0 ? null : string(sections[MIME_EXTENSIONS], index);
+    }
+
+    public boolean blocksContent(String rule) {
+        return find(sections[CONTENT], rule) >= 0;
+    }
+
+    public long ruleVersion() {
+        return ruleVersion;
+    }
+
+    public long createdAt() {
+        return createdAt;
+    }
+
+    public int ruleCount() {
+        return count(sections[RULES]);
+    }
+
+    public int stateCount() {
+        return stateCount;
+    }
+
+    public int sizeInBytes() {
+        return size;
+    }
+
+    /**
+     * 시그니처 목록 (SignatureScanner는 힙에 오토마톤을 만들므로 이 목록만 복원해서 넘김)
+     */
+    public List<SignatureScanner.Signature> signatures() {
+        int names = sections[SIGNATURE_NAMES];
+        int patterns = sections[SIGNATURE_PATTERNS];
+        List<SignatureScanner.Signature> result = new ArrayList<>(count(names));
+        for (int i = 0; i < count(names); i++) {
+            result.add(new SignatureScanner.Signature(string(names, i), string(patterns, i)));
+        }
+        return result;
+    }
+
+    // ===== Private =====
+
+    private int matchRule(CharSequence fileName, int end) {
+        int state = 0;
+        for (int i = end - 1; i >= 0; i--) {
+            int accepted = buffer.getInt(acceptTable + state * 4);
+            if (accepted != DEAD) {
+                return accepted;
+            }
+            char c = Character.toLowerCase(fileName.charAt(i));
+            int cls = c < CLASS_TABLE_BYTES ? buffer.get(classTable + c) : 0;
+            state = buffer.getInt(transitionTable + (state * classCount + cls) * 4);
+            if (state == DEAD) {
+                return DEAD;
+            }
+        }
+        return buffer.getInt(acceptTable + state * 4);
+    }
+
+    /**
+     * 정렬된 문자열 목록에서 이진 탐색 → 번호 (없으면 -1)
+     */
+    private int find(int list, String key) {
+        int low = 0;
+        int high = count(list) - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(list, mid, key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 목록의 index번째 문자열과 key를 UTF-8 바이트 순서로 비교
+     * - ASCII 키는 문자를 바이트와 바로 비교 (MIME Type, 내용 규칙 이름은 모두 ASCII)
+     */
+    private int compare(int list, int index, String key) {
+        int start = stringStart(list, index);
+        int length = stringEnd(list, index) - start;
+        for (int i = 0; i < key.length(); i++) {
+            if (key.charAt(i) >= 0x80) {
+                return compareBytes(start, length, utf8(key));
+            }
+        }
+        int n = Math.min(length, key.length());
+        for (int i = 0; i < n; i++) {
+            int cmp = Integer.compare(buffer.get(start + i) & 0xFF, key.charAt(i));
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return Integer.compare(length, key.length());
+    }
+
+    private int compareBytes(int start, int length, byte[] key) {
+        int n = Math.min(length, key.length);
+        for (int i = 0; i < n; i++) {
+            int cmp = Integer.compare(buffer.get(start + i) & 0xFF, key[i] & 0xFF);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return Integer.compare(length, key.length);
+    }
+
+    private int count(int list) {
+        return buffer.getInt(list);
+    }
+
+    private int stringStart(int list, int index) {
+        return list + 4 + (count(list) + 1) * 4 + buffer.getInt(list + 4 + index * 4);
+    }
+
+    private int stringEnd(int list, int index) {
+        return stringStart(list, index + 1);
+    }
+
+    private String string(int list, int index) {
+        int start = stringStart(list, index);
+        byte[] bytes = new byte[stringEnd(list, index) - start];
+        buffer.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 전이표/수락 번호/문자 클래스/문자열 목록 위치가 모두 범위 안인지 (조회 시 경계 검사 생략 근거)
+     */
+    private void validate() throws IOException {
+        for (int s = RULES; s < SECTIONS; s++) {
+            validateStringList(sections[s]);
+        }
+        require(count(sections[MIME_TYPES]) == count(sections[MIME_EXTENSIONS]));
+        require(count(sections[SIGNATURE_NAMES]) == count(sections[SIGNATURE_PATTERNS]));
+
+        for (int c = 0; c < CLASS_TABLE_BYTES; c++) {
+            byte cls = buffer.get(classTable + c);
+            require(cls >= 0 && cls < classCount);
+        }
+        int rules = count(sections[RULES]);
+        for (int s = 0; s < stateCount; s++) {
+            int accepted = buffer.getInt(acceptTable + s * 4);
+            require(accepted >= DEAD && accepted < rules);
+        }
+        for (int t = 0; t < stateCount * classCount; t++) {
+            int next = buffer.getInt(transitionTable + t * 4);
+            require(next >= DEAD && next < stateCount);
+        }
+    }
+
+    private void validateStringList(int list) throws IOException {
+        require(list + 4 <= size);
+        int n = count(list);
+        require(n >= 0 && n < (size - list) / 4);
+        int data = list + 4 + (n + 1) * 4;
+        require(data <= size && buffer.getInt(list + 4) == 0);
+        int previous = 0;
+        for (int i = 1; i <= n; i++) {
+            int end = buffer.getInt(list + 4 + i * 4);
+            require(end >= previous && end <= size - data);
+            previous = end;
+        }
+    }
+
+    private static void require(boolean condition) throws IOException {
+        if (!condition) {
+            throw new IOException("규칙 번들 구조가 올바르지 않습니다.");
+        }
+    }
+
+    private static byte[] stringList(List<byte[]> values) {
+        ByteBuffer list = ByteBuffer.allocate(4 + (values.size() + 1) * 4
+                + values.stream().mapToInt(v -> v.length).sum());
+        list.putInt(values.size());
+        int end = 0;
+        list.putInt(end);
+        for (byte[] value : values) {
+            end += value.length;
+            list.putInt(end);
+        }
+        values.forEach(list::put);
+        return list.array();
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,105 @@
+package com.ghh.blocker.rule;
+
+import com.ghh.blocker.exception.BlockedExtensionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * 규칙 번들 적재기 - 파일이 바뀌면 새로 매핑한 번들로 원자적 교체 (재시작 불필요)
+ * - DB 없이 규칙 번들만 받아 판정하는 적용 지점용 (GET /api/extensions/rule-bundle → 파일 배포)
+ *
+ * 갱신 시점:
+ *   - reload-interval-ms 주기로 파일 수정 시각/크기 확인
+ *   - POST /api/extensions/rule-bundle/reload
+ *
+ * 배포는 새 파일을 쓴 뒤 rename으로 교체 → 교체 전 매핑으로 진행 중인 판정은 그대로 끝남
+ * 불러오기 실패(체크섬/구조 불일치) 시 기존 번들 유지
+ */
+@Slf4j
+@Component
+public class RuleBundleCache {
+
+    private final boolean enabled;
+    private final Path file;
+
+    private volatile RuleBundle bundle;
+    private volatile String loadedVersion;
+
+    public RuleBundleCache(@Value("${app.rule-bundle.enabled:false}") boolean enabled,
+                           @Value("${app.rule-bundle.file:rule-bundle.bin}") String file) {
+        this.enabled = enabled;
+        this.file = Path.of(file).toAbsolutePath();
+        if (enabled) {
+            reloadIfChanged();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return 현재 번들 (아직 불러오지 못했으면 null)
+     */
+    public RuleBundle current() {
+        return bundle;
+    }
+
+    @Scheduled(fixedDelayString = "${app.rule-bundle.reload-interval-ms:10000}")
+    public void reloadIfChanged() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (!versionOf(file).equals(loadedVersion)) {
+                reload();
+            }
+        } catch (IOException e) {
+            log.warn("규칙 번들 파일 확인 실패: {} ({})", file, e.getMessage());
+        } catch (IllegalStateException e) {
+            log.error("규칙 번들 갱신 실패 - 기존 번들 유지 (버전 {}): {}",
+                    bundle == null ? "-" : bundle.ruleVersion(), e.getMessage());
+        }
+    }
+
+    /**
+     * @return 불러온 번들의 규칙 버전
+     */
+    public synchronized long reload() {
+        if (!enabled) {
+            throw new BlockedExtensionException("규칙 번들 적재가 꺼져 있습니다. (app.rule-bundle.enabled)");
+        }
+        try {
+            String version = versionOf(file);
+            RuleBundle loaded = RuleBundle.open(file);
+            RuleBundle previous = bundle;
+            bundle = loaded;
+            loadedVersion = version;
+            if (previous != null && loaded.ruleVersion() < previous.ruleVersion()) {
+                log.warn("이전 버전 규칙 번들로 교체: {} → {}", previous.ruleVersion(), loaded.ruleVersion());
+            }
+            log.info("규칙 번들 불러오기: 버전 {}, 규칙 {}개, {}바이트 ({})",
+                    loaded.ruleVersion(), loaded.ruleCount(), loaded.sizeInBytes(), file);
+            return loaded.ruleVersion();
+        } catch (IOException e) {
+            throw new IllegalStateException("규칙 번들을 불러올 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * rename 교체를 감지하도록 inode(fileKey) + 수정 시각 사용 (fileKey 미지원 FS는 크기로 대체)
+     */
+    private static String versionOf(Path file) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        return attributes.fileKey() != null
+                ? attributes.fileKey() + "@" + attributes.lastModifiedTime()
+                : attributes.size() + "@" + attributes.lastModifiedTime();
+    }
+}
@@ -0,0 +1,280 @@
+package com.ghh.blocker.service;
+
+import com.ghh.blocker.dto.ChunkedUploadDto;
+import com.ghh.blocker.exception.FileBlockedException;
+import com.ghh.blocker.exception.FileStorageException;
+import com.ghh.blocker.exception.UploadSessionException;
+import com.ghh.blocker.rule.BlockRuleCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 재개 가능한 분할 업로드 (tus 프로토콜 방식)
+ *
+ * 판정 흐름:
+ *   생성(POST)  → 파일명 확장자 검사 → 차단이면 본문 전송 전에 거부
+ *   첫 청크     → 앞부분(inspect-bytes)이 모이는 즉시 받은 바이트로 검사 체인 실행
+ *                 (완성된 파일이 필요한 해시/매크로 제외) → 차단이면 세션 삭제
+ *   이후 청크   → 검사 없이 디스크에 append (NIO transferFrom)
+ *   수신 완료   → 일반 업로드와 같은 검사 체인 전체 (내장 실행 파일, 해시, 매크로 포함)
+ *
+ * 세션은 마지막 활동 이후 session-ttl이 지나면 만료되어 임시 파일과 함께 정리됩니다.
+ */
+@Slf4j
+@Service
+public class ChunkedUploadService {
+
+    private final FileUploadService fileUploadService;
+    private final BlockRuleCache blockRuleCache;
+    private final ContentStorageService contentStorageService;
+
+    private final Path uploadDir;
+    private final long maxLength;
+    private final long inspectBytes;
+    private final long sessionTtlMillis;
+    private final int maxSessions;
+
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+
+    public ChunkedUploadService(FileUploadService fileUploadService,
+                                BlockRuleCache blockRuleCache,
+                                ContentStorageService contentStorageService,
+                                @Value("${app.chunked-upload.dir:${java.io.tmpdir}/blocker-uploads}") String uploadDir,
+                                @Value("${app.chunked-upload.max-length:50MB}") DataSize maxLength,
+                                @Value("${app.chunked-upload.inspect-bytes:64KB}") DataSize inspectBytes,
+                                @Value("${app.chunked-upload.session-ttl:30m}") Duration sessionTtl,
+                                @Value("${app.chunked-upload.max-sessions:1000}") int maxSessions) {
+        this.fileUploadService = fileUploadService;
+        this.blockRuleCache = blockRuleCache;
+        this.contentStorageService = contentStorageService;
+        this.uploadDir = Path.of(uploadDir).toAbsolutePath();
+        this.maxLength = maxLength.toBytes();
+        this.inspectBytes = inspectBytes.toBytes();
+        this.sessionTtlMillis = sessionTtl.toMillis();
+        this.maxSessions = maxSessions;
+    }
+
+    /**
+     * 세션 생성 - 파일명만으로 판정 가능한 차단은 여기서 끝냄
+     */
+    public ChunkedUploadDto.Status create(String fileName, long length) {
+        if (fileName == null || fileName.isBlank()) {
+            throw new UploadSessionException(HttpStatus.BAD_REQUEST, "파일명이 없습니다.");
+        }
+        if (length < 0 || length > maxLength) {
+            throw new UploadSessionException(HttpStatus.PAYLOAD_TOO_LARGE, "파일 크기가 제한을 초과했습니다.");
+        }
+        if (sessions.size() >= maxSessions) {
+            throw new UploadSessionException(HttpStatus.SERVICE_UNAVAILABLE, "진행 중인 업로드가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        String blockReason = fileUploadService.checkExtension(fileName, blockRuleCache.current());
+        if (blockReason != null) {
+            throw new FileBlockedException("차단된 파일입니다.\n\n" + fileName + " (" + blockReason + ")");
+        }
+
+        String id = UUID.randomUUID().toString();
+        Path path = uploadDir.resolve(id + ".part");
+        try {
+            Files.createDirectories(uploadDir);
+            Files.createFile(path);
+        } catch (IOException e) {
+            throw new FileStorageException("업로드 세션 생성 중 오류가 발생했습니다: " + fileName, e);
+        }
+
+        Session session = new Session(id, fileName, length, path);
+        sessions.put(id, session);
+        log.info("분할 업로드 시작: {} ({}, {} bytes)", id, fileName, length);
+
+        if (length == 0) {
+            synchronized (session) {
+                inspectComplete(session);
+                complete(session);
+            }
+        }
+        return session.toStatus();
+    }
+
+    /**
+     * 청크 추가 - 클라이언트가 보낸 offset이 현재 offset과 같아야 함
+     */
+    public ChunkedUploadDto.Status append(String id, long offset, long contentLength, InputStream body) {
+        Session session = getSession(id);
+
+        synchronized (session) {
+            if (session.complete) {
+                throw new UploadSessionException(HttpStatus.CONFLICT, "이미 완료된 업로드입니다.");
+            }
+            if (offset != session.offset) {
+                throw new UploadSessionException(HttpStatus.CONFLICT,
+                        "Upload-Offset 불일치 (서버: " + session.offset + ", 요청: " + offset + ")");
+            }
+            long remaining = session.length - session.offset;
+            if (contentLength > remaining) {
+                throw new UploadSessionException(HttpStatus.PAYLOAD_TOO_LARGE, "청크가 남은 크기(" + remaining + ")를 초과합니다.");
+            }
+
+            long limit = contentLength >= 0 ? contentLength : remaining;
+            try (FileChannel channel = FileChannel.open(session.path, StandardOpenOption.WRITE)) {
+                ReadableByteChannel source = Channels.newChannel(body);
+                long transferred;
+                while (limit > 0 && (transferred = channel.transferFrom(source, session.offset, limit)) > 0) {
+                    session.offset += transferred;
+                    limit -= transferred;
+                }
+            } catch (IOException e) {
+                // 연결이 끊겨도 이미 기록된 바이트까지는 유지 → HEAD로 offset 확인 후 재개
+                log.warn("청크 수신 중단: {} (offset {})", id, session.offset);
+            }
+            session.touch();
+
+            if (session.offset == session.length) {
+                inspectComplete(session);
+                complete(session);
+            } else if (!session.inspected && session.offset >= inspectBytes) {
+                inspect(session);
+            }
+            return session.toStatus();
+        }
+    }
+
+    public ChunkedUploadDto.Status status(String id) {
+        Session session = getSession(id);
+        synchronized (session) {
+            return session.toStatus();
+        }
+    }
+
+    public void cancel(String id) {
+        Session session = sessions.remove(id);
+        if (session == null) {
+            throw new UploadSessionException(HttpStatus.NOT_FOUND, "업로드 세션이 없거나 만료되었습니다.");
+        }
+        synchronized (session) {
+            deleteQuietly(session.path);
+        }
+        log.info("분할 업로드 취소: {}", id);
+    }
+
+    @Scheduled(fixedDelayString = "${app.chunked-upload.cleanup-interval-ms:60000}")
+    public void cleanupExpired() {
+        long now = System.currentTimeMillis();
+        sessions.values().removeIf(session -> {
+            if (!session.isExpired(now, sessionTtlMillis)) {
+                return false;
+            }
+            synchronized (session) {
+                deleteQuietly(session.path);
+            }
+            log.info("분할 업로드 세션 만료: {} ({})", session.id, session.fileName);
+            return true;
+        });
+    }
+
+    // ===== Private =====
+
+    private Session getSession(String id) {
+        Session session = sessions.get(id);
+        if (session == null || session.isExpired(System.currentTimeMillis(), sessionTtlMillis)) {
+            throw new UploadSessionException(HttpStatus.NOT_FOUND, "업로드 세션이 없거나 만료되었습니다.");
+        }
+        return session;
+    }
+
+    /**
+     * 지금까지 받은 바이트로 판정 - 차단이면 세션과 임시 파일 즉시 삭제
+     */
+    private void inspect(Session session) {
+        String blockReason = fileUploadService.verifyPartial(session.fileName, session.offset,
+                () -> Files.newInputStream(session.path), blockRuleCache.current());
+        session.inspected = true;
+        if (blockReason != null) {
+            reject(session, session.offset + " bytes 수신 시점", blockReason);
+        }
+    }
+
+    /**
+     * 전체 수신 후 검사 체인 전체로 판정 (매크로 - 파일 끝의 디렉터리 / 해시, 내장 실행 파일 - 전체 내용) - 차단이면 세션과 임시 파일 삭제
+     */
+    private void inspectComplete(Session session) {
+        String blockReason = fileUploadService.verify(session.fileName, session.length, null,
+                () -> Files.newInputStream(session.path), blockRuleCache.current());
+        session.inspected = true;
+        if (blockReason != null) {
+            reject(session, "수신 완료 시점", blockReason);
+        }
+    }
+
+    private void reject(Session session, String when, String blockReason) {
+        sessions.remove(session.id);
+        deleteQuietly(session.path);
+        log.warn("분할 업로드 차단: {} ({})", session.fileName, when);
+        throw new FileBlockedException("차단된 파일입니다.\n\n" + session.fileName + " (" + blockReason + ")");
+    }
+
+    private void complete(Session session) {
+        session.complete = true;
+        if (contentStorageService.isEnabled()) {
+            session.contentId = contentStorageService.store(session.path, session.fileName);
+        }
+        deleteQuietly(session.path);
+        log.info("분할 업로드 완료: {} ({}, {} bytes)", session.id, session.fileName, session.length);
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", path, e);
+        }
+    }
+
+    private static final class Session {
+        private final String id;
+        private final String fileName;
+        private final long length;
+        private final Path path;
+        private long offset;
+        private boolean inspected;
+        private boolean complete;
+        private String contentId;
+        private volatile long lastActivity = System.currentTimeMillis();
+
+        private Session(String id, String fileName, long length, Path path) {
+            this.id = id;
+            this.fileName = fileName;
+            this.length = length;
+            this.path = path;
+        }
+
+        private void touch() {
+            lastActivity = System.currentTimeMillis();
+        }
+
+        private boolean isExpired(long now, long ttlMillis) {
+            return now - lastActivity > ttlMillis;
+        }
+
+        private ChunkedUploadDto.Status toStatus() {
+            return new ChunkedUploadDto.Status(id, fileName, offset, length, complete, contentId);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.ghh.blocker.service;
+
+import com.ghh.blocker.exception.FileStorageException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 허용된 업로드 파일의 콘텐츠 주소 기반 저장소 (app.storage.enabled=true 일 때만 동작)
+ *
+ * - 파일명 = 내용의 SHA-256 (동일 파일은 한 번만 저장)
+ * - 저장 경로: {dir}/{해시 앞 2자리}/{해시}
+ * - 저장소 임시 파일을 만든 뒤 해시 이름으로 원자적 이동 (이미 있으면 임시 파일만 삭제)
+ *   디스크 파일(분할 업로드 완료 파일, StoredMultipartFile): Direct ByteBuffer로 읽으면서 SHA-256 갱신 + 임시 파일에 쓰기
+ *   서블릿 컨테이너 multipart: MultipartFile.transferTo(File)로 임시 파일에 넘김 → Part.write
+ *     (컨테이너 임시 파일이 같은 파일시스템이면 rename, 아니면 컨테이너가 복사 - 힙 버퍼를 거치지 않음)
+ *     → 임시 파일을 FileChannel로 읽어 SHA-256 계산
+ */
+@Slf4j
+@Service
+public class ContentStorageService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final boolean enabled;
+    private final Path storageDir;
+
+    public ContentStorageService(@Value("${app.storage.enabled:false}") boolean enabled,
+                                 @Value("${app.storage.dir:storage}") String storageDir) {
+        this.enabled = enabled;
+        this.storageDir = Path.of(storageDir).toAbsolutePath();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 파일들을 저장하고 콘텐츠 ID(SHA-256 hex) 목록을 반환
+     * - All or Nothing 검증이 끝난 파일만 전달되어야 함
+     */
+    public List<String> storeAll(List<MultipartFile> files) {
+        List<String> contentIds = new ArrayList<>(files.size());
+        for (MultipartFile file : files) {
+            contentIds.add(store(file));
+        }
+        return contentIds;
+    }
+
+    public String store(MultipartFile file) {
+        if (file instanceof StoredMultipartFile stored) {
+            return store(stored.getPath(), file.getOriginalFilename());
+        }
+        try {
+            Path temp = createTemp();
+            try {
+                // transferTo(Path)는 스트림 복사 → File 버전이어야 Part.write(rename) 사용
+                file.transferTo(temp.toFile());
+                String contentId;
+                try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.READ)) {
+                    contentId = hash(channel);
+                }
+                return moveIntoPlace(temp, contentId, file.getOriginalFilename());
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new FileStorageException("파일 저장 중 오류가 발생했습니다: " + file.getOriginalFilename(), e);
+        }
+    }
+
+    /**
+     * 디스크에 있는 파일 저장 (분할 업로드 완료 파일 등)
+     */
+    public String store(Path source, String fileName) {
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            return storeHashed(channel, fileName);
+        } catch (IOException e) {
+            throw new FileStorageException("파일 저장 중 오류가 발생했습니다: " + fileName, e);
+        }
+    }
+
+    public Path resolve(String contentId) {
+        return storageDir.resolve(contentId.substring(0, 2)).resolve(contentId);
+    }
+
+    // ===== Private =====
+
+    /**
+     * 읽기 1회로 해시 계산과 임시 파일 쓰기를 함께 수행한 뒤 해시 이름으로 이동
+     */
+    private String storeHashed(ReadableByteChannel source, String fileName) throws IOException {
+        Path temp = createTemp();
+        try {
+            MessageDigest digest = newSha256();
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+                while (source.read(buffer) != -1) {
+                    buffer.flip();
+                    digest.update(buffer.duplicate());
+                    while (buffer.hasRemaining()) {
+                        out.write(buffer);
+                    }
+                    buffer.clear();
+                }
+            }
+            return moveIntoPlace(temp, HexFormat.of().formatHex(digest.digest()), fileName);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static String hash(ReadableByteChannel source) throws IOException {
+        MessageDigest digest = newSha256();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        while (source.read(buffer) != -1) {
+            buffer.flip();
+            digest.update(buffer);
+            buffer.clear();
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * 저장소 안의 임시 파일 (대상과 같은 파일시스템 → ATOMIC_MOVE 가능)
+     */
+    private Path createTemp() throws IOException {
+        Files.createDirectories(storageDir);
+        return Files.createFile(storageDir.resolve(".tmp-" + UUID.randomUUID()));
+    }
+
+    /**
+     * 임시 파일을 해시 이름으로 원자적 이동 (이미 있으면 그대로 두고 호출자가 임시 파일 삭제)
+     */
+    private String moveIntoPlace(Path temp, String contentId, String fileName) throws IOException {
+        Path target = resolve(contentId);
+        if (Files.exists(target)) {
+            log.debug("이미 저장된 콘텐츠: {} ({})", contentId, fileName);
+            return contentId;
+        }
+        Files.createDirectories(target.getParent());
+        long size = Files.size(temp);
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        log.info("콘텐츠 저장: {} ({}, {} bytes)", contentId, fileName, size);
+        return contentId;
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
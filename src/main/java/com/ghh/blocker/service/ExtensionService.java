@@ -2,32 +2,54 @@ package com.ghh.blocker.service;
 
 import com.ghh.blocker.domain.BlockedExtension;
 import com.ghh.blocker.domain.ExtensionType;
+import com.ghh.blocker.domain.MatchType;
 import com.ghh.blocker.dto.ExtensionDto;
+import com.ghh.blocker.event.RuleChangePublisher;
+import com.ghh.blocker.event.RuleChangedEvent;
 import com.ghh.blocker.exception.BlockedExtensionException;
+import com.ghh.blocker.inspection.ContentScanProperties;
+import com.ghh.blocker.inspection.MacroDetector;
+import com.ghh.blocker.jfr.RuleLockEvent;
 import com.ghh.blocker.repository.BlockedExtensionRepository;
-import jakarta.annotation.PostConstruct;
+import com.ghh.blocker.repository.MimeRuleRepository;
+import com.ghh.blocker.rule.BlockRuleCache;
+import com.ghh.blocker.rule.BlockRuleSnapshot;
+import com.ghh.blocker.rule.RuleBundle;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionCallback;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@Observed(name = "blocker.extension-service")
 public class ExtensionService {
 
     private final BlockedExtensionRepository repository;
     private final TransactionTemplate transactionTemplate;
+    private final RuleChangePublisher ruleChangePublisher;
+    private final BlockRuleCache blockRuleCache;
+    private final MimeRuleRepository mimeRuleRepository;
+    private final ContentScanProperties contentScanProperties;
 
     @Value("${app.custom-extension-limit:200}")
     private int customExtensionLimit;
@@ -35,23 +57,49 @@ public class ExtensionService {
     private static final List<String> FIXED_EXTENSIONS =
             List.of("bat", "cmd", "com", "cpl", "exe", "scr", "js");
 
+    /**
+     * 내용 기반 규칙 (이름에 '-'가 있어 커스텀 확장자와 겹치지 않음)
+     */
+    private static final List<String> CONTENT_RULES = List.of(MacroDetector.RULE);
+
     private static final Pattern EXTENSION_PATTERN = Pattern.compile("^[a-z0-9]+$");
 
+    /**
+     * 패턴 규칙: 세그먼트(영문 소문자, 숫자, *, ?)를 '.'으로 연결 (ph*, tar.gz, doc*x)
+     */
+    private static final Pattern RULE_PATTERN = Pattern.compile("^[a-z0-9*?]+(\\.[a-z0-9*?]+)*$");
+    private static final Pattern LITERAL = Pattern.compile("[a-z0-9]");
+
+    /**
+     * 일괄 삭제 접두사: 규칙 문자 그대로 (LIKE 특수문자 %, _ 없음)
+     */
+    private static final Pattern PREFIX_PATTERN = Pattern.compile("^[a-z0-9*?.]{1,20}$");
+
     // ===== 초기화 =====
 
-    @PostConstruct
+    /**
+     * 고정 확장자 + 내용 규칙 초기 등록 (둘 다 기본값 허용)
+     * - 확장자별 existsByExtension 반복 대신 IN 쿼리 1회로 누락분만 계산 후 saveAll
+     * - RuleSeedRunner가 기동 시 호출 (readiness 전, 컨텍스트 refresh 이후)
+     */
     public void init() {
         transactionTemplate.execute(status -> {
-            for (String ext : FIXED_EXTENSIONS) {
-                if (!repository.existsByExtension(ext)) {
-                    repository.save(BlockedExtension.builder()
+            List<String> all = new ArrayList<>(FIXED_EXTENSIONS);
+            all.addAll(CONTENT_RULES);
+            Set<String> missing = new HashSet<>(all);
+            missing.removeAll(repository.findExistingExtensions(all));
+            if (missing.isEmpty()) {
+                return null;
+            }
+
+            repository.saveAll(missing.stream()
+                    .map(ext -> BlockedExtension.builder()
                             .extension(ext)
-                            .type(ExtensionType.FIXED)
+                            .type(CONTENT_RULES.contains(ext) ? ExtensionType.CONTENT : ExtensionType.FIXED)
                             .blocked(false)
-                            .build());
-                    log.info("고정 확장자 초기화: {}", ext);
-                }
-            }
+                            .build())
+                    .toList());
+            log.info("고정 확장자 초기화: {}", missing);
             return null;
         });
     }
@@ -69,9 +117,11 @@ public class ExtensionService {
      * 고정 확장자 토글 (UPDATE)
      * - @Version(낙관적 락)이 Entity에 있으므로 동시 UPDATE 충돌 감지
      * - UPDATE는 synchronized 없이 @Version만으로 충분
+     * - 규칙 버전 행은 먼저 잠금 → 직렬화된 쓰기(버전 행 → 확장자 행 순)와 잠금 순서가 같아 교착 없음
      */
     @Transactional
     public ExtensionDto.FixedResponse updateFixedExtension(String extension, boolean blocked) {
+        ruleChangePublisher.lock();
         BlockedExtension entity = repository.findByExtension(extension.toLowerCase())
                 .orElseThrow(() -> new BlockedExtensionException("존재하지 않는 고정 확장자입니다: " + extension));
 
@@ -80,12 +130,71 @@ public class ExtensionService {
         }
 
         entity.updateBlocked(blocked);
+        publishRuleChange(RuleChangedEvent.Operation.FIXED_UPDATE, List.of(entity.getExtension()));
         return ExtensionDto.FixedResponse.from(entity);
     }
 
     @Transactional
     public int bulkUpdateFixed(boolean blocked) {
-        return repository.bulkUpdateBlockedByType(ExtensionType.FIXED, blocked);
+        ruleChangePublisher.lock();
+        int updated = repository.bulkUpdateBlockedByType(ExtensionType.FIXED, blocked);
+        publishRuleChange(RuleChangedEvent.Operation.FIXED_BULK_UPDATE, FIXED_EXTENSIONS);
+        return updated;
+    }
+
+    /**
+     * 고정 확장자 일괄 변경 - 조회 없이 UPDATE ... CASE 1회 + 규칙 버전 1회 증가
+     *
+     * 동시 요청:
+     *   - 같은 인스턴스: synchronized로 직렬화 → 락을 나중에 잡은 요청이 최종값
+     *   - 다른 인스턴스: DB 행 잠금으로 직렬화 → 나중에 커밋한 요청이 최종값
+     *   버전 검사를 하지 않으므로 409 충돌이 나지 않음 (토글은 최종 상태만 의미 있음)
+     */
+    public int batchUpdateFixed(Map<String, Boolean> changes) {
+        Map<String, Boolean> normalized = new TreeMap<>();
+        changes.forEach((extension, blocked) -> {
+            String ext = extension == null ? "" : extension.trim().toLowerCase();
+            if (!FIXED_EXTENSIONS.contains(ext)) {
+                throw new BlockedExtensionException("존재하지 않는 고정 확장자입니다: " + extension);
+            }
+            if (blocked == null) {
+                throw new BlockedExtensionException("차단 여부가 없습니다: " + extension);
+            }
+            normalized.put(ext, blocked);
+        });
+
+        List<String> toBlock = normalized.entrySet().stream()
+                .filter(Map.Entry::getValue)
+                .map(Map.Entry::getKey)
+                .toList();
+
+        return serialized(RuleChangedEvent.Operation.FIXED_BATCH_UPDATE, status -> {
+            int updated = repository.batchUpdateFixed(normalized.keySet(), toBlock);
+            publishRuleChange(RuleChangedEvent.Operation.FIXED_BATCH_UPDATE, List.copyOf(normalized.keySet()));
+            log.info("고정 확장자 일괄 변경: {}", normalized);
+            return updated;
+        });
+    }
+
+    // ===== 내용 규칙 (고정 확장자와 같은 토글 방식) =====
+
+    @Transactional(readOnly = true)
+    public List<ExtensionDto.ContentRuleResponse> getContentRules() {
+        return repository.findByTypeOrderByCreatedAtDesc(ExtensionType.CONTENT).stream()
+                .map(ExtensionDto.ContentRuleResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional
+    public ExtensionDto.ContentRuleResponse updateContentRule(String rule, boolean blocked) {
+        ruleChangePublisher.lock();
+        BlockedExtension entity = repository.findByExtension(rule.toLowerCase())
+                .filter(e -> e.getType() == ExtensionType.CONTENT)
+                .orElseThrow(() -> new BlockedExtensionException("존재하지 않는 내용 규칙입니다: " + rule));
+
+        entity.updateBlocked(blocked);
+        publishRuleChange(RuleChangedEvent.Operation.CONTENT_UPDATE, List.of(entity.getExtension()));
+        return ExtensionDto.ContentRuleResponse.from(entity);
     }
 
     // ===== 커스텀 확장자 (쓰기: synchronized + TransactionTemplate) =====
@@ -106,11 +215,12 @@ public class ExtensionService {
      *
      * 방어 레이어:
      *   1층: synchronized → 단일 JVM 내 직렬화 (count 조회 ~ 커밋 원자적)
-     *   2층: TransactionTemplate → 커밋 시점을 락 내부로 강제
-     *   3층: DB Unique Constraint → 최종 방어선
+     *   2층: 규칙 버전 행 잠금 → 여러 인스턴스 간 직렬화 (count 조회 전에 획득)
+     *   3층: TransactionTemplate → 커밋 시점을 락 내부로 강제
+     *   4층: DB Unique Constraint → 최종 방어선
      */
-    public synchronized List<ExtensionDto.CustomResponse> addCustomExtensions(String extensionsInput) {
-        return transactionTemplate.execute(status -> {
+    public List<ExtensionDto.CustomResponse> addCustomExtensions(String extensionsInput) {
+        return serialized(RuleChangedEvent.Operation.CUSTOM_ADD, status -> {
             String[] parts = extensionsInput.split(",");
             List<String> toAdd = Arrays.stream(parts)
                     .map(String::trim)
@@ -148,6 +258,7 @@ public class ExtensionService {
                     BlockedExtension entity = repository.saveAndFlush(BlockedExtension.builder()
                             .extension(ext)
                             .type(ExtensionType.CUSTOM)
+                            .matchType(matchTypeOf(ext))
                             .blocked(true)
                             .build());
                     results.add(ExtensionDto.CustomResponse.from(entity));
@@ -157,13 +268,21 @@ public class ExtensionService {
                 }
             }
 
+            // 커밋 전에 전체 규칙을 컴파일해 봄 → 오토마톤 상한 초과 시 롤백
+            try {
+                blockRuleCache.compile(repository.findBlockedRules());
+            } catch (IllegalArgumentException e) {
+                throw new BlockedExtensionException("패턴 규칙이 너무 복잡합니다. " + e.getMessage());
+            }
+
             log.info("커스텀 확장자 {}개 추가됨: {}", results.size(), toAdd);
+            publishRuleChange(RuleChangedEvent.Operation.CUSTOM_ADD, toAdd);
             return results;
         });
     }
 
-    public synchronized void deleteCustomExtension(Long id) {
-        transactionTemplate.execute(status -> {
+    public void deleteCustomExtension(Long id) {
+        serialized(RuleChangedEvent.Operation.CUSTOM_DELETE, status -> {
             BlockedExtension entity = repository.findById(id)
                     .orElseThrow(() -> new BlockedExtensionException("존재하지 않는 확장자입니다."));
 
@@ -173,28 +292,63 @@ public class ExtensionService {
 
             repository.delete(entity);
             log.info("커스텀 확장자 삭제: {}", entity.getExtension());
+            publishRuleChange(RuleChangedEvent.Operation.CUSTOM_DELETE, List.of(entity.getExtension()));
             return null;
         });
     }
 
-    public synchronized int deleteAllCustomExtensions() {
-        return transactionTemplate.execute(status ->
-                repository.deleteAllByType(ExtensionType.CUSTOM));
+    /**
+     * 커스텀 확장자 일괄 삭제 (id 목록) - DELETE 1회 + 규칙 버전 1회 증가
+     * - 건별 삭제(findById → delete, 락 획득 반복) 대신 트랜잭션 1개, 락 획득 1회
+     * - 커스텀이 아니거나 없는 id는 무시 → 실제로 삭제된 행만 반환
+     */
+    public List<ExtensionDto.CustomResponse> deleteCustomExtensions(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new BlockedExtensionException("삭제할 확장자를 선택해주세요.");
+        }
+        Set<Long> distinct = new HashSet<>(ids);
+        return bulkDelete(() -> repository.deleteCustomByIdIn(distinct));
+    }
+
+    /**
+     * 커스텀 확장자 일괄 삭제 (접두사) - 예: "test" → test1 ~ test200
+     */
+    public List<ExtensionDto.CustomResponse> deleteCustomExtensionsByPrefix(String prefix) {
+        String normalized = prefix == null ? "" : prefix.trim().toLowerCase();
+        if (!PREFIX_PATTERN.matcher(normalized).matches()) {
+            throw new BlockedExtensionException(
+                    "접두사는 1~20자의 영문 소문자, 숫자, 패턴 문자(* ? .)만 허용됩니다: " + prefix);
+        }
+        return bulkDelete(() -> repository.deleteCustomByPrefix(normalized));
+    }
+
+    public int deleteAllCustomExtensions() {
+        return serialized(RuleChangedEvent.Operation.CUSTOM_DELETE_ALL, status -> {
+            List<String> customs = repository.findExtensionsByType(ExtensionType.CUSTOM);
+            int deleted = repository.deleteAllByType(ExtensionType.CUSTOM);
+            publishRuleChange(RuleChangedEvent.Operation.CUSTOM_DELETE_ALL, customs);
+            return deleted;
+        });
     }
 
     // ===== 초기화 / 테스트 =====
 
-    public synchronized void resetAll() {
-        transactionTemplate.execute(status -> {
+    public void resetAll() {
+        serialized(RuleChangedEvent.Operation.RESET, status -> {
+            List<String> changed = new ArrayList<>(repository.findExtensionsByType(ExtensionType.CUSTOM));
+            changed.addAll(FIXED_EXTENSIONS);
+            changed.addAll(CONTENT_RULES);
             repository.deleteAllByType(ExtensionType.CUSTOM);
             repository.bulkUpdateBlockedByType(ExtensionType.FIXED, false);
+            repository.bulkUpdateBlockedByType(ExtensionType.CONTENT, false);
             log.info("전체 설정 초기화 완료");
+            publishRuleChange(RuleChangedEvent.Operation.RESET, changed);
             return null;
         });
     }
 
-    public synchronized int generateTestData() {
-        return transactionTemplate.execute(status -> {
+    public int generateTestData() {
+        return serialized(RuleChangedEvent.Operation.TEST_DATA, status -> {
             long currentCount = repository.countByType(ExtensionType.CUSTOM);
             int toGenerate = (int) (customExtensionLimit - currentCount);
 
@@ -202,8 +356,8 @@ public class ExtensionService {
                 throw new BlockedExtensionException("이미 최대 개수에 도달했습니다.");
             }
 
-            int generated = 0;
-            for (int i = 1; i <= 200 && generated < toGenerate; i++) {
+            List<String> generated = new ArrayList<>();
+            for (int i = 1; i <= 200 && generated.size() < toGenerate; i++) {
                 String ext = "test" + i;
                 if (!repository.existsByExtension(ext)) {
                     try {
@@ -212,29 +366,91 @@ public class ExtensionService {
                                 .type(ExtensionType.CUSTOM)
                                 .blocked(true)
                                 .build());
-                        generated++;
+                        generated.add(ext);
                     } catch (DataIntegrityViolationException e) {
                         log.warn("테스트 데이터 중복: {}", ext);
                     }
                 }
             }
 
-            log.info("테스트 데이터 {}개 생성 완료", generated);
-            return generated;
+            log.info("테스트 데이터 {}개 생성 완료", generated.size());
+            publishRuleChange(RuleChangedEvent.Operation.TEST_DATA, generated);
+            return generated.size();
         });
     }
 
     // ===== 조회 (락 불필요) =====
 
+    /**
+     * 차단 중인 확장자 규칙 (내용 규칙 제외)
+     */
     @Transactional(readOnly = true)
     public Set<String> getBlockedExtensionSet() {
-        return repository.findByBlockedTrue().stream()
-                .map(BlockedExtension::getExtension)
-                .collect(Collectors.toSet());
+        return new HashSet<>(repository.findBlockedRules());
+    }
+
+    public long getRuleVersion() {
+        return ruleChangePublisher.getRuleVersion();
+    }
+
+    // ===== 규칙 번들 (원격 적용 지점의 메모리 매핑 적재용) =====
+
+    /**
+     * 확장자/내용/MIME 규칙과 규칙 버전을 한 스냅샷(REPEATABLE_READ)에서 읽어 번들로 컴파일
+     * - 캐시(BlockRuleCache)는 버전과 함께 읽지 않으므로 쓰지 않음 → 번들 버전과 내용이 항상 일치
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public byte[] exportRuleBundle() {
+        BlockRuleSnapshot snapshot = blockRuleCache.compile(repository.findBlockedRules(),
+                repository.findBlockedContentRules(), mimeRuleRepository.findAllByOrderByMimeTypeAscExtensionAsc());
+        return RuleBundle.encode(snapshot, ruleChangePublisher.getRuleVersion(), contentScanProperties.signatures());
     }
 
     // ===== Private =====
 
+    /**
+     * 쓰기 직렬화 - 트랜잭션 1개 안에서 action 실행
+     *   1) synchronized(this): 같은 인스턴스의 쓰기끼리 (DB 커넥션을 잡기 전에 대기)
+     *   2) 규칙 버전 행 잠금: 다른 인스턴스의 쓰기끼리 (count 조회보다 먼저 획득 → 커밋까지 유지)
+     * 두 락의 대기 시간 합을 JFR RuleLock 이벤트로 기록
+     * - JFR 비활성 시 begin/end/shouldCommit만 남고 필드 설정 없음
+     */
+    private <T> T serialized(RuleChangedEvent.Operation operation, TransactionCallback<T> action) {
+        RuleLockEvent event = new RuleLockEvent();
+        event.begin();
+        synchronized (this) {
+            return transactionTemplate.execute(status -> {
+                ruleChangePublisher.lock();
+                event.end();
+                if (event.shouldCommit()) {
+                    event.operation = operation.name();
+                    event.commit();
+                }
+                return action.doInTransaction(status);
+            });
+        }
+    }
+
+    /**
+     * 삭제된 행이 있을 때만 규칙 버전 증가 (삭제 건수와 무관하게 1회)
+     */
+    private List<ExtensionDto.CustomResponse> bulkDelete(Supplier<List<BlockedExtension>> delete) {
+        return serialized(RuleChangedEvent.Operation.CUSTOM_BULK_DELETE, status -> {
+            List<BlockedExtension> deleted = delete.get();
+            if (deleted.isEmpty()) {
+                return List.of();
+            }
+            List<String> names = deleted.stream().map(BlockedExtension::getExtension).toList();
+            log.info("커스텀 확장자 {}개 일괄 삭제: {}", deleted.size(), names);
+            publishRuleChange(RuleChangedEvent.Operation.CUSTOM_BULK_DELETE, names);
+            return deleted.stream().map(ExtensionDto.CustomResponse::from).toList();
+        });
+    }
+
+    private void publishRuleChange(RuleChangedEvent.Operation operation, List<String> extensions) {
+        ruleChangePublisher.publish(operation, extensions);
+    }
+
     private void validateExtension(String extension) {
         if (extension == null || extension.isBlank()) {
             throw new BlockedExtensionException("확장자를 입력해주세요.");
@@ -242,11 +458,19 @@ public class ExtensionService {
         if (extension.length() > 20) {
             throw new BlockedExtensionException("확장자는 최대 20자까지 입력 가능합니다: " + extension);
         }
-        if (!EXTENSION_PATTERN.matcher(extension).matches()) {
-            throw new BlockedExtensionException("확장자는 영문 소문자와 숫자만 허용됩니다: " + extension);
+        if (!RULE_PATTERN.matcher(extension).matches()) {
+            throw new BlockedExtensionException(
+                    "확장자는 영문 소문자와 숫자만 허용됩니다 (패턴: *, ?, 복합 확장자: .): " + extension);
+        }
+        if (!LITERAL.matcher(extension).find()) {
+            throw new BlockedExtensionException("패턴에는 영문 소문자나 숫자가 하나 이상 있어야 합니다: " + extension);
         }
     }
 
+    private static MatchType matchTypeOf(String extension) {
+        return EXTENSION_PATTERN.matcher(extension).matches() ? MatchType.EXACT : MatchType.GLOB;
+    }
+
     public static List<String> getFixedExtensionList() {
         return FIXED_EXTENSIONS;
     }
@@ -2,14 +2,21 @@ package com.ghh.blocker.service;
 
 import com.ghh.blocker.dto.FileUploadDto;
 import com.ghh.blocker.exception.FileBlockedException;
+import com.ghh.blocker.inspection.ExtensionInspector;
+import com.ghh.blocker.inspection.InspectionChain;
+import com.ghh.blocker.inspection.RandomAccessSource;
+import com.ghh.blocker.jfr.FileVerdictEvent;
+import com.ghh.blocker.rule.BlockRuleCache;
+import com.ghh.blocker.rule.BlockRuleSnapshot;
+import com.ghh.blocker.rule.FileNameCanonicalizer;
+import com.ghh.blocker.stats.UploadStats;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.tika.Tika;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.*;
 
 @Slf4j
@@ -17,26 +24,11 @@ import java.util.*;
 @RequiredArgsConstructor
 public class FileUploadService {
 
-    private final ExtensionService extensionService;
-    private final Tika tika = new Tika();
-
-    /**
-     * 위험한 MIME Type → 확장자 매핑
-     * .exe를 .jpg로 이름을 변경해도 MIME Type으로 탐지
-     */
-    private static final Map<String, Set<String>> DANGEROUS_MIME_TO_EXT = new HashMap<>();
-
-    static {
-        DANGEROUS_MIME_TO_EXT.put("application/x-msdownload", Set.of("exe", "com", "scr"));
-        DANGEROUS_MIME_TO_EXT.put("application/x-dosexec", Set.of("exe", "com", "scr"));
-        DANGEROUS_MIME_TO_EXT.put("application/x-executable", Set.of("exe"));
-        DANGEROUS_MIME_TO_EXT.put("application/x-msdos-program", Set.of("exe", "com", "bat", "cmd"));
-        DANGEROUS_MIME_TO_EXT.put("application/x-bat", Set.of("bat"));
-        DANGEROUS_MIME_TO_EXT.put("application/x-msdos-batch", Set.of("bat", "cmd"));
-        DANGEROUS_MIME_TO_EXT.put("application/x-cpl", Set.of("cpl"));
-        DANGEROUS_MIME_TO_EXT.put("text/javascript", Set.of("js"));
-        DANGEROUS_MIME_TO_EXT.put("application/javascript", Set.of("js"));
-    }
+    private final BlockRuleCache blockRuleCache;
+    private final ContentStorageService contentStorageService;
+    private final ObservationRegistry observationRegistry;
+    private final InspectionChain inspectionChain;
+    private final UploadStats uploadStats;
 
     /**
      * 다중 파일 업로드 - All or Nothing 트랜잭션
@@ -46,7 +38,8 @@ public class FileUploadService {
             throw new FileBlockedException("업로드할 파일이 없습니다.");
         }
 
-        Set<String> blockedSet = extensionService.getBlockedExtensionSet();
+        BlockRuleSnapshot rules = Observation.createNotStarted("blocker.rules.fetch", observationRegistry)
+                .observe(blockRuleCache::current);
         List<String> blockedFileNames = new ArrayList<>();
 
         // 1단계: 전체 파일 검증 (All or Nothing)
@@ -54,23 +47,14 @@ public class FileUploadService {
             String originalName = file.getOriginalFilename();
             if (originalName == null || originalName.isBlank()) continue;
 
-            String extension = extractExtension(originalName);
-
-            // 1차 검증: 확장자 문자열 비교
-            if (extension != null && blockedSet.contains(extension.toLowerCase())) {
-                blockedFileNames.add(originalName + " (확장자 차단: ." + extension + ")");
-                continue;
-            }
+            String blockReason = Observation.createNotStarted("blocker.upload.file", observationRegistry)
+                    .highCardinalityKeyValue("file.name", originalName)
+                    .highCardinalityKeyValue("file.size", String.valueOf(file.getSize()))
+                    .observe(() -> verify(originalName, file.getSize(), file.getContentType(),
+                            file::getInputStream, rules));
 
-            // 2차 검증: Apache Tika MIME Type 검사
-            try {
-                String mimeBlockResult = checkMimeType(file, blockedSet);
-                if (mimeBlockResult != null) {
-                    blockedFileNames.add(originalName + " (MIME 위변조 탐지: " + mimeBlockResult + ")");
-                }
-            } catch (IOException e) {
-                log.error("MIME Type 검사 실패: {}", originalName, e);
-                blockedFileNames.add(originalName + " (파일 검사 오류)");
+            if (blockReason != null) {
+                blockedFileNames.add(originalName + " (" + blockReason + ")");
             }
         }
 
@@ -82,46 +66,95 @@ public class FileUploadService {
         }
 
         // 2단계: 모든 파일 통과 시 성공 처리
-        List<String> acceptedNames = files.stream()
+        List<MultipartFile> acceptedFiles = files.stream()
+                .filter(file -> file.getOriginalFilename() != null && !file.getOriginalFilename().isBlank())
+                .toList();
+        List<String> acceptedNames = acceptedFiles.stream()
                 .map(MultipartFile::getOriginalFilename)
-                .filter(name -> name != null && !name.isBlank())
                 .toList();
 
+        // 3단계: 저장 (판정이 끝난 뒤에만 시작)
+        List<String> contentIds = contentStorageService.isEnabled()
+                ? contentStorageService.storeAll(acceptedFiles)
+                : null;
+
         log.info("파일 업로드 성공: {}개 파일", acceptedNames.size());
 
-        return new FileUploadDto.Response(files.size(), acceptedNames.size(), acceptedNames);
+        return new FileUploadDto.Response(files.size(), acceptedNames.size(), acceptedNames, contentIds);
     }
 
     /**
-     * Apache Tika로 MIME Type 검사
-     * 파일의 실제 바이너리(Magic Number)를 분석하여 위변조 탐지
+     * 완성된 파일 1개 검증 (InspectionChain: 비용 순, 처음 차단에서 종료) - 추적 span, 업로드 통계, JFR 이벤트에 verdict 기록
+     * - 일반 업로드, 분할 업로드 완료, gRPC CheckContent(스트림이 inspect-bytes 전에 끝난 경우) 공용
+     * @param declaredMime 클라이언트가 보낸 Content-Type (없으면 null)
+     * @return 차단 사유 (통과 시 null)
      */
-    private String checkMimeType(MultipartFile file, Set<String> blockedSet) throws IOException {
-        try (InputStream is = file.getInputStream()) {
-            String detectedMime = tika.detect(is, file.getOriginalFilename());
-            log.debug("파일 [{}] 감지된 MIME: {}", file.getOriginalFilename(), detectedMime);
-
-            // MIME Type이 위험한 확장자에 매핑되는지 확인
-            Set<String> mappedExtensions = DANGEROUS_MIME_TO_EXT.get(detectedMime);
-            if (mappedExtensions != null) {
-                for (String ext : mappedExtensions) {
-                    if (blockedSet.contains(ext)) {
-                        return "실제 타입: " + detectedMime + " → 차단 확장자: ." + ext;
-                    }
-                }
-            }
+    public String verify(String fileName, long size, String declaredMime,
+                         RandomAccessSource.StreamOpener opener, BlockRuleSnapshot rules) {
+        FileVerdictEvent event = new FileVerdictEvent();
+        event.begin();
+
+        InspectionChain.Verdict verdict = inspectionChain.inspect(fileName, size, rules, opener);
+
+        Observation current = observationRegistry.getCurrentObservation();
+        if (current != null) {
+            current.lowCardinalityKeyValue("verdict", verdict.allowed() ? "allowed" : "blocked");
+        }
+        String extension = extensionOf(fileName, verdict, rules);
+        uploadStats.record(extension, verdict.allowed(), verdict.stage());
+
+        // JFR 비활성 시 shouldCommit()이 false → 필드 계산 없음 (이벤트 객체는 탈출 분석으로 제거)
+        event.end();
+        if (event.shouldCommit()) {
+            event.fileName = fileName;
+            event.extension = extension;
+            event.declaredMime = declaredMime;
+            event.size = size;
+            event.allowed = verdict.allowed();
+            event.stage = verdict.stage();
+            event.reason = verdict.reason();
+            event.commit();
+        }
+        return verdict.reason();
+    }
+
+    /**
+     * 앞부분만 받은 파일 검증 (분할 업로드 첫 청크, gRPC inspect-bytes) - 완성된 파일이 필요한 검사(해시, 매크로) 제외
+     * - 통과해도 최종 판정이 아니므로 통계/JFR 기록 없음 (완성 후 verify로 다시 판정)
+     * @param available 지금까지 받은 바이트 수
+     * @return 차단 사유 (통과 시 null)
+     */
+    public String verifyPartial(String fileName, long available,
+                                RandomAccessSource.StreamOpener opener, BlockRuleSnapshot rules) {
+        return inspectionChain.inspectPartial(fileName, available, rules, opener).reason();
+    }
+
+    /**
+     * 1차 검증: 파일명이 차단 규칙(정확 일치 + 패턴)에 걸리는지 확인
+     * - 규칙 전체가 하나의 DFA로 컴파일되어 있어 규칙 수와 무관하게 파일명 1회 순회
+     * @return 차단 사유 (통과 시 null)
+     */
+    public String checkExtension(String fileName, BlockRuleSnapshot rules) {
+        String rule = rules.match(fileName);
+        if (rule != null) {
+            return "확장자 차단: ." + rule;
         }
         return null;
     }
 
+    // ===== Private =====
+
     /**
-     * 파일명에서 확장자 추출
+     * 통계/JFR 확장자 - 확장자 규칙이 차단했으면 일치한 규칙, 아니면 정규화한 이름의 마지막 확장자
+     * (원본의 마지막 '.' 뒤는 evil.exe::$DATA, evil.exe\0.png처럼 실제 확장자가 아닐 수 있음)
      */
-    private String extractExtension(String fileName) {
-        int lastDot = fileName.lastIndexOf('.');
-        if (lastDot < 0 || lastDot == fileName.length() - 1) {
-            return null;
+    private static String extensionOf(String fileName, InspectionChain.Verdict verdict, BlockRuleSnapshot rules) {
+        if (ExtensionInspector.NAME.equals(verdict.stage())) {
+            String rule = rules.match(fileName);
+            if (rule != null) {
+                return rule;
+            }
         }
-        return fileName.substring(lastDot + 1).toLowerCase();
+        return FileNameCanonicalizer.lastExtension(FileNameCanonicalizer.canonicalize(fileName));
     }
 }
@@ -0,0 +1,116 @@
+package com.ghh.blocker.service;
+
+import com.ghh.blocker.domain.MimeRule;
+import com.ghh.blocker.dto.MimeRuleDto;
+import com.ghh.blocker.event.RuleChangePublisher;
+import com.ghh.blocker.event.RuleChangedEvent;
+import com.ghh.blocker.exception.BlockedExtensionException;
+import com.ghh.blocker.repository.MimeRuleRepository;
+import com.ghh.blocker.rule.BlockRuleCache;
+import com.ghh.blocker.rule.BlockRuleSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * MIME Type → 확장자 매핑 관리
+ * - 변경 시 RuleChangedEvent 발행 → BlockRuleCache가 "차단 MIME" 집합을 확장자 규칙과 함께 다시 계산
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MimeRuleService {
+
+    private final MimeRuleRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final RuleChangePublisher ruleChangePublisher;
+    private final BlockRuleCache blockRuleCache;
+
+    /**
+     * 최초 기동 시 등록되는 기본 매핑 (.exe를 .jpg로 이름을 변경해도 MIME Type으로 탐지)
+     */
+    private static final Map<String, Set<String>> DEFAULT_RULES = Map.of(
+            "application/x-msdownload", Set.of("exe", "com", "scr"),
+            "application/x-dosexec", Set.of("exe", "com", "scr"),
+            "application/x-executable", Set.of("exe"),
+            "application/x-msdos-program", Set.of("exe", "com", "bat", "cmd"),
+            "application/x-bat", Set.of("bat"),
+            "application/x-msdos-batch", Set.of("bat", "cmd"),
+            "application/x-cpl", Set.of("cpl"),
+            "text/javascript", Set.of("js"),
+            "application/javascript", Set.of("js")
+    );
+
+    // ===== 초기화 =====
+
+    /**
+     * 테이블이 비어 있을 때만 기본 매핑 등록 (운영 중 수정한 매핑은 유지)
+     * - RuleSeedRunner가 기동 시 호출
+     */
+    public void init() {
+        transactionTemplate.execute(status -> {
+            if (repository.count() > 0) {
+                return null;
+            }
+            List<MimeRule> defaults = DEFAULT_RULES.entrySet().stream()
+                    .flatMap(entry -> entry.getValue().stream()
+                            .map(ext -> MimeRule.builder().mimeType(entry.getKey()).extension(ext).build()))
+                    .toList();
+            repository.saveAll(defaults);
+            log.info("MIME 규칙 초기화: {}개", defaults.size());
+            ruleChangePublisher.publish(RuleChangedEvent.Operation.MIME_ADD, List.of());
+            return null;
+        });
+    }
+
+    // ===== 조회 =====
+
+    @Transactional(readOnly = true)
+    public List<MimeRuleDto.Response> getMimeRules() {
+        BlockRuleSnapshot rules = blockRuleCache.current();
+        return repository.findAllByOrderByMimeTypeAscExtensionAsc().stream()
+                .map(entity -> MimeRuleDto.Response.from(entity, rules.blocksExtension(entity.getExtension())))
+                .toList();
+    }
+
+    // ===== 추가 / 삭제 =====
+
+    @Transactional
+    public MimeRuleDto.Response addMimeRule(String mimeType, String extension) {
+        String mime = mimeType.trim().toLowerCase();
+        String ext = extension.trim().toLowerCase();
+
+        if (repository.existsByMimeTypeAndExtension(mime, ext)) {
+            throw new BlockedExtensionException("이미 등록된 MIME 규칙입니다: " + mime + " → ." + ext);
+        }
+
+        MimeRule entity;
+        try {
+            entity = repository.saveAndFlush(MimeRule.builder().mimeType(mime).extension(ext).build());
+        } catch (DataIntegrityViolationException e) {
+            log.warn("DB Unique 제약 위반: {} → {}", mime, ext);
+            throw new BlockedExtensionException("이미 등록된 MIME 규칙입니다: " + mime + " → ." + ext);
+        }
+
+        log.info("MIME 규칙 추가: {} → {}", mime, ext);
+        ruleChangePublisher.publish(RuleChangedEvent.Operation.MIME_ADD, List.of(ext));
+        return MimeRuleDto.Response.from(entity, blockRuleCache.current().blocksExtension(ext));
+    }
+
+    @Transactional
+    public void deleteMimeRule(Long id) {
+        MimeRule entity = repository.findById(id)
+                .orElseThrow(() -> new BlockedExtensionException("존재하지 않는 MIME 규칙입니다."));
+
+        repository.delete(entity);
+        log.info("MIME 규칙 삭제: {} → {}", entity.getMimeType(), entity.getExtension());
+        ruleChangePublisher.publish(RuleChangedEvent.Operation.MIME_DELETE, List.of(entity.getExtension()));
+    }
+}
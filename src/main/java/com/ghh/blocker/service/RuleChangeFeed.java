@@ -0,0 +1,370 @@
+package com.ghh.blocker.service;
+
+import com.ghh.blocker.domain.RuleChangeLog;
+import com.ghh.blocker.dto.ApiResponse;
+import com.ghh.blocker.dto.RuleChangeDto;
+import com.ghh.blocker.event.RuleChangedEvent;
+import com.ghh.blocker.repository.BlockedExtensionRepository;
+import com.ghh.blocker.repository.RuleChangeLogRepository;
+import com.ghh.blocker.repository.RuleVersionRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 원격 적용 지점(엣지 프록시 등)용 규칙 변경 피드
+ *
+ * 구조:
+ *   rule_change_log (DB) ──(인스턴스당 1회 조회)──▶ 메모리 꼬리(최근 retain-versions개 버전)
+ *                                                     ├─ GET /changes?since=V         즉시 응답
+ *                                                     ├─ GET /changes?since=V&waitMs  롱폴링 (DeferredResult, 스레드 점유 없음)
+ *                                                     └─ GET /changes/stream          SSE (이벤트 id = 버전)
+ *
+ * 동기화:
+ *   - 이 인스턴스의 변경: RuleChangedEvent 커밋 직후 전용 스레드(rule-feed-notify)에서
+ *     (관리자 쓰기 스레드는 DB 조회나 구독자 전송을 기다리지 않음, 연속 변경은 1회로 합침)
+ *     반영 전에 들어온 조회는 커밋된 버전을 보고 직접 따라잡음 → 쓴 직후 조회에도 보임
+ *   - 다른 인스턴스의 변경: poll-interval-ms마다 rule_version 1행 조회 (바뀌었을 때만 변경 행 조회)
+ *   → 구독자 수와 무관하게 DB 부하는 인스턴스당 일정, 응답은 모두 메모리에서 계산
+ *
+ * 압축:
+ *   - 같은 확장자의 변경은 마지막 상태 1건만 전달 (행이 변경 후 상태를 담고 있어 멱등)
+ *   - since가 꼬리보다 오래됐거나 없으면(-1) 전체 스냅샷 (버전별로 1회만 조회해 캐시)
+ *
+ * 메트릭:
+ *   blocker.rule-feed.subscribers  대기 중인 롱폴링 + SSE 연결 수
+ */
+@Slf4j
+@Service
+public class RuleChangeFeed {
+
+    private static final String EVENT_NAME = "rules";
+
+    private final RuleVersionRepository versionRepository;
+    private final RuleChangeLogRepository changeLogRepository;
+    private final BlockedExtensionRepository extensionRepository;
+    private final TransactionTemplate readTemplate;
+    private final TransactionTemplate writeTemplate;
+    private final int retainVersions;
+    private final long maxWaitMillis;
+    private final long streamTimeoutMillis;
+
+    private volatile Tail tail;
+    private volatile RuleChangeDto.Response snapshot;
+    private final Object snapshotLock = new Object();
+
+    private final Set<Waiter> waiters = ConcurrentHashMap.newKeySet();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    private final ExecutorService notifier = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "rule-feed-notify");
+        thread.setDaemon(true);
+        return thread;
+    });
+    /** 아직 실행되지 않은 sync 예약이 있는지 (있으면 새로 예약하지 않음) */
+    private final AtomicBoolean syncQueued = new AtomicBoolean();
+    /** 이 인스턴스에서 커밋된 최신 버전 (꼬리가 이보다 낮으면 조회 스레드가 직접 sync) */
+    private final AtomicLong committedVersion = new AtomicLong(-1);
+
+    public RuleChangeFeed(RuleVersionRepository versionRepository,
+                          RuleChangeLogRepository changeLogRepository,
+                          BlockedExtensionRepository extensionRepository,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry,
+                          @Value("${app.rule-feed.retain-versions:1000}") int retainVersions,
+                          @Value("${app.rule-feed.max-wait:60s}") Duration maxWait,
+                          @Value("${app.rule-feed.stream-timeout:30m}") Duration streamTimeout) {
+        this.versionRepository = versionRepository;
+        this.changeLogRepository = changeLogRepository;
+        this.extensionRepository = extensionRepository;
+        // 커밋 이후 리스너에서도 호출되므로 항상 새 트랜잭션 (BlockRuleCache와 같은 이유)
+        this.readTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTemplate.setReadOnly(true);
+        // 스냅샷의 버전과 행을 같은 시점으로 읽음
+        this.readTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.writeTemplate = new TransactionTemplate(transactionManager);
+        this.writeTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.retainVersions = retainVersions;
+        this.maxWaitMillis = maxWait.toMillis();
+        this.streamTimeoutMillis = streamTimeout.toMillis();
+
+        Gauge.builder("blocker.rule-feed.subscribers", this, feed -> feed.waiters.size() + feed.subscribers.size())
+                .description("규칙 변경 피드 대기 중인 롱폴링 + SSE 연결 수")
+                .register(meterRegistry);
+    }
+
+    // ===== 조회 =====
+
+    /**
+     * since 이후 변경 (압축) - since가 음수(로컬 상태 없음)이거나 보관 범위보다 오래됐으면 스냅샷
+     */
+    public RuleChangeDto.Response changesSince(long since) {
+        Tail current = loaded();
+        if (since > current.version()) {
+            // 다른 인스턴스에서 받은 버전 → 이 인스턴스도 따라잡은 뒤 판단
+            current = sync();
+        }
+        if (since < 0 || since < current.floor() || since > current.version()) {
+            return snapshot(current);
+        }
+        if (since == current.version()) {
+            return new RuleChangeDto.Response(since, false, List.of());
+        }
+
+        Map<String, RuleChangeDto.Change> compacted = new LinkedHashMap<>();
+        for (List<RuleChangeDto.Change> changes : current.changes().subMap(since, false, current.version(), true).values()) {
+            for (RuleChangeDto.Change change : changes) {
+                compacted.remove(change.extension());
+                compacted.put(change.extension(), change);
+            }
+        }
+        return new RuleChangeDto.Response(current.version(), false, List.copyOf(compacted.values()));
+    }
+
+    /**
+     * 롱폴링 - 변경이 있으면 즉시, 없으면 새 버전이 생기거나 waitMillis가 지날 때 응답
+     */
+    public DeferredResult<ApiResponse<RuleChangeDto.Response>> await(long since, long waitMillis) {
+        long timeout = Math.min(Math.max(waitMillis, 0), maxWaitMillis);
+        DeferredResult<ApiResponse<RuleChangeDto.Response>> result = new DeferredResult<>(timeout > 0 ? timeout : null);
+
+        RuleChangeDto.Response now = changesSince(since);
+        if (timeout == 0 || now.version() != since) {
+            result.setResult(ApiResponse.ok("조회 성공", now));
+            return result;
+        }
+
+        Waiter waiter = new Waiter(since, result);
+        waiters.add(waiter);
+        result.onTimeout(() -> {
+            waiters.remove(waiter);
+            result.setResult(ApiResponse.ok("조회 성공", changesSince(since)));
+        });
+        result.onCompletion(() -> waiters.remove(waiter));
+
+        // 등록 직전에 반영된 변경 놓침 방지
+        if (tail.version() > since && waiters.remove(waiter)) {
+            result.setResult(ApiResponse.ok("조회 성공", changesSince(since)));
+        }
+        return result;
+    }
+
+    /**
+     * SSE 구독 - 밀린 변경(또는 스냅샷)을 먼저 보내고 이후 새 버전마다 "rules" 이벤트 전송
+     */
+    public SseEmitter stream(long since) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, since);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        subscribers.add(subscriber);
+        subscriber.catchUp(new HashMap<>());
+        return emitter;
+    }
+
+    public long getVersion() {
+        return loaded().version();
+    }
+
+    /**
+     * 전체 스냅샷 - 꼬리가 minVersion보다 오래됐으면 먼저 따라잡음 (버전과 목록은 같은 트랜잭션에서 읽은 값)
+     */
+    public RuleChangeDto.Response snapshot(long minVersion) {
+        Tail current = loaded();
+        if (current.version() < minVersion) {
+            current = sync();
+        }
+        return snapshot(current);
+    }
+
+    // ===== 동기화 =====
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRuleChanged(RuleChangedEvent event) {
+        committedVersion.accumulateAndGet(event.version(), Math::max);
+        if (syncQueued.compareAndSet(false, true)) {
+            notifier.execute(() -> {
+                // 실행 직전에 해제 → 이후 커밋은 다시 예약되어 놓치지 않음
+                syncQueued.set(false);
+                try {
+                    sync();
+                } catch (RuntimeException e) {
+                    // 다음 poll에서 다시 따라잡음
+                    log.warn("규칙 변경 피드 동기화 실패: {}", e.getMessage());
+                }
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.rule-feed.poll-interval-ms:1000}")
+    public void poll() {
+        sync();
+    }
+
+    /**
+     * 보관 범위 밖의 변경 기록 삭제 (모든 인스턴스가 같은 retain-versions를 쓰면 누가 지워도 같은 결과)
+     */
+    @Scheduled(fixedDelayString = "${app.rule-feed.prune-interval-ms:600000}")
+    public void prune() {
+        long floor = loaded().version() - retainVersions;
+        if (floor > 0) {
+            Integer deleted = writeTemplate.execute(status -> changeLogRepository.deleteUpTo(floor));
+            if (deleted != null && deleted > 0) {
+                log.info("규칙 변경 기록 정리: 버전 {} 이하 {}행", floor, deleted);
+            }
+        }
+    }
+
+    /**
+     * DB의 새 버전을 메모리 꼬리에 반영하고 대기 중인 구독자에게 전달 (전송은 잠금 밖에서)
+     */
+    Tail sync() {
+        Tail before = tail;
+        Tail after = load();
+        if (before != null && after != before) {
+            notifySubscribers();
+        }
+        return after;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        notifier.shutdownNow();
+    }
+
+    // ===== Private =====
+
+    private synchronized Tail load() {
+        Tail current = tail;
+        long from = current == null ? -1 : current.version();
+
+        long dbVersion = readTemplate.execute(status -> versionRepository.findCurrent().orElse(0L));
+        if (current != null && dbVersion <= from) {
+            return current;
+        }
+
+        long floor = Math.max(0, dbVersion - retainVersions);
+        List<RuleChangeLog> rows = readTemplate.execute(status ->
+                changeLogRepository.findByVersionGreaterThanOrderByVersionAscIdAsc(Math.max(from, floor)));
+
+        NavigableMap<Long, List<RuleChangeDto.Change>> changes =
+                current == null ? new TreeMap<>() : new TreeMap<>(current.changes().tailMap(floor, false));
+        long version = dbVersion;
+        for (RuleChangeLog row : rows) {
+            changes.computeIfAbsent(row.getVersion(), v -> new ArrayList<>()).add(RuleChangeDto.Change.from(row));
+            version = Math.max(version, row.getVersion());
+        }
+        Tail updated = new Tail(version, floor, Collections.unmodifiableNavigableMap(changes));
+        tail = updated;
+        return updated;
+    }
+
+    private Tail loaded() {
+        Tail current = tail;
+        return current != null && current.version() >= committedVersion.get() ? current : sync();
+    }
+
+    private RuleChangeDto.Response snapshot(Tail current) {
+        RuleChangeDto.Response cached = snapshot;
+        if (cached != null && cached.version() >= current.version()) {
+            return cached;
+        }
+        synchronized (snapshotLock) {
+            cached = snapshot;
+            if (cached != null && cached.version() >= current.version()) {
+                return cached;
+            }
+            // 버전과 전체 행을 같은 트랜잭션(REPEATABLE READ)에서 읽어 서로 일치
+            RuleChangeDto.Response loaded = readTemplate.execute(status -> new RuleChangeDto.Response(
+                    versionRepository.findCurrent().orElse(0L),
+                    true,
+                    extensionRepository.findAll().stream().map(RuleChangeDto.Change::from).toList()));
+            snapshot = loaded;
+            return loaded;
+        }
+    }
+
+    /**
+     * 같은 since를 가진 구독자가 많으므로 응답은 since별로 1회만 계산
+     */
+    private void notifySubscribers() {
+        Map<Long, RuleChangeDto.Response> bySince = new HashMap<>();
+        for (Waiter waiter : waiters) {
+            if (waiters.remove(waiter)) {
+                waiter.result().setResult(ApiResponse.ok("조회 성공", bySince.computeIfAbsent(waiter.since(), this::changesSince)));
+            }
+        }
+        for (Subscriber subscriber : subscribers) {
+            subscriber.catchUp(bySince);
+        }
+    }
+
+    /**
+     * @param version 반영한 최신 버전
+     * @param floor   이 버전 이하의 변경은 꼬리에 없음 (since < floor → 스냅샷)
+     * @param changes (floor, version] 범위의 버전별 변경
+     */
+    record Tail(long version, long floor, NavigableMap<Long, List<RuleChangeDto.Change>> changes) {}
+
+    private record Waiter(long since, DeferredResult<ApiResponse<RuleChangeDto.Response>> result) {}
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private long sent;
+
+        private Subscriber(SseEmitter emitter, long since) {
+            this.emitter = emitter;
+            this.sent = since;
+        }
+
+        /**
+         * 전송한 버전 이후 변경을 1건으로 묶어 전송 (구독자별로 순서 보장)
+         */
+        private synchronized void catchUp(Map<Long, RuleChangeDto.Response> bySince) {
+            RuleChangeDto.Response response = bySince.computeIfAbsent(sent, RuleChangeFeed.this::changesSince);
+            if (sent >= 0 && response.version() <= sent) {
+                return;
+            }
+            try {
+                emitter.send(SseEmitter.event()
+                        .id(Long.toString(response.version()))
+                        .name(EVENT_NAME)
+                        .data(response));
+                sent = response.version();
+            } catch (IOException | IllegalStateException e) {
+                subscribers.remove(this);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+}
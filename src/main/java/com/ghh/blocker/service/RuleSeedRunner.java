@@ -0,0 +1,32 @@
+package com.ghh.blocker.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 기본 규칙 등록 (고정 확장자 + 내용 규칙, 기본 MIME 매핑)
+ *
+ * 시점:
+ *   컨텍스트 refresh 이후 → CDS 학습 실행(-Dspring.context.exit=onRefresh)은 DB 없이 종료
+ *   ApplicationRunner는 ReadinessState가 ACCEPTING_TRAFFIC으로 바뀌기 전에 실행
+ *   → 고정 규칙 행이 생기기 전에는 readiness가 OUT_OF_SERVICE (트래픽을 받지 않음)
+ *   가장 먼저 실행 → TikaWarmup 등 다른 러너는 등록된 규칙으로 동작
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class RuleSeedRunner implements ApplicationRunner {
+
+    private final ExtensionService extensionService;
+    private final MimeRuleService mimeRuleService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        extensionService.init();
+        mimeRuleService.init();
+    }
+}
@@ -0,0 +1,280 @@
+package com.ghh.blocker.service;
+
+import com.ghh.blocker.dto.FileUploadDto;
+import com.ghh.blocker.dto.UploadJobDto;
+import com.ghh.blocker.exception.FileBlockedException;
+import com.ghh.blocker.exception.FileStorageException;
+import com.ghh.blocker.exception.ServiceOverloadedException;
+import com.ghh.blocker.exception.UploadSessionException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기 업로드 검증 작업
+ *
+ * 흐름:
+ *   제출  → 파트를 작업 디렉터리로 옮기고 즉시 작업 ID 반환 (요청은 검사 시간과 무관하게 종료)
+ *   워커  → FileUploadService.uploadFiles와 같은 All or Nothing 검증 → 결과 기록 후 임시 파일 삭제
+ *   조회  → 상태 폴링 또는 SSE (상태가 바뀔 때마다 "status" 이벤트, 종료 상태에서 스트림 완료)
+ *
+ * 저장소는 작업 수 상한(max-jobs, 대기/실행/결과 보관 포함)을 넘으면 503으로 거부하고,
+ * 끝난 작업은 result-ttl 이후 정리됩니다.
+ *
+ * 메트릭:
+ *   blocker.upload.jobs.queued   워커를 기다리는 작업 수
+ *   blocker.upload.jobs.stored   보관 중인 작업 수 (상한 대비)
+ *   blocker.upload.jobs.latency  제출 → 판정 완료 시간 (state 태그)
+ */
+@Slf4j
+@Service
+public class UploadJobService {
+
+    private static final String EVENT_NAME = "status";
+
+    private final FileUploadService fileUploadService;
+    private final Path jobDir;
+    private final int maxJobs;
+    private final long resultTtlMillis;
+    private final ThreadPoolExecutor workers;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    /** 상한 검사용 예약 카운터 (jobs.size()는 등록 전 경쟁을 막지 못함) */
+    private final AtomicInteger stored = new AtomicInteger();
+
+    public UploadJobService(FileUploadService fileUploadService,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.upload-jobs.dir:${java.io.tmpdir}/blocker-jobs}") String jobDir,
+                            @Value("${app.upload-jobs.workers:4}") int workers,
+                            @Value("${app.upload-jobs.max-jobs:200}") int maxJobs,
+                            @Value("${app.upload-jobs.result-ttl:10m}") Duration resultTtl) {
+        this.fileUploadService = fileUploadService;
+        this.meterRegistry = meterRegistry;
+        this.jobDir = Path.of(jobDir).toAbsolutePath();
+        this.maxJobs = maxJobs;
+        this.resultTtlMillis = resultTtl.toMillis();
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "upload-job-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        Gauge.builder("blocker.upload.jobs.queued", this.workers, executor -> executor.getQueue().size())
+                .description("워커를 기다리는 업로드 검증 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("blocker.upload.jobs.stored", stored, AtomicInteger::get)
+                .description("보관 중인 업로드 검증 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 작업 제출 - 파트를 임시 디렉터리로 옮긴 뒤 대기열에 넣음
+     */
+    public UploadJobDto.Status submit(List<MultipartFile> files) {
+        if (files == null || files.isEmpty()) {
+            throw new FileBlockedException("업로드할 파일이 없습니다.");
+        }
+        if (stored.incrementAndGet() > maxJobs) {
+            stored.decrementAndGet();
+            throw new ServiceOverloadedException("진행 중인 업로드 검증 작업이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        String id = UUID.randomUUID().toString();
+        Path dir = jobDir.resolve(id);
+        List<MultipartFile> storedFiles = new ArrayList<>(files.size());
+        try {
+            Files.createDirectories(dir);
+            for (int i = 0; i < files.size(); i++) {
+                storedFiles.add(new StoredMultipartFile(files.get(i), dir.resolve(i + ".part")));
+            }
+        } catch (IOException e) {
+            stored.decrementAndGet();
+            deleteQuietly(dir);
+            throw new FileStorageException("업로드 검증 작업 생성 중 오류가 발생했습니다.", e);
+        }
+
+        Job job = new Job(id, dir, storedFiles);
+        jobs.put(id, job);
+        workers.execute(() -> run(job));
+        log.info("업로드 검증 작업 제출: {} ({}개 파일)", id, files.size());
+        return job.toStatus();
+    }
+
+    public UploadJobDto.Status status(String id) {
+        return getJob(id).toStatus();
+    }
+
+    /**
+     * 상태 구독 - 현재 상태를 바로 보내고, 이후 변경마다 전송 (종료 상태면 즉시 완료)
+     */
+    public SseEmitter subscribe(String id) {
+        Job job = getJob(id);
+        SseEmitter emitter = new SseEmitter(resultTtlMillis);
+        synchronized (job) {
+            send(emitter, job.toStatus());
+            if (job.state.isFinished()) {
+                emitter.complete();
+                return emitter;
+            }
+            job.emitters.add(emitter);
+        }
+        Runnable remove = () -> {
+            synchronized (job) {
+                job.emitters.remove(emitter);
+            }
+        };
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+        return emitter;
+    }
+
+    @Scheduled(fixedDelayString = "${app.upload-jobs.cleanup-interval-ms:60000}")
+    public void cleanupExpired() {
+        long now = System.currentTimeMillis();
+        jobs.values().removeIf(job -> {
+            synchronized (job) {
+                if (!job.state.isFinished() || now - job.finishedAt.toEpochMilli() < resultTtlMillis) {
+                    return false;
+                }
+            }
+            stored.decrementAndGet();
+            log.debug("업로드 검증 작업 만료: {}", job.id);
+            return true;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+        jobs.values().forEach(job -> deleteQuietly(job.dir));
+    }
+
+    // ===== Private =====
+
+    private Job getJob(String id) {
+        Job job = jobs.get(id);
+        if (job == null) {
+            throw new UploadSessionException(HttpStatus.NOT_FOUND, "업로드 검증 작업이 없거나 만료되었습니다.");
+        }
+        return job;
+    }
+
+    private void run(Job job) {
+        update(job, UploadJobDto.State.RUNNING, null, null);
+        try {
+            FileUploadDto.Response result = fileUploadService.uploadFiles(job.files);
+            update(job, UploadJobDto.State.ACCEPTED, "파일 업로드 성공!", result);
+        } catch (FileBlockedException e) {
+            update(job, UploadJobDto.State.BLOCKED, e.getMessage(), null);
+        } catch (ServiceOverloadedException e) {
+            update(job, UploadJobDto.State.FAILED, e.getMessage(), null);
+        } catch (RuntimeException e) {
+            log.error("업로드 검증 작업 실패: {}", job.id, e);
+            update(job, UploadJobDto.State.FAILED, "서버 내부 오류가 발생했습니다.", null);
+        } finally {
+            deleteQuietly(job.dir);
+        }
+    }
+
+    private void update(Job job, UploadJobDto.State state, String message, FileUploadDto.Response result) {
+        UploadJobDto.Status status;
+        List<SseEmitter> emitters;
+        synchronized (job) {
+            job.state = state;
+            job.message = message;
+            job.result = result;
+            if (state.isFinished()) {
+                job.finishedAt = Instant.now();
+            }
+            status = job.toStatus();
+            emitters = List.copyOf(job.emitters);
+            if (state.isFinished()) {
+                job.emitters.clear();
+            }
+        }
+
+        for (SseEmitter emitter : emitters) {
+            send(emitter, status);
+            if (state.isFinished()) {
+                emitter.complete();
+            }
+        }
+        if (state.isFinished()) {
+            Timer.builder("blocker.upload.jobs.latency")
+                    .description("업로드 검증 작업 제출 → 판정 완료 시간")
+                    .tag("state", state.name())
+                    .register(meterRegistry)
+                    .record(Duration.between(job.submittedAt, job.finishedAt));
+            log.info("업로드 검증 작업 종료: {} ({})", job.id, state);
+        }
+    }
+
+    private static void send(SseEmitter emitter, UploadJobDto.Status status) {
+        try {
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(status));
+        } catch (IOException | IllegalStateException e) {
+            // 연결이 끊긴 구독자 - 상태는 폴링으로 계속 조회 가능
+            emitter.completeWithError(e);
+        }
+    }
+
+    private static void deleteQuietly(Path dir) {
+        try {
+            FileSystemUtils.deleteRecursively(dir);
+        } catch (IOException e) {
+            log.warn("작업 디렉터리 삭제 실패: {}", dir, e);
+        }
+    }
+
+    private static final class Job {
+        private final String id;
+        private final Path dir;
+        private final List<MultipartFile> files;
+        private final Instant submittedAt = Instant.now();
+        private final List<SseEmitter> emitters = new ArrayList<>();
+
+        private UploadJobDto.State state = UploadJobDto.State.QUEUED;
+        private String message;
+        private FileUploadDto.Response result;
+        private Instant finishedAt;
+
+        private Job(String id, Path dir, List<MultipartFile> files) {
+            this.id = id;
+            this.dir = dir;
+            this.files = files;
+        }
+
+        private synchronized UploadJobDto.Status toStatus() {
+            return new UploadJobDto.Status(id, state, files.size(), message, result, submittedAt, finishedAt);
+        }
+    }
+}
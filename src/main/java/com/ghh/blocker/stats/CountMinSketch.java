@@ -0,0 +1,102 @@
+package com.ghh.blocker.stats;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Count-Min Sketch - 키 종류 수와 무관한 고정 메모리 빈도 추정 (depth × width 카운터)
+ *
+ * 추정값은 실제 빈도 이상 (과대 추정만 있음):
+ *   추정 - 실제 ≤ e / width × 전체 건수 (확률 1 - e^-depth 이상)
+ *   width 1024, depth 4 → 전체의 약 0.27% 이내, 98% 이상
+ *
+ * 행별 위치는 64비트 해시 1개에서 이중 해싱(h1 + i·h2)으로 계산 → 키당 해시 1회
+ * 카운터는 AtomicLongArray (락 없음, 같은 키 동시 증가는 CAS 경합만)
+ */
+final class CountMinSketch {
+
+    private final int depth;
+    private final int width;
+    private final int mask;
+    private final AtomicLongArray counts;
+
+    /**
+     * @param width 2의 거듭제곱
+     */
+    CountMinSketch(int depth, int width) {
+        if (depth < 1 || width < 1 || Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("depth ≥ 1, width는 2의 거듭제곱이어야 합니다: " + depth + " × " + width);
+        }
+        this.depth = depth;
+        this.width = width;
+        this.mask = width - 1;
+        this.counts = new AtomicLongArray(depth * width);
+    }
+
+    /**
+     * 1 증가
+     * @return 증가 후 추정 빈도
+     */
+    long add(String key) {
+        long hash = hash(key);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counts.incrementAndGet(index(hash, row)));
+        }
+        return estimate;
+    }
+
+    long estimate(String key) {
+        return estimate(List.of(this), key);
+    }
+
+    /**
+     * 여러 스케치를 합친 빈도 추정 (같은 depth/width끼리는 카운터 합 = 합친 스트림의 스케치)
+     */
+    static long estimate(List<CountMinSketch> sketches, String key) {
+        if (sketches.isEmpty()) {
+            return 0;
+        }
+        long hash = hash(key);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < sketches.get(0).depth; row++) {
+            long sum = 0;
+            for (CountMinSketch sketch : sketches) {
+                sum += sketch.counts.get(sketch.index(hash, row));
+            }
+            estimate = Math.min(estimate, sum);
+        }
+        return estimate;
+    }
+
+    int width() {
+        return width;
+    }
+
+    long sizeInBytes() {
+        return (long) depth * width * Long.BYTES;
+    }
+
+    // ===== Private =====
+
+    private int index(long hash, int row) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        return row * width + ((h1 + row * h2) & mask);
+    }
+
+    /**
+     * FNV-1a 64 + 최종 혼합 (String.hashCode는 32비트라 충돌 시 모든 행이 같이 겹침)
+     */
+    private static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return h;
+    }
+}
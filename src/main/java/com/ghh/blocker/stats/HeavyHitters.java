@@ -0,0 +1,66 @@
+package com.ghh.blocker.stats;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 빈도 상위 후보 키 (최대 capacity개) - 빈도 자체는 CountMinSketch가 보관
+ *
+ * offer 경로:
+ *   이미 후보인 키        추정값만 갱신 (ConcurrentHashMap 1회, 락 없음)
+ *   후보 밖 + floor 이하   무시 (volatile 읽기 1회)
+ *   후보 밖 + floor 초과   락 안에서 가장 작은 후보와 교체 (O(capacity), 새 강자가 나타날 때만)
+ * → 키 종류가 무한해도 후보 문자열은 capacity개만 보관
+ */
+final class HeavyHitters {
+
+    private final int capacity;
+    private final Map<String, Long> candidates;
+
+    /** 후보가 가득 찼을 때 가장 작은 추정값 (그 이하는 후보가 될 수 없음) */
+    private volatile long floor;
+
+    HeavyHitters(int capacity) {
+        this.capacity = capacity;
+        this.candidates = new ConcurrentHashMap<>(capacity * 2);
+    }
+
+    void offer(String key, long estimate) {
+        if (candidates.replace(key, estimate) != null || estimate <= floor) {
+            return;
+        }
+        synchronized (this) {
+            if (candidates.containsKey(key)) {
+                candidates.put(key, estimate);
+                return;
+            }
+            if (candidates.size() >= capacity) {
+                Map.Entry<String, Long> min = min();
+                if (min.getValue() >= estimate) {
+                    floor = min.getValue();
+                    return;
+                }
+                candidates.remove(min.getKey());
+            }
+            candidates.put(key, estimate);
+            if (candidates.size() >= capacity) {
+                floor = min().getValue();
+            }
+        }
+    }
+
+    Set<String> keys() {
+        return candidates.keySet();
+    }
+
+    private Map.Entry<String, Long> min() {
+        Map.Entry<String, Long> min = null;
+        for (Map.Entry<String, Long> entry : candidates.entrySet()) {
+            if (min == null || entry.getValue() < min.getValue()) {
+                min = entry;
+            }
+        }
+        return min;
+    }
+}
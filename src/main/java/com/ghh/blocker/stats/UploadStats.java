@@ -0,0 +1,198 @@
+package com.ghh.blocker.stats;
+
+import com.ghh.blocker.dto.UploadStatsDto;
+import com.ghh.blocker.exception.BlockedExtensionException;
+import com.ghh.blocker.rule.BlockRuleSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * 최근 window 동안의 업로드 판정 통계 (메모리, DB 조회 없음)
+ *
+ * 구조: bucket 길이의 버킷 window / bucket개를 순환 (시각 → 슬롯, 지난 버킷은 새 버킷으로 교체)
+ *   버킷 1개 = 업로드/차단 수 (LongAdder - 스레드별 셀로 분산)
+ *            + 단계별 차단 수 (단계 = 등록된 검사 이름, 개수 고정)
+ *            + 확장자 빈도 Count-Min Sketch 2개 (차단 / 허용) + 상위 후보 HeavyHitters 2개
+ *   → 확장자 종류가 무한해도 메모리는 버킷 수 × 스케치 크기로 고정
+ *
+ * 업로드 경로 (파일 1개당): LongAdder 증가 + 스케치 depth개 증가 + 후보 갱신 (대부분 락 없음) → O(1)
+ * 조회 경로: 살아 있는 버킷의 후보 합집합을 버킷 스케치 합으로 다시 추정해 정렬
+ *
+ * 경계: 버킷을 교체하는 순간 이전 버킷 참조로 기록 중인 판정 몇 건은 빠질 수 있음 (통계용으로 허용)
+ */
+@Slf4j
+@Component
+public class UploadStats {
+
+    /** 커스텀 확장자 최대 길이 - 더 긴 확장자는 잘라서 집계 (후보 문자열 크기 제한) */
+    private static final int MAX_EXTENSION_LENGTH = 20;
+    private static final String ERROR_STAGE = "error";
+
+    private final boolean enabled;
+    private final long bucketMillis;
+    private final int bucketCount;
+    private final int sketchDepth;
+    private final int sketchWidth;
+    private final int topCandidates;
+    private final LongSupplier clock;
+    private final AtomicReferenceArray<Bucket> buckets;
+
+    @Autowired
+    public UploadStats(UploadStatsProperties properties) {
+        this(properties, System::currentTimeMillis);
+    }
+
+    UploadStats(UploadStatsProperties properties, LongSupplier clock) {
+        this.enabled = properties.enabled();
+        this.bucketMillis = properties.bucket().toMillis();
+        if (bucketMillis <= 0 || properties.window().toMillis() < bucketMillis) {
+            throw new IllegalArgumentException("app.upload-stats: bucket은 0보다 크고 window 이하여야 합니다.");
+        }
+        if (properties.topCandidates() < 1) {
+            throw new IllegalArgumentException("app.upload-stats.top-candidates는 1 이상이어야 합니다.");
+        }
+        this.bucketCount = (int) (properties.window().toMillis() / bucketMillis);
+        this.sketchDepth = properties.sketchDepth();
+        this.sketchWidth = properties.sketchWidth();
+        this.topCandidates = properties.topCandidates();
+        this.clock = clock;
+        this.buckets = new AtomicReferenceArray<>(bucketCount);
+
+        long sketchBytes = new CountMinSketch(sketchDepth, sketchWidth).sizeInBytes();
+        log.info("업로드 통계: 버킷 {}개 × {}ms, 스케치 {}×{} (최대 약 {}KB)", bucketCount, bucketMillis,
+                sketchDepth, sketchWidth, bucketCount * sketchBytes * 2 / 1024);
+    }
+
+    /**
+     * 판정 1건 기록 (업로드 경로)
+     * @param stage 차단한 검사 이름 (허용 시 무시, 차단인데 null이면 검사 오류)
+     */
+    public void record(String extension, boolean allowed, String stage) {
+        if (!enabled) {
+            return;
+        }
+        Bucket bucket = bucket(clock.getAsLong() / bucketMillis);
+        String key = extension.length() > MAX_EXTENSION_LENGTH ? extension.substring(0, MAX_EXTENSION_LENGTH) : extension;
+
+        bucket.uploads.increment();
+        if (allowed) {
+            bucket.allowedTop.offer(key, bucket.allowed.add(key));
+            return;
+        }
+        bucket.blocks.increment();
+        bucket.stages.computeIfAbsent(stage == null ? ERROR_STAGE : stage, s -> new LongAdder()).increment();
+        bucket.blockedTop.offer(key, bucket.blocked.add(key));
+    }
+
+    /**
+     * @param top   목록별 최대 확장자 수
+     * @param rules 현재 규칙 (허용 목록에서 그 사이 차단하게 된 확장자 제외)
+     */
+    public UploadStatsDto.Response snapshot(int top, BlockRuleSnapshot rules) {
+        if (!enabled) {
+            throw new BlockedExtensionException("업로드 통계가 비활성화되어 있습니다.");
+        }
+        if (top < 1) {
+            throw new BlockedExtensionException("top은 1 이상이어야 합니다.");
+        }
+
+        long current = clock.getAsLong() / bucketMillis;
+        long oldest = current - bucketCount + 1;
+        List<Bucket> live = new ArrayList<>();
+        for (int i = 0; i < bucketCount; i++) {
+            Bucket bucket = buckets.get(i);
+            if (bucket != null && bucket.epoch >= oldest && bucket.epoch <= current) {
+                live.add(bucket);
+            }
+        }
+
+        long uploads = 0;
+        long blocks = 0;
+        Map<String, Long> byStage = new TreeMap<>();
+        for (Bucket bucket : live) {
+            uploads += bucket.uploads.sum();
+            blocks += bucket.blocks.sum();
+            bucket.stages.forEach((stage, count) -> byStage.merge(stage, count.sum(), Long::sum));
+        }
+
+        return new UploadStatsDto.Response(
+                Instant.ofEpochMilli(oldest * bucketMillis),
+                uploads,
+                blocks,
+                byStage,
+                rank(live, b -> b.blocked, b -> b.blockedTop, blocks, top, ext -> true),
+                rank(live, b -> b.allowed, b -> b.allowedTop, uploads - blocks, top,
+                        ext -> !rules.blocksExtension(ext)));
+    }
+
+    // ===== Private =====
+
+    private Bucket bucket(long epoch) {
+        int slot = Math.floorMod(epoch, bucketCount);
+        Bucket bucket = buckets.get(slot);
+        while (bucket == null || bucket.epoch < epoch) {
+            Bucket fresh = new Bucket(epoch, sketchDepth, sketchWidth, topCandidates);
+            if (buckets.compareAndSet(slot, bucket, fresh)) {
+                return fresh;
+            }
+            bucket = buckets.get(slot);
+        }
+        // 시계가 뒤로 간 경우 더 최근 버킷에 기록
+        return bucket;
+    }
+
+    private UploadStatsDto.Ranking rank(List<Bucket> live,
+                                        Function<Bucket, CountMinSketch> sketch,
+                                        Function<Bucket, HeavyHitters> heavyHitters,
+                                        long total, int top, Predicate<String> include) {
+        List<CountMinSketch> sketches = live.stream().map(sketch).toList();
+        Set<String> candidates = new HashSet<>();
+        live.forEach(bucket -> candidates.addAll(heavyHitters.apply(bucket).keys()));
+
+        List<UploadStatsDto.ExtensionCount> ranked = candidates.stream()
+                .filter(include)
+                .map(ext -> new UploadStatsDto.ExtensionCount(ext, CountMinSketch.estimate(sketches, ext)))
+                .sorted(Comparator.comparingLong(UploadStatsDto.ExtensionCount::count).reversed()
+                        .thenComparing(UploadStatsDto.ExtensionCount::extension))
+                .limit(top)
+                .toList();
+        long maxOverestimate = (long) Math.ceil(Math.E / sketchWidth * total);
+        return new UploadStatsDto.Ranking(total, maxOverestimate, ranked);
+    }
+
+    private static final class Bucket {
+
+        private final long epoch;
+        private final LongAdder uploads = new LongAdder();
+        private final LongAdder blocks = new LongAdder();
+        private final Map<String, LongAdder> stages = new ConcurrentHashMap<>();
+        private final CountMinSketch blocked;
+        private final CountMinSketch allowed;
+        private final HeavyHitters blockedTop;
+        private final HeavyHitters allowedTop;
+
+        private Bucket(long epoch, int depth, int width, int topCandidates) {
+            this.epoch = epoch;
+            this.blocked = new CountMinSketch(depth, width);
+            this.allowed = new CountMinSketch(depth, width);
+            this.blockedTop = new HeavyHitters(topCandidates);
+            this.allowedTop = new HeavyHitters(topCandidates);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.ghh.blocker.stats;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(UploadStatsProperties.class)
+public class UploadStatsConfig {
+}
@@ -0,0 +1,36 @@
+package com.ghh.blocker.stats;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 업로드 판정 통계 설정 (app.upload-stats.*)
+ */
+@ConfigurationProperties(prefix = "app.upload-stats")
+public record UploadStatsProperties(
+
+        @DefaultValue("true")
+        boolean enabled,
+
+        /* 집계 구간 (최근 window 동안의 판정) */
+        @DefaultValue("1h")
+        Duration window,
+
+        /* 버킷 1개의 길이 (window / bucket개를 순환 - 오래된 버킷은 통째로 버림) */
+        @DefaultValue("1m")
+        Duration bucket,
+
+        /* Count-Min Sketch 행당 카운터 수 (2의 거듭제곱, 과대 추정 ≤ 전체 × e / width) */
+        @DefaultValue("1024")
+        int sketchWidth,
+
+        /* Count-Min Sketch 행 수 (오차 한도를 넘을 확률 ≤ e^-depth) */
+        @DefaultValue("4")
+        int sketchDepth,
+
+        /* 버킷마다 보관할 상위 확장자 후보 수 */
+        @DefaultValue("64")
+        int topCandidates
+) {}
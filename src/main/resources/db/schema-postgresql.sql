@@ -0,0 +1,43 @@
+-- 빠른 기동 모드(fast 프로필) 전용 스키마
+-- 엔티티 변경 시 함께 수정해야 합니다.
+
+CREATE TABLE IF NOT EXISTS blocked_extension (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    extension  VARCHAR(20) NOT NULL,
+    type       VARCHAR(10) NOT NULL,
+    match_type VARCHAR(10) NOT NULL DEFAULT 'EXACT',
+    blocked    BOOLEAN     NOT NULL,
+    version    BIGINT,
+    CONSTRAINT uk_blocked_extension_extension UNIQUE (extension)
+);
+
+ALTER TABLE blocked_extension ADD COLUMN IF NOT EXISTS match_type VARCHAR(10) NOT NULL DEFAULT 'EXACT';
+
+CREATE TABLE IF NOT EXISTS mime_rule (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    mime_type  VARCHAR(100) NOT NULL,
+    extension  VARCHAR(20)  NOT NULL,
+    CONSTRAINT uk_mime_rule_mime_type_extension UNIQUE (mime_type, extension)
+);
+
+CREATE TABLE IF NOT EXISTS rule_version (
+    id      INTEGER PRIMARY KEY,
+    version BIGINT NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS rule_change_log (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    version    BIGINT      NOT NULL,
+    operation  VARCHAR(20) NOT NULL,
+    extension  VARCHAR(20) NOT NULL,
+    type       VARCHAR(10),
+    blocked    BOOLEAN     NOT NULL,
+    deleted    BOOLEAN     NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_rule_change_log_version ON rule_change_log (version);
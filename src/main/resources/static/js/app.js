@@ -17,7 +17,7 @@ async function request(url, options = {}) {
 }
 
 function sanitizeInput(value) {
-    return value.replace(/[^a-z0-9, ]/g, '');
+    return value.replace(/[^a-z0-9*?., ]/g, '');
 }
 
 // ===== 초기화 =====
@@ -49,16 +49,31 @@ async function loadFixedExtensions() {
     `).join('');
 }
 
-async function toggleFixed(extension, blocked) {
-    const data = await request(`${API}/fixed`, {
+// 연속 클릭은 모아서 한 번에 전송 (PATCH /fixed/batch)
+const pendingFixed = {};
+let fixedFlushTimer = null;
+
+function toggleFixed(extension, blocked) {
+    pendingFixed[extension] = blocked;
+    clearTimeout(fixedFlushTimer);
+    fixedFlushTimer = setTimeout(flushFixed, 300);
+}
+
+async function flushFixed() {
+    const changes = { ...pendingFixed };
+    Object.keys(pendingFixed).forEach(ext => delete pendingFixed[ext]);
+
+    const data = await request(`${API}/fixed/batch`, {
         method: 'PATCH',
         headers: { 'Content-Type': 'application/json' },
-        body: JSON.stringify({ extension, blocked })
+        body: JSON.stringify({ extensions: changes })
     });
     if (!data) {
         // 실패 시 체크 되돌리기
-        const cb = document.getElementById('fixed-' + extension);
-        if (cb) cb.checked = !blocked;
+        Object.entries(changes).forEach(([extension, blocked]) => {
+            const cb = document.getElementById('fixed-' + extension);
+            if (cb) cb.checked = !blocked;
+        });
     }
 }
 
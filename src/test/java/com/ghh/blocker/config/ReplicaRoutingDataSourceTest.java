@@ -0,0 +1,144 @@
+package com.ghh.blocker.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * H2 인메모리 DB 2개(primary / replica)로 라우팅 검증
+ * - 각 DB의 marker 테이블 값으로 실제 접속 대상 확인
+ */
+@DisplayName("읽기/쓰기 DataSource 라우팅")
+class ReplicaRoutingDataSourceTest {
+
+    private static final String IN_SYNC = "SELECT 0";
+    private static final String LAGGING = "SELECT 60000";
+
+    private DataSource primary;
+    private DataSource replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("routing_primary");
+        replica = h2("routing_replica");
+        initMarker(primary, "primary");
+        initMarker(replica, "replica");
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 레플리카로 라우팅된다")
+    void read_only_goes_to_replica() {
+        Routing routing = routing(List.of(replica), IN_SYNC);
+
+        assertThat(routing.readMarker(true)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 Primary로 라우팅된다")
+    void read_write_goes_to_primary() {
+        Routing routing = routing(List.of(replica), IN_SYNC);
+
+        assertThat(routing.readMarker(false)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖의 쿼리는 Primary로 라우팅된다")
+    void no_transaction_goes_to_primary() {
+        Routing routing = routing(List.of(replica), IN_SYNC);
+
+        assertThat(new JdbcTemplate(routing.dataSource)
+                .queryForObject("SELECT name FROM marker", String.class)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("허용치보다 지연된 레플리카는 제외되고 Primary로 폴백한다")
+    void lagging_replica_falls_back_to_primary() {
+        Routing routing = routing(List.of(replica), LAGGING);
+
+        assertThat(routing.monitor.isHealthy(0)).isFalse();
+        assertThat(routing.monitor.getLagMs(0)).isEqualTo(60000);
+        assertThat(routing.readMarker(true)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("레플리카 커넥션 실패 시 Primary로 폴백하고 다음 점검까지 제외한다")
+    void unreachable_replica_falls_back_to_primary() {
+        DriverManagerDataSource flaky = new DriverManagerDataSource(
+                "jdbc:h2:mem:routing_replica;DB_CLOSE_DELAY=-1", "sa", "");
+        Routing routing = routing(List.of(flaky), IN_SYNC);
+        assertThat(routing.monitor.isHealthy(0)).isTrue();
+
+        // 점검 이후 레플리카 장애 발생
+        flaky.setUrl("jdbc:h2:tcp://localhost:1/unreachable");
+
+        assertThat(routing.readMarker(true)).isEqualTo("primary");
+        assertThat(routing.monitor.isHealthy(0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("레플리카가 복구되면 다시 읽기 대상에 포함된다")
+    void recovered_replica_rejoins() {
+        DataSource recovering = h2("routing_recovering");
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(List.of(recovering), "SELECT lag FROM lag_state", 1000);
+        Routing routing = new Routing(monitor);
+        new JdbcTemplate(recovering).execute("CREATE TABLE IF NOT EXISTS lag_state (lag BIGINT)");
+        new JdbcTemplate(recovering).execute("DELETE FROM lag_state");
+        new JdbcTemplate(recovering).execute("INSERT INTO lag_state VALUES (5000)");
+        initMarker(recovering, "recovering");
+
+        monitor.checkAll();
+        assertThat(routing.readMarker(true)).isEqualTo("primary");
+
+        new JdbcTemplate(recovering).execute("UPDATE lag_state SET lag = 10");
+        monitor.checkAll();
+        assertThat(routing.readMarker(true)).isEqualTo("recovering");
+    }
+
+    // ===== Helper =====
+
+    private Routing routing(List<DataSource> replicas, String lagQuery) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicas, lagQuery, 1000);
+        monitor.checkAll();
+        return new Routing(monitor);
+    }
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    private static void initMarker(DataSource dataSource, String name) {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS marker (name VARCHAR(20))");
+        jdbc.execute("DELETE FROM marker");
+        jdbc.update("INSERT INTO marker VALUES (?)", name);
+    }
+
+    private class Routing {
+        private final ReplicaLagMonitor monitor;
+        private final DataSource dataSource;
+        private final DataSourceTransactionManager transactionManager;
+
+        private Routing(ReplicaLagMonitor monitor) {
+            this.monitor = monitor;
+            this.dataSource = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, monitor));
+            this.transactionManager = new DataSourceTransactionManager(dataSource);
+        }
+
+        private String readMarker(boolean readOnly) {
+            TransactionTemplate template = new TransactionTemplate(transactionManager);
+            template.setReadOnly(readOnly);
+            return template.execute(status -> new JdbcTemplate(dataSource)
+                    .queryForObject("SELECT name FROM marker", String.class));
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.ghh.blocker.controller;
+
+import com.ghh.blocker.service.ExtensionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {"app.chunked-upload.inspect-bytes=16B", "app.executable-scan.enabled=true"})
+@AutoConfigureMockMvc
+@DisplayName("분할 업로드 API")
+class ChunkedUploadControllerTest {
+
+    private static final String UPLOADS = "/api/extensions/uploads";
+    private static final String OCTET = "application/offset+octet-stream";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ExtensionService extensionService;
+
+    @BeforeEach
+    void setUp() {
+        extensionService.resetAll();
+    }
+
+    @Test
+    @DisplayName("청크를 나눠 보내면 offset이 누적되고 완료된다")
+    void upload_in_chunks() throws Exception {
+        String location = create("notes.txt", 12);
+
+        mockMvc.perform(patch(location).header("Upload-Offset", 0).contentType(OCTET).content("hello "))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string("Upload-Offset", "6"));
+
+        mockMvc.perform(head(location))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Upload-Offset", "6"))
+                .andExpect(header().string("Upload-Length", "12"));
+
+        mockMvc.perform(patch(location).header("Upload-Offset", 6).contentType(OCTET).content("world!"))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string("Upload-Offset", "12"));
+
+        mockMvc.perform(get(location))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.complete").value(true));
+    }
+
+    @Test
+    @DisplayName("offset이 맞지 않는 청크는 409로 거부된다")
+    void offset_mismatch_conflict() throws Exception {
+        String location = create("notes.txt", 12);
+
+        mockMvc.perform(patch(location).header("Upload-Offset", 3).contentType(OCTET).content("lo world!"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    @DisplayName("차단 확장자는 세션 생성 단계에서 거부된다")
+    void blocked_extension_rejected_on_create() throws Exception {
+        extensionService.updateFixedExtension("exe", true);
+
+        mockMvc.perform(post(UPLOADS)
+                        .header("Upload-Length", 1024)
+                        .header("Upload-Metadata", metadata("setup.exe")))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    @DisplayName("첫 청크의 시그니처로 위장 실행 파일을 거부하고 세션을 삭제한다")
+    void disguised_executable_rejected_on_first_chunk() throws Exception {
+        extensionService.updateFixedExtension("exe", true);
+        byte[] firstChunk = new byte[32];
+        Arrays.fill(firstChunk, (byte) 0);
+        firstChunk[0] = 'M';
+        firstChunk[1] = 'Z';
+
+        String location = create("photo.jpg", 10 * 1024 * 1024);
+
+        mockMvc.perform(patch(location).header("Upload-Offset", 0).contentType(OCTET).content(firstChunk))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.message").value(org.hamcrest.Matchers.containsString("MIME")));
+
+        mockMvc.perform(head(location))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("첫 청크 이후에 숨긴 실행 파일은 수신 완료 시 검사 체인 전체로 거부한다")
+    void embedded_executable_rejected_on_completion() throws Exception {
+        byte[] content = new byte[4096];
+        content[0] = (byte) 0xFF;
+        content[1] = (byte) 0xD8;
+        content[2] = (byte) 0xFF;
+        content[3] = (byte) 0xE0;
+        int pe = 2048;
+        content[pe] = 'M';
+        content[pe + 1] = 'Z';
+        content[pe + 0x3C] = (byte) 0x80;
+        content[pe + 0x80] = 'P';
+        content[pe + 0x81] = 'E';
+
+        String location = create("photo.jpg", content.length);
+
+        mockMvc.perform(patch(location).header("Upload-Offset", 0).contentType(OCTET)
+                        .content(Arrays.copyOfRange(content, 0, 1024)))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string("Upload-Offset", "1024"));
+
+        mockMvc.perform(patch(location).header("Upload-Offset", 1024).contentType(OCTET)
+                        .content(Arrays.copyOfRange(content, 1024, content.length)))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.message").value(org.hamcrest.Matchers.containsString("실행 파일 포함: PE")));
+
+        mockMvc.perform(head(location))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("없는 세션은 404를 반환한다")
+    void unknown_session_not_found() throws Exception {
+        mockMvc.perform(head(UPLOADS + "/unknown"))
+                .andExpect(status().isNotFound());
+    }
+
+    // ===== Helper =====
+
+    private String create(String fileName, long length) throws Exception {
+        MvcResult result = mockMvc.perform(post(UPLOADS)
+                        .header("Upload-Length", length)
+                        .header("Upload-Metadata", metadata(fileName)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Upload-Offset", "0"))
+                .andReturn();
+        return result.getResponse().getHeader("Location");
+    }
+
+    private static String metadata(String fileName) {
+        return "filename " + Base64.getEncoder().encodeToString(fileName.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,7 +1,13 @@
 package com.ghh.blocker.controller;
 
+import com.ghh.blocker.dto.UploadJobDto;
 import com.ghh.blocker.repository.BlockedExtensionRepository;
+import com.ghh.blocker.repository.MimeRuleRepository;
+import com.ghh.blocker.rule.RuleBundle;
 import com.ghh.blocker.service.ExtensionService;
+import com.ghh.blocker.service.UploadJobService;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -13,6 +19,13 @@ import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -29,6 +42,12 @@ public class ExtensionApiControllerTest {
     @Autowired
     private BlockedExtensionRepository repository;
 
+    @Autowired
+    private MimeRuleRepository mimeRuleRepository;
+
+    @Autowired
+    private UploadJobService uploadJobService;
+
     @BeforeEach
     void setUp() {
         extensionService.resetAll();
@@ -196,6 +215,29 @@ public class ExtensionApiControllerTest {
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.data").value(3));
         }
+
+        @Test
+        @DisplayName("접두사로 일괄 삭제하고 삭제된 확장자를 반환한다")
+        void bulk_delete_by_prefix() throws Exception {
+            extensionService.addCustomExtensions("py, pyc, java");
+
+            mockMvc.perform(post("/api/extensions/custom/bulk-delete")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"prefix\": \"py\"}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.length()").value(2))
+                    .andExpect(jsonPath("$.data[*].extension").value(org.hamcrest.Matchers.containsInAnyOrder("py", "pyc")));
+        }
+
+        @Test
+        @DisplayName("ids와 prefix를 함께 지정하면 400")
+        void bulk_delete_requires_single_target() throws Exception {
+            mockMvc.perform(post("/api/extensions/custom/bulk-delete")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"ids\": [1], \"prefix\": \"py\"}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("ids와 prefix 중 하나만 지정해주세요."));
+        }
     }
 
     // ===== 파일 업로드 API =====
@@ -257,6 +299,318 @@ public class ExtensionApiControllerTest {
                     .andExpect(status().isForbidden())
                     .andExpect(jsonPath("$.success").value(false));
         }
+
+        @Test
+        @DisplayName("텍스트 파일에 숨긴 스크립트 페이로드는 시그니처로 차단된다")
+        void upload_embedded_script_blocked() throws Exception {
+            MockMultipartFile file = new MockMultipartFile(
+                    "files", "notes.txt", "text/plain",
+                    "meeting notes\n$c = New-Object Net.WebClient; Invoke-Expression $c.DownloadString($u)".getBytes());
+
+            mockMvc.perform(multipart("/api/extensions/upload").file(file))
+                    .andExpect(status().isForbidden())
+                    .andExpect(jsonPath("$.message").value(org.hamcrest.Matchers.containsString("PowerShell")));
+        }
+
+        @Test
+        @DisplayName("패턴 규칙(와일드카드, 복합 확장자)으로 차단된다")
+        void upload_pattern_blocked_file() throws Exception {
+            extensionService.addCustomExtensions("ph*, tar.gz");
+
+            MockMultipartFile phtml = new MockMultipartFile(
+                    "files", "index.phtml", "text/plain", "<?php ?>".getBytes());
+            MockMultipartFile archive = new MockMultipartFile(
+                    "files", "backup.tar.gz", "application/octet-stream", "dummy".getBytes());
+            MockMultipartFile gzip = new MockMultipartFile(
+                    "files", "backup.gz", "application/octet-stream", "dummy".getBytes());
+
+            mockMvc.perform(multipart("/api/extensions/upload").file(phtml))
+                    .andExpect(status().isForbidden())
+                    .andExpect(jsonPath("$.message").value(org.hamcrest.Matchers.containsString(".ph*")));
+            mockMvc.perform(multipart("/api/extensions/upload").file(archive))
+                    .andExpect(status().isForbidden());
+            mockMvc.perform(multipart("/api/extensions/upload").file(gzip))
+                    .andExpect(status().isOk());
+        }
+    }
+
+    // ===== 비동기 업로드 검증 API =====
+
+    @Nested
+    @DisplayName("POST /api/extensions/upload?async=true")
+    class AsyncUpload {
+
+        @Test
+        @DisplayName("202와 작업 ID를 반환하고 검증 결과는 상태 조회로 확인한다")
+        void accepted_job() throws Exception {
+            MockMultipartFile file = new MockMultipartFile(
+                    "files", "report.pdf", "application/pdf", "dummy content".getBytes());
+
+            String id = submit(file);
+
+            assertFinished(id, UploadJobDto.State.ACCEPTED);
+            mockMvc.perform(get("/api/extensions/upload-jobs/" + id))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.state").value("ACCEPTED"))
+                    .andExpect(jsonPath("$.data.result.acceptedFiles").value(1));
+        }
+
+        @Test
+        @DisplayName("차단된 파일이 있으면 작업 전체가 BLOCKED로 끝난다")
+        void blocked_job() throws Exception {
+            extensionService.updateFixedExtension("exe", true);
+            MockMultipartFile ok = new MockMultipartFile(
+                    "files", "readme.txt", "text/plain", "hello".getBytes());
+            MockMultipartFile exe = new MockMultipartFile(
+                    "files", "setup.exe", "application/octet-stream", "MZ".getBytes());
+
+            String id = submit(ok, exe);
+
+            assertFinished(id, UploadJobDto.State.BLOCKED);
+            mockMvc.perform(get("/api/extensions/upload-jobs/" + id))
+                    .andExpect(jsonPath("$.data.message").value(org.hamcrest.Matchers.containsString("setup.exe")));
+        }
+
+        @Test
+        @DisplayName("없는 작업 ID는 404를 반환한다")
+        void unknown_job() throws Exception {
+            mockMvc.perform(get("/api/extensions/upload-jobs/unknown"))
+                    .andExpect(status().isNotFound());
+        }
+
+        private String submit(MockMultipartFile... files) throws Exception {
+            var request = multipart("/api/extensions/upload");
+            for (MockMultipartFile file : files) {
+                request.file(file);
+            }
+            request.param("async", "true");
+            String body = mockMvc.perform(request)
+                    .andExpect(status().isAccepted())
+                    .andExpect(header().exists("Location"))
+                    .andReturn().getResponse().getContentAsString();
+            return JsonPath.read(body, "$.data.id");
+        }
+
+        private void assertFinished(String id, UploadJobDto.State expected) throws InterruptedException {
+            UploadJobDto.State state = null;
+            for (int i = 0; i < 100 && (state == null || !state.isFinished()); i++) {
+                Thread.sleep(50);
+                state = uploadJobService.status(id).state();
+            }
+            assertThat(state).isEqualTo(expected);
+        }
+    }
+
+    // ===== MIME 규칙 API =====
+
+    @Nested
+    @DisplayName("/api/extensions/mime-rules")
+    class MimeRules {
+
+        @AfterEach
+        void cleanUp() {
+            mimeRuleRepository.deleteAll(mimeRuleRepository.findAll().stream()
+                    .filter(rule -> rule.getExtension().equals("dll"))
+                    .toList());
+        }
+
+        @Test
+        @DisplayName("추가한 MIME 매핑이 재배포 없이 바로 판정에 쓰인다")
+        void added_mapping_applies_immediately() throws Exception {
+            extensionService.addCustomExtensions("dll");
+            for (String mime : new String[]{"application/x-msdownload", "application/x-dosexec"}) {
+                mockMvc.perform(post("/api/extensions/mime-rules")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"mimeType\": \"" + mime + "\", \"extension\": \"dll\"}"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.data.active").value(true));
+            }
+
+            byte[] header = new byte[32];
+            header[0] = 'M';
+            header[1] = 'Z';
+            MockMultipartFile file = new MockMultipartFile(
+                    "files", "photo.jpg", "image/jpeg", header);
+
+            mockMvc.perform(multipart("/api/extensions/upload").file(file))
+                    .andExpect(status().isForbidden())
+                    .andExpect(jsonPath("$.message").value(org.hamcrest.Matchers.containsString(".dll")));
+        }
+
+        @Test
+        @DisplayName("이미 있는 매핑은 추가할 수 없다")
+        void add_duplicate_mapping() throws Exception {
+            mockMvc.perform(post("/api/extensions/mime-rules")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"mimeType\": \"application/x-msdownload\", \"extension\": \"exe\"}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.success").value(false));
+        }
+    }
+
+    // ===== 내용 규칙 API =====
+
+    @Nested
+    @DisplayName("/api/extensions/content-rules")
+    class ContentRules {
+
+        @Test
+        @DisplayName("vba-macro 규칙을 켜면 매크로가 든 Office 문서가 거부된다")
+        void macro_document_blocked() throws Exception {
+            MockMultipartFile docx = new MockMultipartFile(
+                    "files", "report.docx", "application/octet-stream",
+                    zip("[Content_Types].xml", "word/document.xml", "word/vbaProject.bin"));
+
+            mockMvc.perform(multipart("/api/extensions/upload").file(docx))
+                    .andExpect(status().isOk());
+
+            mockMvc.perform(patch("/api/extensions/content-rules")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"rule\": \"vba-macro\", \"blocked\": true}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.blocked").value(true));
+
+            mockMvc.perform(multipart("/api/extensions/upload").file(docx))
+                    .andExpect(status().isForbidden())
+                    .andExpect(jsonPath("$.message").value(org.hamcrest.Matchers.containsString("매크로")));
+        }
+
+        @Test
+        @DisplayName("내용 규칙은 확장자 목록에 섞이지 않는다")
+        void content_rule_not_extension() throws Exception {
+            extensionService.updateContentRule("vba-macro", true);
+
+            mockMvc.perform(get("/api/extensions/content-rules"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0].rule").value("vba-macro"));
+            mockMvc.perform(multipart("/api/extensions/upload")
+                            .file(new MockMultipartFile("files", "a.vba-macro", "text/plain", "x".getBytes())))
+                    .andExpect(status().isOk());
+        }
+
+        @Test
+        @DisplayName("없는 내용 규칙은 변경할 수 없다")
+        void unknown_rule() throws Exception {
+            mockMvc.perform(patch("/api/extensions/content-rules")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"rule\": \"exe\", \"blocked\": true}"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        private static byte[] zip(String... names) throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try (ZipOutputStream zip = new ZipOutputStream(out)) {
+                for (String name : names) {
+                    zip.putNextEntry(new ZipEntry(name));
+                    zip.write(new byte[64]);
+                    zip.closeEntry();
+                }
+            }
+            return out.toByteArray();
+        }
+    }
+
+    // ===== 규칙 변경 피드 API =====
+
+    @Nested
+    @DisplayName("GET /api/extensions/changes")
+    class Changes {
+
+        @Test
+        @DisplayName("since 없이 요청하면 전체 스냅샷을 반환한다")
+        void snapshot_without_since() throws Exception {
+            extensionService.updateFixedExtension("exe", true);
+
+            mockMvc.perform(asyncDispatch(mockMvc.perform(get("/api/extensions/changes")).andReturn()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.snapshot").value(true))
+                    .andExpect(jsonPath("$.data.version").value(extensionService.getRuleVersion()))
+                    .andExpect(jsonPath("$.data.changes[?(@.extension == 'exe')].blocked").value(true));
+        }
+
+        @Test
+        @DisplayName("since 이후 변경을 확장자별 마지막 상태로 압축해 반환한다")
+        void compacted_changes_since() throws Exception {
+            long since = extensionService.getRuleVersion();
+            extensionService.updateFixedExtension("exe", true);
+            extensionService.addCustomExtensions("sh");
+            Long id = repository.findByExtension("sh").orElseThrow().getId();
+            extensionService.deleteCustomExtension(id);
+
+            var result = mockMvc.perform(get("/api/extensions/changes").param("since", String.valueOf(since)))
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.snapshot").value(false))
+                    .andExpect(jsonPath("$.data.version").value(since + 3))
+                    .andExpect(jsonPath("$.data.changes.length()").value(2))
+                    .andExpect(jsonPath("$.data.changes[0].extension").value("exe"))
+                    .andExpect(jsonPath("$.data.changes[0].blocked").value(true))
+                    .andExpect(jsonPath("$.data.changes[1].extension").value("sh"))
+                    .andExpect(jsonPath("$.data.changes[1].deleted").value(true));
+        }
+
+        @Test
+        @DisplayName("롱폴링은 새 버전이 커밋되면 응답한다")
+        void long_poll_wakes_on_change() throws Exception {
+            long since = extensionService.getRuleVersion();
+
+            var pending = mockMvc.perform(get("/api/extensions/changes")
+                            .param("since", String.valueOf(since))
+                            .param("waitMs", "5000"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            extensionService.addCustomExtensions("py");
+
+            mockMvc.perform(asyncDispatch(pending))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.version").value(since + 1))
+                    .andExpect(jsonPath("$.data.changes[0].extension").value("py"))
+                    .andExpect(jsonPath("$.data.changes[0].type").value("CUSTOM"));
+        }
+    }
+
+    // ===== 규칙 번들 API =====
+
+    @Nested
+    @DisplayName("GET /api/extensions/rule-bundle")
+    class RuleBundleExport {
+
+        @Test
+        @DisplayName("현재 규칙과 버전을 번들로 내려받는다")
+        void export_current_rules() throws Exception {
+            extensionService.updateFixedExtension("exe", true);
+            extensionService.addCustomExtensions("ph*");
+            long version = extensionService.getRuleVersion();
+
+            byte[] body = mockMvc.perform(get("/api/extensions/rule-bundle"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"" + version + "\""))
+                    .andExpect(content().contentType(MediaType.APPLICATION_OCTET_STREAM))
+                    .andReturn().getResponse().getContentAsByteArray();
+
+            RuleBundle bundle = RuleBundle.wrap(ByteBuffer.wrap(body));
+            assertThat(bundle.ruleVersion()).isEqualTo(version);
+            assertThat(bundle.match("setup.exe")).isEqualTo("exe");
+            assertThat(bundle.match("index.phtml")).isEqualTo("ph*");
+            assertThat(bundle.match("notes.txt")).isNull();
+        }
+
+        @Test
+        @DisplayName("규칙 버전이 같으면 304를 반환한다")
+        void not_modified_same_version() throws Exception {
+            String etag = "\"" + extensionService.getRuleVersion() + "\"";
+
+            mockMvc.perform(get("/api/extensions/rule-bundle").header("If-None-Match", etag))
+                    .andExpect(status().isNotModified());
+
+            extensionService.updateFixedExtension("exe", true);
+
+            mockMvc.perform(get("/api/extensions/rule-bundle").header("If-None-Match", etag))
+                    .andExpect(status().isOk());
+        }
     }
 
     // ===== 초기화 / 테스트 데이터 API =====
@@ -0,0 +1,113 @@
+package com.ghh.blocker.controller;
+
+import com.ghh.blocker.service.ExtensionService;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 업로드 검증 파이프라인 span 확인 (OTLP 대신 메모리 exporter로 수집)
+ */
+@SpringBootTest(properties = {
+        "management.tracing.enabled=true",
+        "management.tracing.sampling.probability=1.0",
+        "management.otlp.tracing.export.enabled=false"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@DisplayName("업로드 추적")
+class UploadTracingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ExtensionService extensionService;
+
+    @Autowired
+    private InMemorySpanExporter spanExporter;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    @TestConfiguration
+    static class ExporterConfig {
+
+        @Bean
+        InMemorySpanExporter inMemorySpanExporter() {
+            return InMemorySpanExporter.create();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        extensionService.resetAll();
+        tracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+        spanExporter.reset();
+    }
+
+    @Test
+    @DisplayName("파일별 span에 크기, 탐지 MIME, 판정이 기록된다")
+    void file_span_attributes() throws Exception {
+        MockMultipartFile file = new MockMultipartFile(
+                "files", "notes.txt", "text/plain", "hello tracing".getBytes());
+
+        mockMvc.perform(multipart("/api/extensions/upload").file(file))
+                .andExpect(status().isOk());
+
+        List<SpanData> spans = finishedSpans();
+        SpanData fileSpan = span(spans, "blocker.upload.file");
+        assertThat(fileSpan.getAttributes().get(AttributeKey.stringKey("file.size"))).isEqualTo("13");
+        assertThat(fileSpan.getAttributes().get(AttributeKey.stringKey("verdict"))).isEqualTo("allowed");
+
+        SpanData contentSpan = span(spans, "blocker.upload.content-check");
+        assertThat(contentSpan.getAttributes().get(AttributeKey.stringKey("mime.detected"))).isEqualTo("text/plain");
+        assertThat(contentSpan.getParentSpanId()).isEqualTo(fileSpan.getSpanId());
+        assertThat(span(spans, "blocker.upload.extension-check").getTraceId()).isEqualTo(fileSpan.getTraceId());
+    }
+
+    @Test
+    @DisplayName("차단된 파일은 verdict=blocked로 기록된다")
+    void blocked_verdict() throws Exception {
+        extensionService.updateFixedExtension("exe", true);
+        MockMultipartFile file = new MockMultipartFile(
+                "files", "setup.exe", "application/octet-stream", new byte[]{1, 2, 3});
+
+        mockMvc.perform(multipart("/api/extensions/upload").file(file))
+                .andExpect(status().isForbidden());
+
+        SpanData fileSpan = span(finishedSpans(), "blocker.upload.file");
+        assertThat(fileSpan.getAttributes().get(AttributeKey.stringKey("verdict"))).isEqualTo("blocked");
+    }
+
+    private List<SpanData> finishedSpans() {
+        tracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+        return spanExporter.getFinishedSpanItems();
+    }
+
+    private static SpanData span(List<SpanData> spans, String name) {
+        return spans.stream()
+                .filter(s -> s.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError(name + " span 없음: " + spans.stream().map(SpanData::getName).toList()));
+    }
+}
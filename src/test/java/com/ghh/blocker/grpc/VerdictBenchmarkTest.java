@@ -0,0 +1,216 @@
+package com.ghh.blocker.grpc;
+
+import com.ghh.blocker.grpc.v1.ContentChunk;
+import com.ghh.blocker.grpc.v1.FilenameRequest;
+import com.ghh.blocker.grpc.v1.Verdict;
+import com.ghh.blocker.grpc.v1.VerdictServiceGrpc;
+import com.ghh.blocker.service.ExtensionService;
+import com.google.protobuf.ByteString;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * gRPC vs REST 판정 처리량/지연 비교 (같은 JVM, 같은 규칙, loopback)
+ *
+ *   ./gradlew benchmark
+ *
+ * 동일한 요청을 스레드 THREADS개로 REQUESTS_PER_THREAD회씩 보내고 RPS, p50/p99를 출력합니다.
+ * 요청 제한(429)이 측정에 끼지 않도록 rate-limit은 끕니다.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.grpc.enabled=true",
+        "app.grpc.port=0",
+        "app.rate-limit.enabled=false"
+})
+@DisplayName("gRPC / REST 판정 벤치마크")
+class VerdictBenchmarkTest {
+
+    private static final int THREADS = 8;
+    private static final int WARMUP_PER_THREAD = 200;
+    private static final int REQUESTS_PER_THREAD = 1000;
+    private static final String BOUNDARY = "----blocker-benchmark";
+
+    @LocalServerPort
+    private int httpPort;
+
+    @Autowired
+    private GrpcServerLifecycle grpcServer;
+
+    @Autowired
+    private ExtensionService extensionService;
+
+    private ManagedChannel channel;
+    private HttpClient httpClient;
+    private byte[] content;
+
+    @BeforeEach
+    void setUp() {
+        extensionService.resetAll();
+        extensionService.updateFixedExtension("exe", true);
+        channel = ManagedChannelBuilder.forAddress("localhost", grpcServer.getPort()).usePlaintext().build();
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        content = "plain text body for verdict benchmark\n".repeat(64).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        channel.shutdown().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("파일명 판정: gRPC CheckFilename vs REST 업로드")
+    void filename_verdict() throws Exception {
+        var stub = VerdictServiceGrpc.newBlockingStub(channel);
+        FilenameRequest request = FilenameRequest.newBuilder().setFilename("report.txt").build();
+        HttpRequest rest = uploadRequest("report.txt", new byte[0]);
+
+        Result grpc = run("gRPC CheckFilename", () -> assertThat(stub.checkFilename(request).getAllowed()).isTrue());
+        Result http = run("REST /upload (빈 파일)", () -> assertThat(send(rest)).isEqualTo(200));
+
+        print(grpc, http);
+    }
+
+    @Test
+    @DisplayName("내용 판정: gRPC CheckContent vs REST 업로드")
+    void content_verdict() throws Exception {
+        var stub = VerdictServiceGrpc.newStub(channel);
+        HttpRequest rest = uploadRequest("report.txt", content);
+
+        Result grpc = run("gRPC CheckContent", () -> assertThat(checkContent(stub, "report.txt").getAllowed()).isTrue());
+        Result http = run("REST /upload (" + content.length + "B)", () -> assertThat(send(rest)).isEqualTo(200));
+
+        print(grpc, http);
+    }
+
+    // ===== Helper =====
+
+    private Verdict checkContent(VerdictServiceGrpc.VerdictServiceStub stub, String fileName) throws Exception {
+        CompletableFuture<Verdict> result = new CompletableFuture<>();
+        StreamObserver<ContentChunk> request = stub.checkContent(new StreamObserver<>() {
+            @Override
+            public void onNext(Verdict value) {
+                result.complete(value);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                result.completeExceptionally(t);
+            }
+
+            @Override
+            public void onCompleted() {
+            }
+        });
+        request.onNext(ContentChunk.newBuilder().setFilename(fileName).setData(ByteString.copyFrom(content)).build());
+        request.onCompleted();
+        return result.get(5, TimeUnit.SECONDS);
+    }
+
+    private HttpRequest uploadRequest(String fileName, byte[] body) {
+        ByteArrayOutputStream multipart = new ByteArrayOutputStream();
+        String head = "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"files\"; filename=\"" + fileName + "\"\r\n"
+                + "Content-Type: application/octet-stream\r\n\r\n";
+        multipart.writeBytes(head.getBytes(StandardCharsets.UTF_8));
+        multipart.writeBytes(body);
+        multipart.writeBytes(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + httpPort + "/api/extensions/upload"))
+                .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(multipart.toByteArray()))
+                .build();
+    }
+
+    private int send(HttpRequest request) throws Exception {
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private Result run(String name, Call call) throws Exception {
+        measure(call, WARMUP_PER_THREAD);
+        long start = System.nanoTime();
+        long[] latencies = measure(call, REQUESTS_PER_THREAD);
+        long elapsed = System.nanoTime() - start;
+        return new Result(name, latencies, elapsed);
+    }
+
+    private long[] measure(Call call, int perThread) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    long[] samples = new long[perThread];
+                    for (int i = 0; i < perThread; i++) {
+                        long begin = System.nanoTime();
+                        call.run();
+                        samples[i] = System.nanoTime() - begin;
+                    }
+                    return samples;
+                }));
+            }
+            long[] all = new long[THREADS * perThread];
+            for (int t = 0; t < THREADS; t++) {
+                System.arraycopy(futures.get(t).get(), 0, all, t * perThread, perThread);
+            }
+            return all;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void print(Result... results) {
+        System.out.printf("%n%-28s %10s %10s %10s%n", "", "RPS", "p50(us)", "p99(us)");
+        for (Result r : results) {
+            System.out.printf("%-28s %10.0f %10d %10d%n", r.name(), r.rps(), r.percentileMicros(50), r.percentileMicros(99));
+        }
+    }
+
+    @FunctionalInterface
+    private interface Call {
+        void run() throws Exception;
+    }
+
+    private record Result(String name, long[] latencies, long elapsedNanos) {
+
+        Result {
+            latencies = latencies.clone();
+            Arrays.sort(latencies);
+        }
+
+        double rps() {
+            return latencies.length / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        long percentileMicros(int p) {
+            int index = (int) Math.ceil(p / 100.0 * latencies.length) - 1;
+            return TimeUnit.NANOSECONDS.toMicros(latencies[Math.max(0, index)]);
+        }
+    }
+}
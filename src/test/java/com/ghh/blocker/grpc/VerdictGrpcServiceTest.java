@@ -0,0 +1,144 @@
+package com.ghh.blocker.grpc;
+
+import com.ghh.blocker.grpc.v1.ContentChunk;
+import com.ghh.blocker.grpc.v1.FilenameRequest;
+import com.ghh.blocker.grpc.v1.RuleChange;
+import com.ghh.blocker.grpc.v1.Verdict;
+import com.ghh.blocker.grpc.v1.VerdictServiceGrpc;
+import com.ghh.blocker.grpc.v1.WatchRulesRequest;
+import com.ghh.blocker.service.ExtensionService;
+import com.google.protobuf.ByteString;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = "app.chunked-upload.inspect-bytes=16B")
+@DisplayName("gRPC 판정 서비스")
+class VerdictGrpcServiceTest {
+
+    @Autowired
+    private VerdictGrpcService verdictGrpcService;
+
+    @Autowired
+    private ExtensionService extensionService;
+
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        extensionService.resetAll();
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name).directExecutor()
+                .addService(verdictGrpcService).build().start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("파일명 검사는 REST와 같은 차단 규칙을 따른다")
+    void check_filename() {
+        extensionService.updateFixedExtension("exe", true);
+        var stub = VerdictServiceGrpc.newBlockingStub(channel);
+
+        Verdict blocked = stub.checkFilename(FilenameRequest.newBuilder().setFilename("setup.exe").build());
+        Verdict allowed = stub.checkFilename(FilenameRequest.newBuilder().setFilename("notes.txt").build());
+
+        assertThat(blocked.getAllowed()).isFalse();
+        assertThat(blocked.getReason()).contains(".exe");
+        assertThat(allowed.getAllowed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("위장 실행 파일은 inspect-bytes만 받고 스트림 종료 전에 판정된다")
+    void check_content_early_verdict() throws Exception {
+        extensionService.updateFixedExtension("exe", true);
+        byte[] header = new byte[32];
+        header[0] = 'M';
+        header[1] = 'Z';
+
+        CompletableFuture<Verdict> result = new CompletableFuture<>();
+        StreamObserver<ContentChunk> request = VerdictServiceGrpc.newStub(channel)
+                .checkContent(observer(result));
+        request.onNext(ContentChunk.newBuilder()
+                .setFilename("photo.jpg")
+                .setData(ByteString.copyFrom(header))
+                .build());
+
+        Verdict verdict = result.get(5, TimeUnit.SECONDS);
+        assertThat(verdict.getAllowed()).isFalse();
+        assertThat(verdict.getReason()).contains("MIME");
+        assertThat(verdict.getBytesInspected()).isEqualTo(16);
+        request.onCompleted();
+    }
+
+    @Test
+    @DisplayName("규칙 피드는 현재 스냅샷 후 변경 사항을 전달한다")
+    void watch_rules() throws Exception {
+        BlockingQueue<RuleChange> changes = new LinkedBlockingQueue<>();
+        VerdictServiceGrpc.newStub(channel).watchRules(WatchRulesRequest.getDefaultInstance(), new StreamObserver<>() {
+            @Override
+            public void onNext(RuleChange value) {
+                changes.add(value);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+
+            @Override
+            public void onCompleted() {
+            }
+        });
+
+        RuleChange snapshot = changes.poll(5, TimeUnit.SECONDS);
+        assertThat(snapshot).isNotNull();
+        assertThat(snapshot.getOperation()).isEqualTo("SNAPSHOT");
+
+        extensionService.addCustomExtensions("sh");
+
+        RuleChange change = changes.poll(5, TimeUnit.SECONDS);
+        assertThat(change).isNotNull();
+        assertThat(change.getVersion()).isGreaterThan(snapshot.getVersion());
+        assertThat(change.getChangedExtensionsList()).containsExactly("sh");
+        assertThat(change.getBlockedExtensionsList()).contains("sh");
+    }
+
+    private static StreamObserver<Verdict> observer(CompletableFuture<Verdict> result) {
+        return new StreamObserver<>() {
+            @Override
+            public void onNext(Verdict value) {
+                result.complete(value);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                result.completeExceptionally(t);
+            }
+
+            @Override
+            public void onCompleted() {
+            }
+        };
+    }
+}
@@ -0,0 +1,92 @@
+package com.ghh.blocker.inspection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.function.ToIntFunction;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 내장 실행 파일 검색 처리량 (GB/s, 단일 스레드)
+ *
+ *   ./gradlew benchmark
+ *
+ * 50MB 업로드 1개를 끝까지 읽는 최악 경우 기준 (헤더 없음).
+ *   random   압축 데이터 흉내 - 후보 바이트 쌍이 거의 없음
+ *   dense    후보(MZ)가 4KB마다 나오지만 확인에서 걸러지는 입력
+ *   stream   검사 체인과 같은 64KB 청크 Cursor (창 복사 포함)
+ */
+@Tag("benchmark")
+@DisplayName("내장 실행 파일 검색 벤치마크")
+class ExecutableScannerBenchmarkTest {
+
+    private static final int SIZE = 50 * 1024 * 1024;
+    private static final int CHUNK = 64 * 1024;
+    private static final int ROUNDS = 10;
+
+    @Test
+    @DisplayName("스칼라 / SIMD 후보 검색과 스트림 검색 처리량")
+    void throughput() {
+        byte[] random = new byte[SIZE];
+        new Random(42).nextBytes(random);
+        byte[] dense = random.clone();
+        for (int i = 0; i + 1 < SIZE; i += 4096) {
+            dense[i] = 'M';
+            dense[i + 1] = 'Z';
+        }
+
+        System.out.printf("%n구현: %s%n", ExecutableScanner.implementation());
+        System.out.printf("%-10s %12s %12s %12s%n", "", "scalar GB/s", "vector GB/s", "stream GB/s");
+        report("random", random);
+        report("dense", dense);
+    }
+
+    private void report(String name, byte[] data) {
+        double scalar = best(data, d -> candidates(d, true));
+        double vector = ExecutableScanner.isVectorized() ? best(data, d -> candidates(d, false)) : Double.NaN;
+        double stream = best(data, ExecutableScannerBenchmarkTest::stream);
+        System.out.printf("%-10s %12.2f %12.2f %12.2f%n", name, scalar, vector, stream);
+    }
+
+    /**
+     * @return 가장 빠른 라운드의 처리량 (GB/s)
+     */
+    private static double best(byte[] data, ToIntFunction<byte[]> scan) {
+        int expected = scan.applyAsInt(data);
+        double best = 0;
+        for (int r = 0; r < ROUNDS; r++) {
+            long start = System.nanoTime();
+            assertThat(scan.applyAsInt(data)).isEqualTo(expected);
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            best = Math.max(best, data.length / seconds / (1L << 30));
+        }
+        return best;
+    }
+
+    /**
+     * 후보 검색만 (확인 단계 제외) - 후보 수 반환
+     */
+    private static int candidates(byte[] data, boolean scalar) {
+        int count = 0;
+        int i = 0;
+        while ((i = scalar
+                ? ExecutableScanner.nextCandidateScalar(data, i, data.length, data.length)
+                : ExecutableScanner.nextCandidate(data, i, data.length, data.length)) >= 0) {
+            count++;
+            i++;
+        }
+        return count;
+    }
+
+    private static int stream(byte[] data) {
+        ExecutableScanner.Cursor cursor = ExecutableScanner.cursor();
+        for (int offset = 0; offset < data.length; offset += CHUNK) {
+            assertThat(cursor.update(data, offset, Math.min(CHUNK, data.length - offset))).isNull();
+        }
+        assertThat(cursor.finish()).isNull();
+        return 0;
+    }
+}
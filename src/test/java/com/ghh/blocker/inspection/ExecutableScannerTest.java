@@ -0,0 +1,129 @@
+package com.ghh.blocker.inspection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("내장 실행 파일 헤더 검색")
+class ExecutableScannerTest {
+
+    @Test
+    @DisplayName("JPEG 뒤에 붙인 PE와 ELF를 찾고 시작 위치를 알려준다")
+    void find_appended_executable() {
+        byte[] jpeg = jpegLike(100_000);
+
+        ExecutableScanner.Match pe = ExecutableScanner.find(concat(jpeg, pe(0x80)));
+        ExecutableScanner.Match elf = ExecutableScanner.find(concat(jpeg, elf()));
+
+        assertThat(pe).isEqualTo(new ExecutableScanner.Match("PE", jpeg.length));
+        assertThat(elf).isEqualTo(new ExecutableScanner.Match("ELF", jpeg.length));
+    }
+
+    @Test
+    @DisplayName("헤더 구조가 맞지 않는 MZ / 0x7F E는 무시한다")
+    void ignore_false_candidates() {
+        byte[] bogusOffset = pe(ExecutableScanner.MAX_PE_OFFSET + 4);
+        byte[] noSignature = pe(0x80);
+        noSignature[0x80 + 2] = 'X';
+        byte[] badElfClass = elf();
+        badElfClass[4] = 3;
+        byte[] text = "MZ MZ \u007FEL MZMZ".getBytes();
+
+        assertThat(ExecutableScanner.find(concat(jpegLike(4096), bogusOffset, noSignature, badElfClass, text))).isNull();
+    }
+
+    @Test
+    @DisplayName("청크 경계에 걸친 헤더도 찾는다")
+    void match_across_chunk_boundary() {
+        int chunk = 8192;
+        byte[] prefix = jpegLike(chunk * 3 - 10);
+        byte[] content = concat(prefix, pe(0x100), jpegLike(chunk));
+
+        ExecutableScanner.Cursor cursor = ExecutableScanner.cursor();
+        ExecutableScanner.Match match = null;
+        for (int offset = 0; offset < content.length && match == null; offset += chunk) {
+            match = cursor.update(content, offset, Math.min(chunk, content.length - offset));
+        }
+
+        assertThat(match).isEqualTo(new ExecutableScanner.Match("PE", prefix.length));
+    }
+
+    @Test
+    @DisplayName("파일 끝 가까이의 ELF는 finish에서 찾는다")
+    void match_in_tail() {
+        byte[] content = concat(jpegLike(50_000), elf());
+        ExecutableScanner.Cursor cursor = ExecutableScanner.cursor();
+
+        assertThat(cursor.update(content, 0, content.length)).isNull();
+        assertThat(cursor.finish()).isEqualTo(new ExecutableScanner.Match("ELF", 50_000));
+    }
+
+    @Test
+    @DisplayName("SIMD 검색과 스칼라 검색의 후보 위치가 같다")
+    void vector_matches_scalar() {
+        Random random = new Random(11);
+        byte[] data = new byte[1 << 16];
+        for (int i = 0; i < data.length; i++) {
+            // 후보 바이트가 자주 나오도록 작은 알파벳
+            data[i] = (byte) "MZ\u007FEx".charAt(random.nextInt(5));
+        }
+
+        for (int from = 0; from < 300; from++) {
+            int to = data.length - random.nextInt(100);
+            int limit = Math.min(data.length, to + random.nextInt(3));
+            int vector = ExecutableScanner.nextCandidate(data, from, to, limit);
+            int scalar = ExecutableScanner.nextCandidateScalar(data, from, to, limit);
+            assertThat(vector).isEqualTo(scalar);
+        }
+    }
+
+    /**
+     * 후보 바이트가 없는 JPEG 유사 바이트 (SOI + 압축 데이터 흉내)
+     */
+    private static byte[] jpegLike(int size) {
+        byte[] data = new byte[size];
+        new Random(size).nextBytes(data);
+        data[0] = (byte) 0xFF;
+        data[1] = (byte) 0xD8;
+        for (int i = 0; i < size; i++) {
+            if (data[i] == 'M' || data[i] == 0x7F) {
+                data[i] = 0;
+            }
+        }
+        return data;
+    }
+
+    private static byte[] pe(int lfanew) {
+        byte[] exe = new byte[Math.max(lfanew + 4, 0x40) + 64];
+        exe[0] = 'M';
+        exe[1] = 'Z';
+        exe[0x3C] = (byte) lfanew;
+        exe[0x3D] = (byte) (lfanew >>> 8);
+        if (lfanew + 4 <= exe.length) {
+            exe[lfanew] = 'P';
+            exe[lfanew + 1] = 'E';
+        }
+        return exe;
+    }
+
+    private static byte[] elf() {
+        return new byte[]{0x7F, 'E', 'L', 'F', 2, 1, 1, 0, 0, 0, 0, 0, 0, 0, 0, 0};
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        int length = 0;
+        for (byte[] part : parts) {
+            length += part.length;
+        }
+        byte[] result = new byte[length];
+        int offset = 0;
+        for (byte[] part : parts) {
+            System.arraycopy(part, 0, result, offset, part.length);
+            offset += part.length;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,81 @@
+package com.ghh.blocker.inspection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("악성 파일 해시 목록")
+class HashBlocklistTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("목록에 있는 해시만 일치한다")
+    void contains_listed_hashes() throws Exception {
+        List<byte[]> hashes = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            hashes.add(sha256("malware-" + i));
+        }
+        Path file = dir.resolve("blocklist.bin");
+        HashBlocklist.write(hashes, file);
+
+        HashBlocklist blocklist = HashBlocklist.open(file, 10);
+
+        assertThat(blocklist.size()).isEqualTo(10_000);
+        assertThat(hashes).allMatch(blocklist::contains);
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(blocklist.contains(sha256("clean-" + i))).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("중복 해시는 한 번만 기록된다")
+    void duplicates_removed() throws Exception {
+        Path file = dir.resolve("blocklist.bin");
+        HashBlocklist.write(List.of(sha256("a"), sha256("b"), sha256("a")), file);
+
+        assertThat(HashBlocklist.open(file, 10).size()).isEqualTo(2);
+        assertThat(Files.size(file)).isEqualTo(16 + 2 * HashBlocklist.HASH_BYTES);
+    }
+
+    @Test
+    @DisplayName("정렬되지 않은 파일은 불러오지 않는다")
+    void unsorted_file_rejected() throws Exception {
+        Path file = dir.resolve("blocklist.bin");
+        HashBlocklist.write(List.of(sha256("a"), sha256("b")), file);
+        byte[] data = Files.readAllBytes(file);
+        byte[] swapped = data.clone();
+        System.arraycopy(data, 16, swapped, 48, 32);
+        System.arraycopy(data, 48, swapped, 16, 32);
+        Files.write(file, swapped);
+
+        assertThatThrownBy(() -> HashBlocklist.open(file, 10))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("정렬");
+    }
+
+    @Test
+    @DisplayName("형식이 다른 파일은 불러오지 않는다")
+    void wrong_format_rejected() throws Exception {
+        Path file = dir.resolve("blocklist.txt");
+        Files.writeString(file, "e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855\n");
+
+        assertThatThrownBy(() -> HashBlocklist.open(file, 10)).isInstanceOf(IOException.class);
+    }
+
+    private static byte[] sha256(String text) throws NoSuchAlgorithmException {
+        return MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
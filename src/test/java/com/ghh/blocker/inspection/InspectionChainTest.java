@@ -0,0 +1,307 @@
+package com.ghh.blocker.inspection;
+
+import com.ghh.blocker.ratelimit.AdaptiveConcurrencyLimiter;
+import com.ghh.blocker.rule.BlockRuleSnapshot;
+import io.micrometer.observation.ObservationRegistry;
+import org.apache.tika.Tika;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("업로드 검사 체인")
+class InspectionChainTest {
+
+    private static final BlockRuleSnapshot RULES = BlockRuleSnapshot.compile(List.of(), List.of(), List.of(), 10);
+
+    private final List<String> calls = new ArrayList<>();
+    private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 1, 64, 32, 500);
+    /** 검사 실행 시점의 limiter 사용 중 허가 수 */
+    private final List<String> inFlight = new ArrayList<>();
+
+    @Test
+    @DisplayName("비용이 낮은 검사부터 실행하고 처음 차단에서 멈춘다")
+    void cheapest_first_short_circuit() {
+        InspectionChain chain = chain(
+                new Fake("stream", Inspector.Cost.HIGH, Inspector.Input.STREAM, name -> false),
+                new Fake("prefix", Inspector.Cost.LOW, Inspector.Input.PREFIX, name -> name.endsWith(".bad")),
+                new Fake("name", Inspector.Cost.TRIVIAL, Inspector.Input.NAME, name -> false));
+
+        InspectionChain.Verdict verdict = chain.inspect("a.bad", 5, RULES, opener(new byte[5], new AtomicInteger()));
+
+        assertThat(chain.order()).containsExactly("name", "prefix", "stream");
+        assertThat(verdict.stage()).isEqualTo("prefix");
+        assertThat(verdict.reason()).isEqualTo("prefix 차단");
+        assertThat(calls).containsExactly("name", "prefix");
+    }
+
+    @Test
+    @DisplayName("앞부분과 같은 비용의 스트림 검사는 파일을 한 번만 열어 같은 바이트를 받는다")
+    void single_streaming_read() {
+        Fake first = new Fake("first", Inspector.Cost.MEDIUM, Inspector.Input.STREAM, name -> false);
+        Fake second = new Fake("second", Inspector.Cost.MEDIUM, Inspector.Input.STREAM, name -> false);
+        InspectionChain chain = chain(
+                new Fake("prefix", Inspector.Cost.LOW, Inspector.Input.PREFIX, name -> false), first, second);
+        byte[] content = new byte[InspectionContext.PREFIX_BYTES * 3 + 17];
+        AtomicInteger opens = new AtomicInteger();
+
+        InspectionChain.Verdict verdict = chain.inspect("a.bin", content.length, RULES, opener(content, opens));
+
+        assertThat(verdict.allowed()).isTrue();
+        assertThat(opens).hasValue(1);
+        assertThat(first.received).isEqualTo(content.length);
+        assertThat(second.received).isEqualTo(content.length);
+        assertThat(calls).containsExactly("prefix", "first:finish", "second:finish");
+    }
+
+    @Test
+    @DisplayName("비싼 스트림 검사도 같은 읽기로 받지만 앞선 임의 위치 검사의 차단 사유가 우선한다")
+    void earlier_random_access_verdict_wins_over_stream() {
+        Fake signature = new Fake("signature", Inspector.Cost.MEDIUM, Inspector.Input.STREAM, name -> false);
+        Fake macro = new Fake("macro", Inspector.Cost.MEDIUM, Inspector.Input.RANDOM_ACCESS, name -> name.endsWith(".docm"));
+        Fake hash = new Fake("hash", Inspector.Cost.HIGH, Inspector.Input.STREAM, name -> false);
+        InspectionChain chain = chain(signature, macro, hash);
+        byte[] content = new byte[InspectionContext.PREFIX_BYTES * 2];
+
+        AtomicInteger opens = new AtomicInteger();
+
+        InspectionChain.Verdict verdict = chain.inspect("a.docm", content.length, RULES, opener(content, opens));
+
+        assertThat(verdict.stage()).isEqualTo("macro");
+        assertThat(opens).hasValue(1);
+        assertThat(signature.received).isEqualTo(content.length);
+        assertThat(hash.received).isEqualTo(content.length);
+        assertThat(calls).containsExactly("signature:finish", "hash:finish", "macro");
+        assertThat(chain.stats()).filteredOn(s -> s.name().equals("hash"))
+                .singleElement()
+                .satisfies(s -> assertThat(s.runs()).isZero());
+    }
+
+    @Test
+    @DisplayName("비용 단계가 다른 스트림 검사도 파일을 한 번만 읽는다")
+    void single_read_across_cost_tiers() {
+        Fake medium = new Fake("medium", Inspector.Cost.MEDIUM, Inspector.Input.STREAM, name -> false);
+        Fake high = new Fake("high", Inspector.Cost.HIGH, Inspector.Input.STREAM, name -> false);
+        InspectionChain chain = chain(high, medium);
+        byte[] content = new byte[InspectionContext.PREFIX_BYTES * 3 + 17];
+        AtomicInteger opens = new AtomicInteger();
+
+        InspectionChain.Verdict verdict = chain.inspect("a.bin", content.length, RULES, opener(content, opens));
+
+        assertThat(verdict.allowed()).isTrue();
+        assertThat(opens).hasValue(1);
+        assertThat(medium.received).isEqualTo(content.length);
+        assertThat(high.received).isEqualTo(content.length);
+        assertThat(calls).containsExactly("medium:finish", "high:finish");
+    }
+
+    @Test
+    @DisplayName("스트림 검사가 차단하면 뒤쪽 수신기만 멈추고 앞쪽 수신기는 끝까지 읽는다")
+    void stream_block_stops_only_later_sinks() {
+        byte[] content = new byte[InspectionContext.PREFIX_BYTES * 3 + 17];
+        Fake medium = new Fake("medium", Inspector.Cost.MEDIUM, Inspector.Input.STREAM, name -> false);
+        Fake high = new Fake("high", Inspector.Cost.HIGH, Inspector.Input.STREAM, name -> true);
+
+        InspectionChain.Verdict laterBlocks = chain(medium, high)
+                .inspect("a.bin", content.length, RULES, opener(content, new AtomicInteger()));
+
+        assertThat(laterBlocks.stage()).isEqualTo("high");
+        assertThat(medium.received).isEqualTo(content.length);
+        assertThat(high.received).isEqualTo(InspectionContext.PREFIX_BYTES);
+        assertThat(calls).containsExactly("medium:finish");
+
+        Fake blocking = new Fake("blocking", Inspector.Cost.MEDIUM, Inspector.Input.STREAM, name -> true);
+        Fake expensive = new Fake("expensive", Inspector.Cost.HIGH, Inspector.Input.STREAM, name -> true);
+
+        InspectionChain.Verdict earlierBlocks = chain(blocking, expensive)
+                .inspect("a.bin", content.length, RULES, opener(content, new AtomicInteger()));
+
+        assertThat(earlierBlocks.stage()).isEqualTo("blocking");
+        assertThat(expensive.received).isZero();
+    }
+
+    @Test
+    @DisplayName("앞부분만 받은 파일은 완성된 파일이 필요한 검사를 건너뛴다")
+    void partial_skips_complete_file_inspectors() {
+        Fake stream = new Fake("stream", Inspector.Cost.MEDIUM, Inspector.Input.STREAM, name -> false);
+        Fake macro = new Fake("macro", Inspector.Cost.MEDIUM, Inspector.Input.RANDOM_ACCESS, name -> true);
+        Fake hash = new Fake("hash", Inspector.Cost.HIGH, Inspector.Input.STREAM, name -> true);
+        hash.needsCompleteFile = true;
+        InspectionChain chain = chain(stream, macro, hash);
+        byte[] content = new byte[100];
+
+        InspectionChain.Verdict partial = chain.inspectPartial("a.bin", content.length, RULES, opener(content, new AtomicInteger()));
+
+        assertThat(partial.allowed()).isTrue();
+        assertThat(stream.received).isEqualTo(content.length);
+        assertThat(hash.received).isZero();
+        assertThat(calls).containsExactly("stream:finish");
+
+        InspectionChain.Verdict complete = chain.inspect("a.bin", content.length, RULES, opener(content, new AtomicInteger()));
+
+        assertThat(complete.stage()).isEqualTo("macro");
+    }
+
+    @Test
+    @DisplayName("입력에 맞지 않는 메서드는 판정 없이 통과한다")
+    void unimplemented_method_is_neutral() throws IOException {
+        Inspector nameOnly = new Inspector() {
+            @Override
+            public String name() {
+                return "name-only";
+            }
+
+            @Override
+            public Cost cost() {
+                return Cost.TRIVIAL;
+            }
+
+            @Override
+            public Input input() {
+                return Input.NAME;
+            }
+        };
+
+        assertThat(nameOnly.inspect(null)).isNull();
+        assertThat(nameOnly.openStream(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("비용이 같으면 차단 비율이 높은 검사가 앞으로 온다")
+    void reorder_equal_cost_by_block_rate() {
+        InspectionChain chain = chain(
+                new Fake("rare", Inspector.Cost.MEDIUM, Inspector.Input.NAME, name -> name.startsWith("rare")),
+                new Fake("common", Inspector.Cost.MEDIUM, Inspector.Input.NAME, name -> name.startsWith("common")),
+                new Fake("cheap", Inspector.Cost.TRIVIAL, Inspector.Input.NAME, name -> false));
+        assertThat(chain.order()).containsExactly("cheap", "rare", "common");
+
+        for (int i = 0; i < 200; i++) {
+            chain.inspect(i % 2 == 0 ? "common-" + i : "clean-" + i, 0, RULES, opener(new byte[0], new AtomicInteger()));
+        }
+        chain.reorder();
+
+        assertThat(chain.order()).containsExactly("cheap", "common", "rare");
+        assertThat(chain.stats()).filteredOn(s -> s.name().equals("common"))
+                .singleElement()
+                .satisfies(s -> assertThat(s.blocks()).isEqualTo(100));
+    }
+
+    @Test
+    @DisplayName("끝까지 읽을 필요가 없으면 스트림 읽기를 멈춘다")
+    void stream_stops_when_done() {
+        Fake limited = new Fake("limited", Inspector.Cost.MEDIUM, Inspector.Input.STREAM, name -> false);
+        limited.limit = 10;
+        InspectionChain chain = chain(limited);
+        byte[] content = new byte[InspectionContext.PREFIX_BYTES * 4];
+
+        chain.inspect("a.bin", content.length, RULES, opener(content, new AtomicInteger()));
+
+        assertThat(limited.received).isEqualTo(InspectionContext.PREFIX_BYTES);
+    }
+
+    @Test
+    @DisplayName("동시 실행 제한 허가는 앞부분 검사 동안만 잡는다")
+    void limiter_permit_only_around_prefix() {
+        InspectionChain chain = chain(
+                new Fake("name", Inspector.Cost.TRIVIAL, Inspector.Input.NAME, name -> false),
+                new Fake("prefix", Inspector.Cost.LOW, Inspector.Input.PREFIX, name -> false),
+                new Fake("random", Inspector.Cost.MEDIUM, Inspector.Input.RANDOM_ACCESS, name -> false),
+                new Fake("stream", Inspector.Cost.HIGH, Inspector.Input.STREAM, name -> false));
+        byte[] content = new byte[InspectionContext.PREFIX_BYTES * 2];
+
+        InspectionChain.Verdict verdict = chain.inspect("a.bin", content.length, RULES, opener(content, new AtomicInteger()));
+
+        assertThat(verdict.allowed()).isTrue();
+        assertThat(inFlight).containsExactly("name=0", "prefix=1", "random=0", "stream=0");
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    private InspectionChain chain(Inspector... inspectors) {
+        return new InspectionChain(List.of(inspectors), limiter, ObservationRegistry.NOOP, new Tika());
+    }
+
+    private static RandomAccessSource.StreamOpener opener(byte[] content, AtomicInteger opens) {
+        return () -> {
+            opens.incrementAndGet();
+            return new ByteArrayInputStream(content);
+        };
+    }
+
+    private final class Fake implements Inspector {
+
+        private final String name;
+        private final Cost cost;
+        private final Input input;
+        private final Predicate<String> blocks;
+        private long received;
+        private long limit = Long.MAX_VALUE;
+        private boolean needsCompleteFile;
+
+        private Fake(String name, Cost cost, Input input, Predicate<String> blocks) {
+            this.name = name;
+            this.cost = cost;
+            this.input = input;
+            this.blocks = blocks;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public Cost cost() {
+            return cost;
+        }
+
+        @Override
+        public Input input() {
+            return input;
+        }
+
+        @Override
+        public boolean needsCompleteFile() {
+            return needsCompleteFile || Inspector.super.needsCompleteFile();
+        }
+
+        @Override
+        public String inspect(InspectionContext context) throws IOException {
+            calls.add(name);
+            inFlight.add(name + "=" + limiter.getInFlight());
+            if (input == Input.PREFIX) {
+                context.prefix();
+            }
+            return blocks.test(context.fileName()) ? name + " 차단" : null;
+        }
+
+        @Override
+        public StreamSink openStream(InspectionContext context) {
+            return new StreamSink() {
+                @Override
+                public String update(byte[] buffer, int offset, int length) {
+                    received += length;
+                    return blocks.test(context.fileName()) ? name + " 차단" : null;
+                }
+
+                @Override
+                public boolean isDone() {
+                    return received >= limit;
+                }
+
+                @Override
+                public String finish() {
+                    calls.add(name + ":finish");
+                    inFlight.add(name + "=" + limiter.getInFlight());
+                    return null;
+                }
+            };
+        }
+    }
+}
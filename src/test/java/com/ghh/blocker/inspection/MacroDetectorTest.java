@@ -0,0 +1,103 @@
+package com.ghh.blocker.inspection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Office 매크로 탐지")
+class MacroDetectorTest {
+
+    @Test
+    @DisplayName("vbaProject.bin이 있는 OOXML은 매크로 문서로 판정한다")
+    void ooxml_with_vba_project() throws IOException {
+        byte[] docm = zip("[Content_Types].xml", "word/document.xml", "word/vbaProject.bin");
+
+        assertThat(MacroDetector.detect(source(docm))).contains("word/vbaProject.bin");
+    }
+
+    @Test
+    @DisplayName("매크로가 없는 OOXML은 통과한다")
+    void ooxml_without_macro() throws IOException {
+        byte[] docx = zip("[Content_Types].xml", "word/document.xml", "word/media/image1.png");
+
+        assertThat(MacroDetector.detect(source(docx))).isNull();
+    }
+
+    @Test
+    @DisplayName("OLE 디렉터리의 _VBA_PROJECT 항목을 찾는다")
+    void ole_with_vba_project() throws IOException {
+        assertThat(MacroDetector.detect(source(ole("Root Entry", "_VBA_PROJECT")))).contains("_VBA_PROJECT");
+        assertThat(MacroDetector.detect(source(ole("Root Entry", "WordDocument")))).isNull();
+    }
+
+    @Test
+    @DisplayName("컨테이너가 아닌 파일은 검사하지 않는다")
+    void not_a_container() throws IOException {
+        assertThat(MacroDetector.detect(source("plain text".getBytes(StandardCharsets.UTF_8)))).isNull();
+    }
+
+    // ===== Helper =====
+
+    private static RandomAccessSource source(byte[] data) {
+        return RandomAccessSource.of(data.length, () -> new ByteArrayInputStream(data));
+    }
+
+    private static byte[] zip(String... names) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (String name : names) {
+                zip.putNextEntry(new ZipEntry(name));
+                zip.write(new byte[1024]);
+                zip.closeEntry();
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 512바이트 섹터 CFB: 헤더 + FAT(섹터 0) + 디렉터리(섹터 1)
+     */
+    private static byte[] ole(String... entryNames) {
+        ByteBuffer buf = ByteBuffer.allocate(512 * 3).order(ByteOrder.LITTLE_ENDIAN);
+        buf.putLong(0, 0xE11AB1A1E011CFD0L);
+        buf.putShort(0x18, (short) 0x3E);
+        buf.putShort(0x1A, (short) 3);
+        buf.putShort(0x1C, (short) 0xFFFE);
+        buf.putShort(0x1E, (short) 9);
+        buf.putShort(0x20, (short) 6);
+        buf.putInt(0x2C, 1);
+        buf.putInt(0x30, 1);
+        buf.putInt(0x44, 0xFFFFFFFE);
+        for (int i = 0; i < 109; i++) {
+            buf.putInt(0x4C + i * 4, i == 0 ? 0 : 0xFFFFFFFF);
+        }
+
+        int fat = 512;
+        for (int i = 0; i < 128; i++) {
+            buf.putInt(fat + i * 4, 0xFFFFFFFF);
+        }
+        buf.putInt(fat, 0xFFFFFFFD);
+        buf.putInt(fat + 4, 0xFFFFFFFE);
+
+        int dir = 1024;
+        for (int e = 0; e < entryNames.length; e++) {
+            byte[] name = entryNames[e].getBytes(StandardCharsets.UTF_16LE);
+            int base = dir + e * 128;
+            buf.put(base, name);
+            buf.putShort(base + 0x40, (short) (name.length + 2));
+            buf.put(base + 0x42, (byte) (e == 0 ? 5 : 2));
+        }
+        return Arrays.copyOf(buf.array(), buf.capacity());
+    }
+}
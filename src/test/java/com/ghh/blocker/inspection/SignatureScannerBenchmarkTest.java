@@ -0,0 +1,109 @@
+package com.ghh.blocker.inspection;
+
+import com.ghh.blocker.inspection.SignatureScanner.Signature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 시그니처 검색 처리량 (MB/s, 코어당)
+ *
+ *   ./gradlew benchmark
+ *
+ * 일치 없는 입력 전체를 끝까지 읽는 최악 경우 기준. 단일 스레드 = 코어 1개,
+ * 스레드 N개의 합계 처리량 / N 으로 코어당 수치를 함께 출력합니다.
+ */
+@Tag("benchmark")
+@DisplayName("시그니처 검색 벤치마크")
+class SignatureScannerBenchmarkTest {
+
+    private static final int SIZE = 32 * 1024 * 1024;
+    private static final int ROUNDS = 5;
+
+    private final SignatureScanner scanner = new SignatureScanner(List.of(
+            new Signature("PowerShell", "invoke-expression"),
+            new Signature("PowerShell", "-encodedcommand"),
+            new Signature("PowerShell", "frombase64string("),
+            new Signature("PowerShell", "downloadstring("),
+            new Signature("PowerShell", "net.webclient"),
+            new Signature("PowerShell", "powershell.exe"),
+            new Signature("VBScript", "wscript.shell"),
+            new Signature("VBScript", "scripting.filesystemobject"),
+            new Signature("VBScript", "vbscript:"),
+            new Signature("JScript", "activexobject("),
+            new Signature("HTA", "<hta:application"),
+            new Signature("Shell", "^#!/bin/"),
+            new Signature("Shell", "^#!/usr/bin/"),
+            new Signature("Batch", "^@echo off")
+    ), Long.MAX_VALUE);
+
+    @Test
+    @DisplayName("바이너리 / 텍스트 입력 처리량")
+    void throughput() throws Exception {
+        byte[] binary = new byte[SIZE];
+        new Random(42).nextBytes(binary);
+        byte[] text = textLike();
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.printf("%n%-10s %14s %18s%n", "", "1 thread MB/s", cores + " threads MB/s/core");
+        report("binary", binary, cores);
+        report("text", text, cores);
+    }
+
+    private void report(String name, byte[] data, int threads) throws Exception {
+        scanAll(data, 1);
+        double single = 0;
+        double parallel = 0;
+        for (int r = 0; r < ROUNDS; r++) {
+            single = Math.max(single, scanAll(data, 1));
+            parallel = Math.max(parallel, scanAll(data, threads) / threads);
+        }
+        System.out.printf("%-10s %14.0f %18.0f%n", name, single, parallel);
+    }
+
+    /**
+     * @return 합계 처리량 (MB/s)
+     */
+    private double scanAll(byte[] data, int threads) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            long start = System.nanoTime();
+            List<Future<SignatureScanner.Match>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> scanner.scan(new ByteArrayInputStream(data))));
+            }
+            for (Future<SignatureScanner.Match> future : futures) {
+                assertThat(future.get()).isNull();
+            }
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            return (double) data.length * threads / (1024 * 1024) / seconds;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * 시그니처와 앞부분이 겹치는 단어가 섞인 텍스트 (실패 링크를 자주 타는 경우)
+     */
+    private static byte[] textLike() {
+        String[] words = {"invoke", "expression", "power", "shell", "script", "object", "the", "file",
+                "system", "web", "client", "download", "string", "encoded", "command", "-", ".", "(", "\n"};
+        Random random = new Random(7);
+        StringBuilder sb = new StringBuilder(SIZE + 32);
+        while (sb.length() < SIZE) {
+            sb.append(words[random.nextInt(words.length)]).append(' ');
+        }
+        return sb.substring(0, SIZE).getBytes(StandardCharsets.US_ASCII);
+    }
+}
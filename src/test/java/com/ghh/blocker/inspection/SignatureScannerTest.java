@@ -0,0 +1,72 @@
+package com.ghh.blocker.inspection;
+
+import com.ghh.blocker.inspection.SignatureScanner.Signature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("다중 시그니처 검색")
+class SignatureScannerTest {
+
+    private final SignatureScanner scanner = new SignatureScanner(List.of(
+            new Signature("PowerShell", "invoke-expression"),
+            new Signature("PowerShell", "-encodedcommand"),
+            new Signature("VBScript", "wscript.shell"),
+            new Signature("Shell", "^#!/bin/")
+    ), 1024);
+
+    @Test
+    @DisplayName("대소문자와 무관하게 시그니처를 찾고 시작 위치를 알려준다")
+    void match_case_insensitive() throws IOException {
+        SignatureScanner.Match match = scan("$x = 1; IEX; Invoke-Expression $payload");
+
+        assertThat(match.signature().name()).isEqualTo("PowerShell");
+        assertThat(match.offset()).isEqualTo(13);
+    }
+
+    @Test
+    @DisplayName("겹치는 접두사가 있어도 역추적 없이 찾는다")
+    void overlapping_prefix() throws IOException {
+        assertThat(scan("CreateObject(\"WScript.WScript.Shell\")").signature().name()).isEqualTo("VBScript");
+        assertThat(scan("powershell -e -EncodedCommand AAAA").signature().pattern()).isEqualTo("-encodedcommand");
+    }
+
+    @Test
+    @DisplayName("'^' 시그니처는 파일 맨 앞에서만 일치한다")
+    void anchored_signature() throws IOException {
+        assertThat(scan("#!/bin/sh\nrm -rf /tmp/x")).isNotNull();
+        assertThat(scan("see #!/bin/sh in the manual")).isNull();
+    }
+
+    @Test
+    @DisplayName("버퍼 경계에 걸친 시그니처도 찾는다")
+    void match_across_buffer_boundary() throws IOException {
+        String padding = "a".repeat(8192 - 5);
+        SignatureScanner wide = new SignatureScanner(List.of(new Signature("VBScript", "wscript.shell")), 1 << 20);
+
+        SignatureScanner.Match match = wide.scan(stream(padding + "WScript.Shell"));
+
+        assertThat(match).isNotNull();
+        assertThat(match.offset()).isEqualTo(padding.length());
+    }
+
+    @Test
+    @DisplayName("검사 범위(maxBytes) 밖의 시그니처는 보지 않는다")
+    void bounded_window() throws IOException {
+        assertThat(scan("x".repeat(2000) + "invoke-expression")).isNull();
+    }
+
+    private SignatureScanner.Match scan(String content) throws IOException {
+        return scanner.scan(stream(content));
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,51 @@
+package com.ghh.blocker.inspection;
+
+import org.apache.tika.Tika;
+import org.apache.tika.mime.MimeTypes;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("Tika 탐지기 예열")
+class TikaWarmupTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private Tika tika;
+
+    @Autowired
+    private TikaWarmup warmup;
+
+    @Test
+    @DisplayName("기본 설정은 매직 넘버 기반 MimeTypes만 사용한다")
+    void minimal_detector() throws Exception {
+        byte[] png = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A};
+
+        assertThat(tika.getDetector()).isInstanceOf(MimeTypes.class);
+        assertThat(tika.detect(new ByteArrayInputStream(png), "photo.txt")).isEqualTo("image/png");
+    }
+
+    @Test
+    @DisplayName("기동이 끝나면 예열이 완료되어 있고 readiness는 UP이다")
+    void readiness_after_warmup() throws Exception {
+        assertThat(warmup.isCompleted()).isTrue();
+
+        mockMvc.perform(get("/actuator/health/readiness"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"));
+    }
+}
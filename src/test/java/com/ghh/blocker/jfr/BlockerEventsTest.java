@@ -0,0 +1,117 @@
+package com.ghh.blocker.jfr;
+
+import com.ghh.blocker.service.ExtensionService;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("JFR 도메인 이벤트")
+class BlockerEventsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ExtensionService extensionService;
+
+    @TempDir
+    Path tempDir;
+
+    private Recording recording;
+
+    @BeforeEach
+    void setUp() {
+        extensionService.resetAll();
+        recording = new Recording();
+        recording.enable(FileVerdictEvent.class).withThreshold(Duration.ZERO);
+        recording.enable(TikaDetectionEvent.class).withThreshold(Duration.ZERO);
+        recording.enable(RuleReloadEvent.class).withThreshold(Duration.ZERO);
+        recording.enable(RuleLockEvent.class).withThreshold(Duration.ZERO);
+        recording.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        recording.close();
+    }
+
+    @Test
+    @DisplayName("업로드 판정, Tika 탐지, 규칙 재적재, 락 획득이 이벤트로 기록된다")
+    void events_recorded() throws Exception {
+        extensionService.updateFixedExtension("exe", true);
+        extensionService.addCustomExtensions("sh");
+        mockMvc.perform(multipart("/api/extensions/upload")
+                .file(new MockMultipartFile("files", "notes.txt", "text/plain", "hello".getBytes())));
+        mockMvc.perform(multipart("/api/extensions/upload")
+                .file(new MockMultipartFile("files", "setup.exe", "application/octet-stream", new byte[]{1})));
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(stop());
+
+        List<RecordedEvent> verdicts = ofType(events, "com.ghh.blocker.FileVerdict");
+        assertThat(verdicts).anySatisfy(e -> {
+            assertThat(e.getString("fileName")).isEqualTo("notes.txt");
+            assertThat(e.getBoolean("allowed")).isTrue();
+            assertThat(e.getLong("size")).isEqualTo(5);
+        });
+        assertThat(verdicts).anySatisfy(e -> {
+            assertThat(e.getString("fileName")).isEqualTo("setup.exe");
+            assertThat(e.getBoolean("allowed")).isFalse();
+            assertThat(e.getString("stage")).isEqualTo("extension");
+            assertThat(e.getString("extension")).isEqualTo("exe");
+        });
+        assertThat(ofType(events, "com.ghh.blocker.TikaDetection"))
+                .anySatisfy(e -> assertThat(e.getString("detectedMime")).isEqualTo("text/plain"));
+        assertThat(ofType(events, "com.ghh.blocker.RuleReload")).isNotEmpty();
+        assertThat(ofType(events, "com.ghh.blocker.RuleLock"))
+                .anySatisfy(e -> assertThat(e.getString("operation")).isEqualTo("CUSTOM_ADD"));
+    }
+
+    @Test
+    @DisplayName("녹화 요약은 단계별로 건수와 지연을 집계한다")
+    void summary_by_stage() throws Exception {
+        extensionService.updateFixedExtension("exe", true);
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(multipart("/api/extensions/upload")
+                    .file(new MockMultipartFile("files", "setup.exe", "application/octet-stream", new byte[]{1})));
+        }
+
+        List<RecordingSummary.Row> rows = RecordingSummary.summarize(stop());
+
+        assertThat(rows).anySatisfy(row -> {
+            assertThat(row.stage()).isEqualTo("verdict/blocked:extension");
+            assertThat(row.count()).isEqualTo(3);
+            assertThat(row.p50()).isLessThanOrEqualTo(row.p99());
+            assertThat(row.p99()).isLessThanOrEqualTo(row.max());
+        });
+    }
+
+    private Path stop() throws Exception {
+        recording.stop();
+        Path file = tempDir.resolve("blocker.jfr");
+        recording.dump(file);
+        return file;
+    }
+
+    private static List<RecordedEvent> ofType(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals(name)).toList();
+    }
+}
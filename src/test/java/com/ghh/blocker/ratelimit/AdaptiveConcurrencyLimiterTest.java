@@ -0,0 +1,107 @@
+package com.ghh.blocker.ratelimit;
+
+import com.ghh.blocker.exception.ServiceOverloadedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("적응형 동시 실행 제한")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("지연이 일정하고 한도를 충분히 쓰면 한도가 늘어난다")
+    void limit_grows_when_latency_stable() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 100, 0, 0, clock::get);
+
+        for (int i = 0; i < 10; i++) {
+            runBatch(limiter, limiter.getLimit(), 10 * MILLI);
+        }
+
+        assertThat(limiter.getLimit()).isGreaterThan(4);
+    }
+
+    @Test
+    @DisplayName("지연이 기준보다 크게 늘어나면 한도가 줄어든다")
+    void limit_shrinks_when_latency_grows() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(40, 1, 100, 0, 0, clock::get);
+        runBatch(limiter, 1, 10 * MILLI);   // 기준 지연 10ms
+
+        for (int i = 0; i < 10; i++) {
+            runBatch(limiter, Math.min(10, limiter.getLimit()), 50 * MILLI);
+        }
+
+        assertThat(limiter.getLimit()).isLessThan(40);
+    }
+
+    @Test
+    @DisplayName("한도와 대기열이 모두 차면 즉시 거부하고 shed 카운트를 올린다")
+    void sheds_when_queue_full() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, 0, 1000, clock::get);
+        limiter.acquire();
+
+        assertThatThrownBy(limiter::acquire)
+                .isInstanceOf(ServiceOverloadedException.class);
+        assertThat(limiter.getShed()).isEqualTo(1);
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 슬롯이 반환되면 대기 중인 요청이 실행된다")
+    void queued_request_runs_after_release() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, 1, 5000);
+        long permit = limiter.acquire();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch acquired = new CountDownLatch(1);
+
+        executor.submit(() -> {
+            limiter.release(limiter.acquire());
+            acquired.countDown();
+        });
+        while (limiter.getQueued() == 0) {
+            Thread.onSpinWait();
+        }
+        limiter.release(permit);
+
+        assertThat(acquired.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(limiter.getShed()).isZero();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("대기 시간을 넘기면 거부된다")
+    void queued_request_times_out() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, 1, 10);
+        limiter.acquire();
+
+        assertThatThrownBy(limiter::acquire)
+                .isInstanceOf(ServiceOverloadedException.class);
+        assertThat(limiter.getQueued()).isZero();
+    }
+
+    // ===== Helper =====
+
+    /**
+     * concurrency개를 동시에 시작하고 latency 후 모두 종료
+     */
+    private void runBatch(AdaptiveConcurrencyLimiter limiter, int concurrency, long latency) {
+        long[] permits = new long[concurrency];
+        for (int i = 0; i < concurrency; i++) {
+            permits[i] = limiter.acquire();
+        }
+        clock.addAndGet(latency);
+        for (long permit : permits) {
+            limiter.release(permit);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.ghh.blocker.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("요청 제한 클라이언트 키")
+class RateLimitInterceptorTest {
+
+    @Test
+    @DisplayName("X-Forwarded-For는 신뢰 프록시가 덧붙인 오른쪽 항목을 사용한다")
+    void rightmost_trusted_entry() {
+        assertThat(interceptor(1).clientKey(request("203.0.113.9, 198.51.100.7"))).isEqualTo("198.51.100.7");
+        assertThat(interceptor(2).clientKey(request("203.0.113.9, 198.51.100.7, 10.0.0.2"))).isEqualTo("198.51.100.7");
+        assertThat(interceptor(1).clientKey(request("198.51.100.7"))).isEqualTo("198.51.100.7");
+    }
+
+    @Test
+    @DisplayName("클라이언트가 왼쪽 항목을 바꿔도 같은 키가 된다")
+    void spoofed_left_entries_ignored() {
+        RateLimitInterceptor interceptor = interceptor(1);
+
+        assertThat(interceptor.clientKey(request("1.1.1.1, 198.51.100.7")))
+                .isEqualTo(interceptor.clientKey(request("2.2.2.2, 3.3.3.3, 198.51.100.7")));
+    }
+
+    @Test
+    @DisplayName("헤더가 없거나 항목이 신뢰 프록시 수보다 적으면 접속 IP를 사용한다")
+    void falls_back_to_remote_addr() {
+        assertThat(interceptor(1).clientKey(request(null))).isEqualTo("10.0.0.1");
+        assertThat(interceptor(1).clientKey(request(" "))).isEqualTo("10.0.0.1");
+        assertThat(interceptor(2).clientKey(request("198.51.100.7"))).isEqualTo("10.0.0.1");
+    }
+
+    private static RateLimitInterceptor interceptor(int trustedHops) {
+        return new RateLimitInterceptor("upload", Set.of(), "X-Forwarded-For", trustedHops,
+                new TokenBucketRateLimiter(10, 1, 100, 16), null);
+    }
+
+    private static MockHttpServletRequest request(String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/extensions/upload");
+        request.setRemoteAddr("10.0.0.1");
+        if (forwardedFor != null) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        return request;
+    }
+}
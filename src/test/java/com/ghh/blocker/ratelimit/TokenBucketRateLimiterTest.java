@@ -0,0 +1,118 @@
+package com.ghh.blocker.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("토큰 버킷 요청 제한")
+class TokenBucketRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong(1_000 * SECOND);
+
+    @Test
+    @DisplayName("capacity만큼 연속 허용 후 거부하고 대기 시간을 알려준다")
+    void burst_then_reject() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(3, 1, 100, 16, clock::get);
+
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isZero();
+
+        assertThat(limiter.tryAcquire("a")).isEqualTo(SECOND);
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 토큰이 다시 채워진다")
+    void refill_over_time() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(2, 2, 100, 16, clock::get);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("a");
+        assertThat(limiter.tryAcquire("a")).isPositive();
+
+        clock.addAndGet(SECOND / 2);
+
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isPositive();
+    }
+
+    @Test
+    @DisplayName("클라이언트 키별로 독립적인 버킷을 사용한다")
+    void independent_keys() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 1, 100, 16, clock::get);
+
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isPositive();
+        assertThat(limiter.tryAcquire("b")).isZero();
+    }
+
+    @Test
+    @DisplayName("키 한도에 도달하면 요청 경로에서는 정리하지 않고, 주기 정리가 유휴 버킷을 지운다")
+    void bounded_keys() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(5, 1, 10, 16, clock::get);
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire("client-" + i);
+        }
+        assertThat(limiter.size()).isEqualTo(10);
+
+        // 모든 버킷이 다시 가득 찰 만큼 시간 경과 → 새 키는 정리 전까지 스트라이프 사용
+        clock.addAndGet(10 * SECOND);
+        assertThat(limiter.tryAcquire("new-client")).isZero();
+        assertThat(limiter.size()).isEqualTo(10);
+
+        limiter.sweepIdle();
+        limiter.tryAcquire("new-client");
+
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("정리할 유휴 버킷이 없으면 키 수가 한도를 넘지 않고 스트라이프 버킷으로 제한한다")
+    void overflow_uses_stripes() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 1, 2, 1, clock::get);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("b");
+
+        assertThat(limiter.tryAcquire("c")).isZero();
+        assertThat(limiter.tryAcquire("c")).isPositive();
+        assertThat(limiter.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("동시 요청에서도 capacity를 초과하여 허용하지 않는다")
+    void concurrent_acquire_respects_capacity() throws InterruptedException {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(100, 1, 100, 16, clock::get);
+        int threadCount = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger allowed = new AtomicInteger();
+
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    for (int j = 0; j < 50; j++) {
+                        if (limiter.tryAcquire("shared") == 0) {
+                            allowed.incrementAndGet();
+                        }
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executor.shutdown();
+
+        assertThat(allowed.get()).isEqualTo(100);
+    }
+}
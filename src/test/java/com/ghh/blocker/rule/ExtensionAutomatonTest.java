@@ -0,0 +1,69 @@
+package com.ghh.blocker.rule;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("확장자 규칙 오토마톤")
+class ExtensionAutomatonTest {
+
+    private final ExtensionAutomaton automaton =
+            ExtensionAutomaton.compile(List.of("exe", "ph*", "tar.gz", "doc*x", "?s"), 1000);
+
+    @Test
+    @DisplayName("정확 일치 규칙은 마지막 확장자만 대소문자 구분 없이 비교한다")
+    void exact_rule() {
+        assertThat(automaton.match("setup.exe")).isEqualTo("exe");
+        assertThat(automaton.match("SETUP.EXE")).isEqualTo("exe");
+        assertThat(automaton.match(".exe")).isEqualTo("exe");
+        assertThat(automaton.match("setup.exe.")).isNull();
+        assertThat(automaton.match("exe")).isNull();
+    }
+
+    @Test
+    @DisplayName("와일드카드는 '.'을 넘지 않는다")
+    void wildcard_rule() {
+        assertThat(automaton.match("index.php")).isEqualTo("ph*");
+        assertThat(automaton.match("index.phtml")).isEqualTo("ph*");
+        assertThat(automaton.match("report.docmx")).isEqualTo("doc*x");
+        assertThat(automaton.match("app.ts")).isEqualTo("?s");
+        assertThat(automaton.match("index.ph.txt")).isNull();
+        assertThat(automaton.match("a.photo.jpg")).isNull();
+        assertThat(automaton.match("report.doc")).isNull();
+    }
+
+    @Test
+    @DisplayName("복합 확장자는 세그먼트 경계에서만 일치한다")
+    void compound_rule() {
+        assertThat(automaton.match("backup.tar.gz")).isEqualTo("tar.gz");
+        assertThat(automaton.match("backup.gz")).isNull();
+        assertThat(automaton.match("tar.gz")).isNull();
+        assertThat(automaton.match("backup.xtar.gz")).isNull();
+    }
+
+    @Test
+    @DisplayName("규칙이 없으면 어떤 파일도 일치하지 않는다")
+    void empty_rules() {
+        ExtensionAutomaton empty = ExtensionAutomaton.compile(List.of(), 10);
+
+        assertThat(empty.match("setup.exe")).isNull();
+        assertThat(empty.match("")).isNull();
+    }
+
+    @Test
+    @DisplayName("상태 수가 상한을 넘으면 컴파일을 거부한다")
+    void state_limit() {
+        List<String> rules = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            rules.add("*a*b*" + i + "*");
+        }
+
+        assertThatThrownBy(() -> ExtensionAutomaton.compile(rules, 5000))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("상한");
+    }
+}
@@ -0,0 +1,148 @@
+package com.ghh.blocker.rule;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Combinators;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Label;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import net.jqwik.api.constraints.Chars;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.StringLength;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@Label("파일명 정규화")
+class FileNameCanonicalizerTest {
+
+    private static final BlockRuleSnapshot RULES =
+            BlockRuleSnapshot.compile(List.of("exe", "tar.gz"), List.of(), List.of(), 1000);
+
+    private static final char[] FORMAT_CHARS = {'\u202E', '\u202D', '\u200B', '\u200E', '\u2066', '\uFEFF', '\u00AD'};
+
+    @Property
+    @Label("일반 ASCII 파일명은 같은 문자열을 그대로 반환한다 (할당 없음)")
+    void plain_name_returned_as_is(@ForAll("plainNames") String name) {
+        assertThat(FileNameCanonicalizer.canonicalize(name)).isSameAs(name);
+    }
+
+    @Property
+    @Label("끝에 붙인 점과 공백은 제거된다")
+    void trailing_dots_and_spaces(@ForAll("plainNames") String name,
+                                  @ForAll @Chars({'.', ' '}) @StringLength(min = 1, max = 5) String tail) {
+        assertThat(FileNameCanonicalizer.canonicalize(name + tail).toString()).isEqualTo(name);
+    }
+
+    @Property
+    @Label("보이지 않는 서식 문자는 어디에 있든 제거된다")
+    void format_chars_removed(@ForAll("plainNames") String name,
+                              @ForAll @IntRange(max = 100) int position,
+                              @ForAll @IntRange(max = 6) int formatChar) {
+        int at = position % (name.length() + 1);
+        String disguised = name.substring(0, at) + FORMAT_CHARS[formatChar] + name.substring(at);
+
+        assertThat(FileNameCanonicalizer.canonicalize(disguised).toString()).isEqualTo(name);
+    }
+
+    @Property
+    @Label("전각 문자는 ASCII로 변환된다")
+    void full_width_folded(@ForAll("plainNames") String name) {
+        StringBuilder fullWidth = new StringBuilder();
+        name.chars().forEach(c -> fullWidth.append((char) (c + 0xFEE0)));
+
+        assertThat(FileNameCanonicalizer.canonicalize(fullWidth.toString()).toString()).isEqualTo(name);
+    }
+
+    @Property
+    @Label("끝의 NTFS 스트림 형식 표기(:$TYPE, 빈 구간)는 제거된다")
+    void stream_type_removed(@ForAll("plainNames") String name,
+                             @ForAll @StringLength(max = 6) @Chars({'D', 'A', 'T', 'x'}) String type) {
+        assertThat(FileNameCanonicalizer.canonicalize(name + "::$" + type).toString()).isEqualTo(name);
+        assertThat(FileNameCanonicalizer.canonicalize(name + ":").toString()).isEqualTo(name);
+    }
+
+    @Property
+    @Label("':' 앞뒤 어느 쪽의 차단 확장자도 탐지된다")
+    void blocked_extension_around_colon(@ForAll("stems") String stem,
+                                        @ForAll @StringLength(min = 1, max = 10) @Chars({'$', 'D', 'A', 'T', ':', 'x'}) String other) {
+        assertThat(RULES.match(stem + ".exe:" + other)).isEqualTo("exe");
+        assertThat(RULES.match(other + ":" + stem + ".exe")).isEqualTo("exe");
+    }
+
+    @Property
+    @Label("차단 확장자는 이중 확장자의 어느 위치에 있어도 탐지된다")
+    void blocked_extension_at_any_position(@ForAll("stems") String stem, @ForAll("safeExtensions") String decoy) {
+        assertThat(RULES.match(stem + "." + decoy + ".exe")).isEqualTo("exe");
+        assertThat(RULES.match(stem + ".exe." + decoy)).isEqualTo("exe");
+        assertThat(RULES.match(stem + ".tar.gz." + decoy)).isEqualTo("tar.gz");
+    }
+
+    @Property
+    @Label("차단 확장자가 없는 파일명은 통과한다")
+    void safe_names_pass(@ForAll("stems") String stem, @ForAll("safeExtensions") String first,
+                         @ForAll("safeExtensions") String second) {
+        assertThat(RULES.match(stem + "." + first + "." + second)).isNull();
+    }
+
+    @Example
+    @Label("알려진 우회 사례")
+    void known_evasions() {
+        assertThat(RULES.match("evil.exe.")).isEqualTo("exe");
+        assertThat(RULES.match("evil.exe::$DATA")).isEqualTo("exe");
+        assertThat(RULES.match("x:evil.exe")).isEqualTo("exe");
+        assertThat(RULES.match("C:evil.exe")).isEqualTo("exe");
+        assertThat(RULES.match("notes.txt:evil.exe")).isEqualTo("exe");
+        assertThat(RULES.match("evil.exe\0")).isEqualTo("exe");
+        assertThat(RULES.match("evil.exe\0.png")).isEqualTo("exe");
+        assertThat(RULES.match("evil.exe\t")).isEqualTo("exe");
+        assertThat(RULES.match("evil.e\u0001xe")).isEqualTo("exe");
+        assertThat(RULES.match("photo\u202Egpj.exe")).isEqualTo("exe");
+        assertThat(RULES.match("evil.\uFF45\uFF58\uFF45")).isEqualTo("exe");
+        assertThat(RULES.match("evil\u3002exe")).isEqualTo("exe");
+        assertThat(RULES.match("C:\\Users\\me\\evil.exe")).isEqualTo("exe");
+        assertThat(RULES.match("invoice.pdf.exe")).isEqualTo("exe");
+        assertThat(RULES.match("exe")).isNull();
+        assertThat(RULES.match("backup.gz")).isNull();
+    }
+
+    @Example
+    @Label("통계 키는 정규화한 이름의 마지막 확장자다")
+    void last_extension() {
+        assertThat(lastExtension("photo.JPG")).isEqualTo("jpg");
+        assertThat(lastExtension("evil.exe::$DATA")).isEqualTo("exe");
+        assertThat(lastExtension("evil.exe\0.png")).isEqualTo("exe");
+        assertThat(lastExtension("evil.exe:stream")).isEqualTo("exe");
+        assertThat(lastExtension("notes.txt:evil.exe")).isEqualTo("exe");
+        assertThat(lastExtension("evil.\uFF45\uFF58\uFF45")).isEqualTo("exe");
+        assertThat(lastExtension("C:\\dir.d\\README")).isEmpty();
+    }
+
+    private static String lastExtension(String fileName) {
+        return FileNameCanonicalizer.lastExtension(FileNameCanonicalizer.canonicalize(fileName));
+    }
+
+    // ===== Arbitraries =====
+
+    @Provide
+    Arbitrary<String> plainNames() {
+        return Combinators.combine(stems(), safeExtensions()).as((stem, ext) -> stem + "." + ext);
+    }
+
+    @Provide
+    Arbitrary<String> stems() {
+        return Arbitraries.strings().withCharRange('a', 'z').withCharRange('A', 'Z').numeric().withChars('-', '_')
+                .ofMinLength(1).ofMaxLength(20);
+    }
+
+    /**
+     * x, y, z 제외 → exe, gz가 만들어지지 않음
+     */
+    @Provide
+    Arbitrary<String> safeExtensions() {
+        return Arbitraries.strings().withCharRange('a', 'w').ofMinLength(1).ofMaxLength(5);
+    }
+}
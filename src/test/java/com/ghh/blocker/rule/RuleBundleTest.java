@@ -0,0 +1,108 @@
+package com.ghh.blocker.rule;
+
+import com.ghh.blocker.domain.MimeRule;
+import com.ghh.blocker.inspection.SignatureScanner;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("규칙 번들")
+class RuleBundleTest {
+
+    @TempDir
+    Path dir;
+
+    private final BlockRuleSnapshot snapshot = BlockRuleSnapshot.compile(
+            List.of("exe", "sh", "ph*", "tar.gz"),
+            List.of("vba-macro"),
+            List.of(mimeRule("application/x-msdownload", "exe"),
+                    mimeRule("application/x-sh", "sh"),
+                    mimeRule("image/png", "png")),
+            1000);
+
+    private final List<SignatureScanner.Signature> signatures =
+            List.of(new SignatureScanner.Signature("Shell", "^#!/bin/"));
+
+    @Test
+    @DisplayName("매핑한 번들은 스냅샷과 같은 판정을 한다")
+    void same_verdicts_as_snapshot() throws Exception {
+        Path file = dir.resolve("rules.bin");
+        RuleBundle.write(RuleBundle.encode(snapshot, 42, signatures), file);
+
+        RuleBundle bundle = RuleBundle.open(file);
+
+        assertThat(bundle.ruleVersion()).isEqualTo(42);
+        assertThat(bundle.ruleCount()).isEqualTo(4);
+        for (String name : List.of("setup.exe", "SETUP.EXE", "index.phtml", "backup.tar.gz", "backup.gz",
+                "setup.exe.txt", "setup.exe.", "run.sh", "notes.txt", "")) {
+            assertThat(bundle.match(name)).as(name).isEqualTo(snapshot.match(name));
+        }
+        assertThat(bundle.blocksExtension("exe")).isTrue();
+        assertThat(bundle.blocksExtension("txt")).isFalse();
+    }
+
+    @Test
+    @DisplayName("차단 MIME과 내용 규칙, 시그니처를 조회한다")
+    void mime_content_signatures() throws Exception {
+        RuleBundle bundle = RuleBundle.wrap(ByteBuffer.wrap(RuleBundle.encode(snapshot, 1, signatures)));
+
+        assertThat(bundle.blockedExtensionForMime("application/x-msdownload")).isEqualTo("exe");
+        assertThat(bundle.blockedExtensionForMime("application/x-sh")).isEqualTo("sh");
+        assertThat(bundle.blockedExtensionForMime("image/png")).isNull();
+        assertThat(bundle.blockedExtensionForMime("text/plain")).isNull();
+        assertThat(bundle.blocksContent("vba-macro")).isTrue();
+        assertThat(bundle.blocksContent("vba")).isFalse();
+        assertThat(bundle.signatures()).containsExactlyElementsOf(signatures);
+    }
+
+    @Test
+    @DisplayName("규칙이 없어도 번들을 만들 수 있다")
+    void empty_rules() throws Exception {
+        BlockRuleSnapshot empty = BlockRuleSnapshot.compile(List.of(), List.of(), List.of(), 10);
+
+        RuleBundle bundle = RuleBundle.wrap(ByteBuffer.wrap(RuleBundle.encode(empty, 0, List.of())));
+
+        assertThat(bundle.match("setup.exe")).isNull();
+        assertThat(bundle.blockedExtensionForMime("application/x-msdownload")).isNull();
+        assertThat(bundle.signatures()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("내용이 손상된 번들은 불러오지 않는다")
+    void corrupted_bundle_rejected() throws Exception {
+        byte[] bytes = RuleBundle.encode(snapshot, 1, signatures);
+        bytes[bytes.length - 1] ^= 1;
+        Path file = dir.resolve("rules.bin");
+        Files.write(file, bytes);
+
+        assertThatThrownBy(() -> RuleBundle.open(file))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("체크섬");
+    }
+
+    @Test
+    @DisplayName("형식이 다르거나 잘린 파일은 불러오지 않는다")
+    void wrong_format_rejected() throws Exception {
+        byte[] bytes = RuleBundle.encode(snapshot, 1, signatures);
+        Path truncated = dir.resolve("truncated.bin");
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 8));
+        Path text = dir.resolve("rules.txt");
+        Files.writeString(text, "exe\nsh\n");
+
+        assertThatThrownBy(() -> RuleBundle.open(truncated)).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> RuleBundle.open(text)).isInstanceOf(IOException.class);
+    }
+
+    private static MimeRule mimeRule(String mimeType, String extension) {
+        return MimeRule.builder().mimeType(mimeType).extension(extension).build();
+    }
+}
@@ -0,0 +1,133 @@
+package com.ghh.blocker.service;
+
+import org.apache.catalina.core.ApplicationPart;
+import org.apache.tomcat.util.http.fileupload.disk.DiskFileItem;
+import org.apache.tomcat.util.http.fileupload.util.FileItemHeadersImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.multipart.support.StandardMultipartHttpServletRequest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("콘텐츠 주소 기반 저장소")
+class ContentStorageServiceTest {
+
+    // echo -n "hello" | sha256sum
+    private static final String HELLO_SHA256 = "2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824";
+
+    @TempDir
+    Path storageDir;
+
+    @TempDir
+    Path uploadDir;
+
+    @Test
+    @DisplayName("파일은 SHA-256 이름으로 저장된다")
+    void stores_by_sha256() throws IOException {
+        ContentStorageService service = new ContentStorageService(true, storageDir.toString());
+
+        String contentId = service.store(memoryFile("a.txt", "hello"));
+
+        assertThat(contentId).isEqualTo(HELLO_SHA256);
+        assertThat(Files.readString(service.resolve(contentId))).isEqualTo("hello");
+    }
+
+    @Test
+    @DisplayName("서블릿 컨테이너의 디스크 기반 multipart 파일도 동일하게 저장된다")
+    void stores_disk_backed_part() throws IOException {
+        ContentStorageService service = new ContentStorageService(true, storageDir.toString());
+
+        String contentId = service.store(tomcatPart("b.txt", "hello"));
+
+        assertThat(contentId).isEqualTo(HELLO_SHA256);
+        assertThat(Files.readString(service.resolve(contentId))).isEqualTo("hello");
+    }
+
+    @Test
+    @DisplayName("같은 파일시스템의 컨테이너 임시 파일은 복사하지 않고 저장소로 옮긴다")
+    void container_part_moved_into_storage() throws IOException {
+        ContentStorageService service = new ContentStorageService(true, storageDir.toString());
+        MultipartFile part = tomcatPart("e.txt", "hello");
+        assertThat(regularFiles(uploadDir)).hasSize(1);
+
+        String contentId = service.store(part);
+
+        assertThat(contentId).isEqualTo(HELLO_SHA256);
+        assertThat(regularFiles(uploadDir)).isEmpty();
+        assertThat(regularFiles(storageDir)).containsExactly(service.resolve(contentId));
+    }
+
+    @Test
+    @DisplayName("임시 디렉터리로 옮겨 둔 파트와 디스크 파일은 파일 채널로 저장된다")
+    void stores_stored_file_and_path() throws IOException {
+        ContentStorageService service = new ContentStorageService(true, storageDir.toString());
+        MultipartFile stored = new StoredMultipartFile(memoryFile("c.txt", "hello"), uploadDir.resolve("c.part"));
+        Path chunked = Files.writeString(uploadDir.resolve("d.bin"), "hello");
+
+        assertThat(service.store(stored)).isEqualTo(HELLO_SHA256);
+        assertThat(service.store(chunked, "d.txt")).isEqualTo(HELLO_SHA256);
+        assertThat(Files.readString(service.resolve(HELLO_SHA256))).isEqualTo("hello");
+    }
+
+    @Test
+    @DisplayName("같은 내용의 파일은 한 번만 저장되고 임시 파일은 남지 않는다")
+    void duplicate_stored_once() throws IOException {
+        ContentStorageService service = new ContentStorageService(true, storageDir.toString());
+
+        List<String> ids = service.storeAll(List.of(
+                memoryFile("a.txt", "hello"),
+                tomcatPart("copy-of-a.txt", "hello"),
+                memoryFile("c.txt", "world")));
+
+        assertThat(ids).hasSize(3);
+        assertThat(ids.get(0)).isEqualTo(ids.get(1));
+        assertThat(ids.get(2)).isNotEqualTo(ids.get(0));
+        try (Stream<Path> stored = Files.walk(storageDir)) {
+            assertThat(stored.filter(Files::isRegularFile)).hasSize(2);
+        }
+    }
+
+    // ===== Helper =====
+
+    private static List<Path> regularFiles(Path dir) throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            return files.filter(Files::isRegularFile).toList();
+        }
+    }
+
+    private static MultipartFile memoryFile(String name, String content) {
+        return new MockMultipartFile("files", name, "text/plain", content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 운영과 같은 구성: Tomcat 디스크 파일 파트(임계값 0 → 항상 임시 파일) + Spring StandardMultipartFile
+     */
+    private MultipartFile tomcatPart(String name, String content) throws IOException {
+        DiskFileItem item = new DiskFileItem("files", "text/plain", false, name, 0, uploadDir.toFile());
+        try (OutputStream out = item.getOutputStream()) {
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        assertThat(item.isInMemory()).isFalse();
+        FileItemHeadersImpl headers = new FileItemHeadersImpl();
+        headers.addHeader("Content-Disposition", "form-data; name=\"files\"; filename=\"" + name + "\"");
+        headers.addHeader("Content-Type", "text/plain");
+        item.setHeaders(headers);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/extensions/upload");
+        request.setContentType("multipart/form-data; boundary=x");
+        request.addPart(new ApplicationPart(item, uploadDir.toFile()));
+        return new StandardMultipartHttpServletRequest(request).getFile("files");
+    }
+}
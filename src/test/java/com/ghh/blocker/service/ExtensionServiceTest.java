@@ -1,6 +1,7 @@
 package com.ghh.blocker.service;
 
 import com.ghh.blocker.domain.ExtensionType;
+import com.ghh.blocker.domain.MatchType;
 import com.ghh.blocker.dto.ExtensionDto;
 import com.ghh.blocker.exception.BlockedExtensionException;
 import com.ghh.blocker.repository.BlockedExtensionRepository;
@@ -12,6 +13,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
@@ -101,6 +103,29 @@ public class ExtensionServiceTest {
             Set<String> blockedSet = extensionService.getBlockedExtensionSet();
             assertThat(blockedSet).isEmpty();
         }
+
+        @Test
+        @DisplayName("일괄 변경은 한 번에 반영되고 규칙 버전은 1만 증가한다")
+        void batch_update() {
+            extensionService.updateFixedExtension("bat", true);
+            long before = extensionService.getRuleVersion();
+
+            int count = extensionService.batchUpdateFixed(Map.of("exe", true, "scr", true, "bat", false));
+
+            assertThat(count).isEqualTo(3);
+            assertThat(extensionService.getBlockedExtensionSet()).containsExactlyInAnyOrder("exe", "scr");
+            assertThat(extensionService.getRuleVersion()).isEqualTo(before + 1);
+        }
+
+        @Test
+        @DisplayName("일괄 변경에 고정 확장자가 아닌 값이 있으면 아무것도 바뀌지 않는다")
+        void batch_update_rejects_unknown() {
+            assertThatThrownBy(() -> extensionService.batchUpdateFixed(Map.of("exe", true, "xyz", true)))
+                    .isInstanceOf(BlockedExtensionException.class)
+                    .hasMessageContaining("xyz");
+
+            assertThat(extensionService.getBlockedExtensionSet()).isEmpty();
+        }
     }
 
     // ===== 커스텀 확장자 =====
@@ -196,6 +221,23 @@ public class ExtensionServiceTest {
                     .isInstanceOf(BlockedExtensionException.class)
                     .hasMessageContaining("영문 소문자와 숫자만");
         }
+
+        @Test
+        @DisplayName("와일드카드/복합 확장자는 GLOB 규칙으로 등록된다")
+        void add_pattern_rule() {
+            List<ExtensionDto.CustomResponse> result = extensionService.addCustomExtensions("py, ph*, tar.gz");
+
+            assertThat(result).extracting(ExtensionDto.CustomResponse::matchType)
+                    .containsExactly(MatchType.EXACT, MatchType.GLOB, MatchType.GLOB);
+        }
+
+        @Test
+        @DisplayName("와일드카드만으로 된 패턴은 추가할 수 없다")
+        void add_wildcard_only_throws() {
+            assertThatThrownBy(() -> extensionService.addCustomExtensions("*.?"))
+                    .isInstanceOf(BlockedExtensionException.class)
+                    .hasMessageContaining("하나 이상");
+        }
     }
 
     // ===== 커스텀 확장자 200개 제한 =====
@@ -291,6 +333,53 @@ public class ExtensionServiceTest {
 
             assertThat(repository.countByType(ExtensionType.FIXED)).isEqualTo(7);
         }
+
+        @Test
+        @DisplayName("id 목록으로 일괄 삭제하면 커스텀만 지워지고 규칙 버전은 1만 증가한다")
+        void bulk_delete_by_ids() {
+            extensionService.addCustomExtensions("py, java, cpp");
+            Long py = repository.findByExtension("py").get().getId();
+            Long java = repository.findByExtension("java").get().getId();
+            Long exe = repository.findByExtension("exe").get().getId();
+            long before = extensionService.getRuleVersion();
+
+            List<ExtensionDto.CustomResponse> deleted =
+                    extensionService.deleteCustomExtensions(List.of(py, java, exe, 99999L));
+
+            assertThat(deleted).extracting(ExtensionDto.CustomResponse::extension)
+                    .containsExactlyInAnyOrder("py", "java");
+            assertThat(repository.findByTypeOrderByCreatedAtDesc(ExtensionType.CUSTOM))
+                    .extracting("extension").containsExactly("cpp");
+            assertThat(repository.existsByExtension("exe")).isTrue();
+            assertThat(extensionService.getRuleVersion()).isEqualTo(before + 1);
+        }
+
+        @Test
+        @DisplayName("접두사로 일괄 삭제할 수 있다")
+        void bulk_delete_by_prefix() {
+            extensionService.addCustomExtensions("tar.gz");
+            extensionService.generateTestData();
+            long before = extensionService.getRuleVersion();
+
+            List<ExtensionDto.CustomResponse> deleted = extensionService.deleteCustomExtensionsByPrefix("test");
+
+            assertThat(deleted).hasSize(199);
+            assertThat(repository.findByTypeOrderByCreatedAtDesc(ExtensionType.CUSTOM))
+                    .extracting("extension").containsExactly("tar.gz");
+            assertThat(extensionService.getRuleVersion()).isEqualTo(before + 1);
+        }
+
+        @Test
+        @DisplayName("일괄 삭제 대상이 없으면 아무것도 바뀌지 않는다")
+        void bulk_delete_nothing_matched() {
+            extensionService.addCustomExtensions("py");
+            long before = extensionService.getRuleVersion();
+
+            assertThat(extensionService.deleteCustomExtensionsByPrefix("zz")).isEmpty();
+            assertThat(extensionService.getRuleVersion()).isEqualTo(before);
+            assertThatThrownBy(() -> extensionService.deleteCustomExtensionsByPrefix("%"))
+                    .isInstanceOf(BlockedExtensionException.class);
+        }
     }
 
     // ===== 초기화 =====
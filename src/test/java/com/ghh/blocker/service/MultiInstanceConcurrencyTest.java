@@ -0,0 +1,276 @@
+package com.ghh.blocker.service;
+
+import com.ghh.blocker.GhhFileExtensionBlockerApplication;
+import com.ghh.blocker.domain.BlockedExtension;
+import com.ghh.blocker.domain.ExtensionType;
+import com.ghh.blocker.dto.ExtensionDto;
+import com.ghh.blocker.exception.BlockedExtensionException;
+import com.ghh.blocker.repository.BlockedExtensionRepository;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 다중 인스턴스 동시성 테스트 - 애플리케이션 컨텍스트 INSTANCES개가 DB 하나를 공유
+ *
+ * 컨텍스트마다 ExtensionService가 따로 있어 synchronized는 서로를 막지 못함
+ * → 실제 여러 파드 배포와 같이 인스턴스 간 직렬화는 DB(규칙 버전 행 잠금)만 담당
+ *
+ * 처리량 / 락 대기 측정은 @Tag("benchmark") - ./gradlew benchmark
+ */
+@DisplayName("다중 인스턴스 동시성 테스트")
+class MultiInstanceConcurrencyTest {
+
+    private static final int INSTANCES = 3;
+    private static final int THREADS_PER_INSTANCE = 4;
+    /** 작은 상한 → 상한 근처 경쟁이 자주 일어나도록 */
+    private static final int LIMIT = 20;
+    private static final int BENCHMARK_PAIRS = 50;
+
+    @TempDir
+    static Path tempDir;
+
+    private static final List<ConfigurableApplicationContext> contexts = new ArrayList<>();
+    private static final List<ExtensionService> services = new ArrayList<>();
+    private static BlockedExtensionRepository repository;
+
+    @BeforeAll
+    static void startInstances() {
+        for (int i = 0; i < INSTANCES; i++) {
+            // properties()는 기본값(우선순위 최하위)이라 application.yml에 덮임 → 명령행 인자로 전달
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(GhhFileExtensionBlockerApplication.class)
+                    .run(
+                            "--server.port=0",
+                            // create는 먼저 뜬 인스턴스가 쓰는 테이블을 지우므로 update
+                            "--spring.jpa.hibernate.ddl-auto=update",
+                            "--spring.jpa.show-sql=false",
+                            "--app.custom-extension-limit=" + LIMIT,
+                            "--app.upload-jobs.dir=" + tempDir.resolve("jobs-" + i),
+                            "--app.chunked-upload.dir=" + tempDir.resolve("uploads-" + i));
+            contexts.add(context);
+            services.add(context.getBean(ExtensionService.class));
+        }
+        repository = contexts.get(0).getBean(BlockedExtensionRepository.class);
+    }
+
+    @AfterAll
+    static void stopInstances() {
+        Collections.reverse(contexts);
+        contexts.forEach(ConfigurableApplicationContext::close);
+        contexts.clear();
+        services.clear();
+    }
+
+    @BeforeEach
+    void setUp() {
+        services.get(0).resetAll();
+    }
+
+    @Test
+    @DisplayName("모든 인스턴스가 동시에 서로 다른 확장자를 추가해도 상한까지만 등록된다")
+    void limit_holds_across_instances() throws InterruptedException {
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        hammer(10, (service, instance, thread, n) -> {
+            try {
+                service.addCustomExtensions("i" + instance + "t" + thread + "n" + n);
+                success.incrementAndGet();
+            } catch (BlockedExtensionException e) {
+                rejected.incrementAndGet();
+            }
+        });
+
+        assertThat(success).hasValue(LIMIT);
+        assertThat(rejected).hasValue(INSTANCES * THREADS_PER_INSTANCE * 10 - LIMIT);
+        assertThat(repository.countByType(ExtensionType.CUSTOM)).isEqualTo(LIMIT);
+    }
+
+    @Test
+    @DisplayName("모든 인스턴스가 같은 확장자를 동시에 추가해도 1개만 등록된다")
+    void same_extension_once_across_instances() throws InterruptedException {
+        AtomicInteger success = new AtomicInteger();
+
+        hammer(1, (service, instance, thread, n) -> {
+            try {
+                service.addCustomExtensions("py");
+                success.incrementAndGet();
+            } catch (BlockedExtensionException e) {
+                // 이미 등록됨
+            }
+        });
+
+        assertThat(success).hasValue(1);
+        assertThat(repository.findByTypeOrderByCreatedAtDesc(ExtensionType.CUSTOM))
+                .extracting(BlockedExtension::getExtension)
+                .containsExactly("py");
+    }
+
+    @Test
+    @DisplayName("추가/삭제/토글/초기화가 섞여도 상한, 유일성, 버전 증가 횟수가 맞는다")
+    void mixed_writes_keep_invariants() throws InterruptedException {
+        List<String> fixed = ExtensionService.getFixedExtensionList();
+        long versionBefore = services.get(0).getRuleVersion();
+        AtomicInteger writes = new AtomicInteger();
+
+        hammer(40, (service, instance, thread, n) -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            try {
+                switch (random.nextInt(10)) {
+                    // 이름 후보를 적게 → 중복 추가가 자주 충돌
+                    case 0, 1, 2, 3 -> service.addCustomExtensions("x" + random.nextInt(LIMIT * 2));
+                    case 4, 5 -> {
+                        List<BlockedExtension> customs = repository.findByTypeOrderByCreatedAtDesc(ExtensionType.CUSTOM);
+                        if (customs.isEmpty()) {
+                            return;
+                        }
+                        service.deleteCustomExtension(customs.get(random.nextInt(customs.size())).getId());
+                    }
+                    case 6, 7 -> service.updateFixedExtension(fixed.get(random.nextInt(fixed.size())), random.nextBoolean());
+                    case 8 -> service.batchUpdateFixed(Map.of(fixed.get(random.nextInt(fixed.size())), true));
+                    default -> service.resetAll();
+                }
+                writes.incrementAndGet();
+            } catch (BlockedExtensionException | OptimisticLockingFailureException e) {
+                // 상한 초과 / 중복 / 이미 삭제됨 / 동시 토글 충돌 → 롤백 (버전 증가 없음)
+            }
+        });
+
+        List<String> customs = repository.findByTypeOrderByCreatedAtDesc(ExtensionType.CUSTOM).stream()
+                .map(BlockedExtension::getExtension)
+                .toList();
+        assertThat(customs).hasSizeLessThanOrEqualTo(LIMIT).doesNotHaveDuplicates();
+        assertThat(repository.countByType(ExtensionType.CUSTOM)).isEqualTo(customs.size());
+        // 성공한 쓰기마다 정확히 1 증가 (실패한 쓰기는 버전도 롤백)
+        assertThat(services.get(0).getRuleVersion() - versionBefore).isEqualTo(writes.get());
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("경쟁 정도별 관리자 쓰기 처리량과 락 대기 시간")
+    void admin_write_throughput() throws Exception {
+        System.out.printf("%n인스턴스 %d개, 스레드당 추가+삭제 %d쌍 (tx = 쓰기 1건 호출 시간, lock = JVM 모니터 + 버전 행 잠금 대기)%n",
+                INSTANCES, BENCHMARK_PAIRS);
+        System.out.printf("%-10s %10s %12s %12s %14s %14s%n",
+                "writers", "writes/s", "tx p50(ms)", "tx p99(ms)", "lock p50(ms)", "lock p99(ms)");
+
+        for (int threads : new int[]{1, 2, 4, 8}) {
+            services.get(0).resetAll();
+            List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+
+            Recording recording = new Recording();
+            recording.enable("com.ghh.blocker.RuleLock").withThreshold(Duration.ZERO).withoutStackTrace();
+            recording.start();
+            long start = System.nanoTime();
+
+            hammer(threads, BENCHMARK_PAIRS, (service, instance, thread, n) -> {
+                long begin = System.nanoTime();
+                List<ExtensionDto.CustomResponse> added = service.addCustomExtensions("b" + instance + "t" + thread + "n" + n);
+                long addedAt = System.nanoTime();
+                service.deleteCustomExtension(added.get(0).id());
+                latencies.add(addedAt - begin);
+                latencies.add(System.nanoTime() - addedAt);
+            });
+
+            long elapsed = System.nanoTime() - start;
+            recording.stop();
+            Path file = tempDir.resolve("rule-lock-" + threads + ".jfr");
+            recording.dump(file);
+            recording.close();
+            List<Long> lockWaits = new ArrayList<>(RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> e.getEventType().getName().equals("com.ghh.blocker.RuleLock"))
+                    .map(RecordedEvent::getDuration)
+                    .map(Duration::toNanos)
+                    .toList());
+
+            int writes = latencies.size();
+            System.out.printf("%-10s %10.0f %12.2f %12.2f %14.2f %14.2f%n",
+                    INSTANCES + "x" + threads,
+                    writes / (elapsed / 1e9),
+                    percentile(latencies, 0.50), percentile(latencies, 0.99),
+                    percentile(lockWaits, 0.50), percentile(lockWaits, 0.99));
+
+            assertThat(lockWaits).hasSize(writes);
+            assertThat(repository.countByType(ExtensionType.CUSTOM)).isZero();
+        }
+    }
+
+    // ===== Private =====
+
+    @FunctionalInterface
+    private interface Work {
+        void run(ExtensionService service, int instance, int thread, int n) throws Exception;
+    }
+
+    private static void hammer(int perThread, Work work) throws InterruptedException {
+        hammer(THREADS_PER_INSTANCE, perThread, work);
+    }
+
+    /**
+     * 인스턴스마다 threads개 스레드가 동시에 출발해 각각 perThread회 실행 (예상 밖 예외는 테스트 실패)
+     */
+    private static void hammer(int threads, int perThread, Work work) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(INSTANCES * threads);
+        CountDownLatch ready = new CountDownLatch(1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        for (int i = 0; i < INSTANCES; i++) {
+            ExtensionService service = services.get(i);
+            int instance = i;
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                executor.submit(() -> {
+                    try {
+                        ready.await();
+                        for (int n = 0; n < perThread; n++) {
+                            work.run(service, instance, thread, n);
+                        }
+                    } catch (Throwable e) {
+                        failure.compareAndSet(null, e);
+                    }
+                    return null;
+                });
+            }
+        }
+
+        ready.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+        assertThat(failure.get()).isNull();
+    }
+
+    private static double percentile(List<Long> nanos, double p) {
+        if (nanos.isEmpty()) {
+            return 0;
+        }
+        List<Long> sorted = new ArrayList<>(nanos);
+        Collections.sort(sorted);
+        return sorted.get((int) Math.min(sorted.size() - 1, Math.round(p * (sorted.size() - 1)))) / 1e6;
+    }
+}
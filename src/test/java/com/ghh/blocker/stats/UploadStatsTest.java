@@ -0,0 +1,108 @@
+package com.ghh.blocker.stats;
+
+import com.ghh.blocker.dto.UploadStatsDto;
+import com.ghh.blocker.rule.BlockRuleSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("업로드 판정 통계")
+class UploadStatsTest {
+
+    private static final BlockRuleSnapshot RULES = BlockRuleSnapshot.compile(List.of("exe", "png"), List.of(), List.of(), 100);
+
+    private final AtomicLong now = new AtomicLong(Duration.ofDays(1).toMillis());
+    private final UploadStats stats = new UploadStats(
+            new UploadStatsProperties(true, Duration.ofHours(1), Duration.ofMinutes(1), 1024, 4, 16), now::get);
+
+    @Test
+    @DisplayName("차단/허용 확장자를 건수 순으로 집계하고 지금 차단 중인 확장자는 허용 목록에서 뺀다")
+    void ranks_blocked_and_unblocked() {
+        repeat(5, () -> stats.record("exe", false, "extension"));
+        repeat(2, () -> stats.record("sh", false, "signature"));
+        stats.record("pdf", false, null);
+        repeat(10, () -> stats.record("pdf", true, null));
+        now.addAndGet(Duration.ofMinutes(5).toMillis());
+        repeat(3, () -> stats.record("png", true, null));
+        repeat(4, () -> stats.record("zip", true, null));
+
+        UploadStatsDto.Response response = stats.snapshot(10, RULES);
+
+        assertThat(response.uploads()).isEqualTo(25);
+        assertThat(response.blocked()).isEqualTo(8);
+        assertThat(response.blockedByStage()).containsEntry("extension", 5L)
+                .containsEntry("signature", 2L)
+                .containsEntry("error", 1L);
+        assertThat(response.topBlocked().extensions()).containsExactly(
+                new UploadStatsDto.ExtensionCount("exe", 5),
+                new UploadStatsDto.ExtensionCount("sh", 2),
+                new UploadStatsDto.ExtensionCount("pdf", 1));
+        assertThat(response.topUnblocked().extensions()).containsExactly(
+                new UploadStatsDto.ExtensionCount("pdf", 10),
+                new UploadStatsDto.ExtensionCount("zip", 4));
+    }
+
+    @Test
+    @DisplayName("window가 지난 버킷은 집계에서 빠진다")
+    void old_buckets_expire() {
+        stats.record("exe", false, "extension");
+        now.addAndGet(Duration.ofMinutes(30).toMillis());
+        stats.record("sh", false, "extension");
+
+        now.addAndGet(Duration.ofMinutes(31).toMillis());
+        UploadStatsDto.Response response = stats.snapshot(10, RULES);
+
+        assertThat(response.blocked()).isEqualTo(1);
+        assertThat(response.topBlocked().extensions()).extracting(UploadStatsDto.ExtensionCount::extension)
+                .containsExactly("sh");
+
+        now.addAndGet(Duration.ofHours(1).toMillis());
+        assertThat(stats.snapshot(10, RULES).uploads()).isZero();
+    }
+
+    @Test
+    @DisplayName("확장자 종류가 많아도 자주 나온 확장자를 오차 한도 안에서 찾는다")
+    void heavy_hitters_among_many_keys() {
+        for (int i = 0; i < 20_000; i++) {
+            stats.record("x" + i, true, null);
+            if (i % 20 == 0) {
+                stats.record("jpg", true, null);
+            }
+            if (i % 50 == 0) {
+                stats.record("docx", true, null);
+            }
+        }
+
+        UploadStatsDto.Ranking ranking = stats.snapshot(2, RULES).topUnblocked();
+
+        assertThat(ranking.extensions()).extracting(UploadStatsDto.ExtensionCount::extension)
+                .containsExactly("jpg", "docx");
+        assertThat(ranking.extensions().get(0).count()).isBetween(1000L, 1000L + ranking.maxOverestimate());
+        assertThat(ranking.extensions().get(1).count()).isBetween(400L, 400L + ranking.maxOverestimate());
+    }
+
+    @Test
+    @DisplayName("Count-Min Sketch는 실제보다 작게 추정하지 않는다")
+    void sketch_never_underestimates() {
+        CountMinSketch sketch = new CountMinSketch(4, 64);
+        for (int i = 0; i < 1000; i++) {
+            sketch.add("k" + (i % 100));
+        }
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(sketch.estimate("k" + i)).isGreaterThanOrEqualTo(10);
+        }
+        assertThatThrownBy(() -> new CountMinSketch(4, 1000)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void repeat(int times, Runnable action) {
+        for (int i = 0; i < times; i++) {
+            action.run();
+        }
+    }
+}
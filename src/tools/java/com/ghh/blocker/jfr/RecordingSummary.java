@@ -0,0 +1,97 @@
+package com.ghh.blocker.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * JFR 녹화 파일에서 Blocker 이벤트만 모아 단계별 지연 요약
+ *
+ *   ./gradlew jfrSummary -Pjfr=recording.jfr
+ *
+ * 개발용 도구 → src/tools 소스 세트 (bootJar에 포함되지 않음)
+ *
+ * 단계:
+ *   verdict/allowed, verdict/blocked:{stage}  파일 1개 판정 전체
+ *   tika                                      MIME 탐지
+ *   rule-reload                               규칙 스냅샷 재적재
+ *   lock/{operation}                          ExtensionService 쓰기 락 대기
+ */
+public final class RecordingSummary {
+
+    private RecordingSummary() {}
+
+    /**
+     * 단계 1개의 요약 (total = 지연 합계 → 단계 간 시간 비중 비교용)
+     */
+    public record Row(String stage, int count, Duration total, Duration p50, Duration p99, Duration max) {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("사용법: RecordingSummary <recording.jfr>");
+            System.exit(2);
+        }
+        print(summarize(Path.of(args[0])));
+    }
+
+    public static List<Row> summarize(Path recording) throws IOException {
+        Map<String, List<Long>> samples = new TreeMap<>();
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                String stage = stageOf(event);
+                if (stage != null) {
+                    samples.computeIfAbsent(stage, k -> new ArrayList<>()).add(event.getDuration().toNanos());
+                }
+            }
+        }
+
+        List<Row> rows = new ArrayList<>();
+        samples.forEach((stage, durations) -> {
+            long[] sorted = durations.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            rows.add(new Row(stage, sorted.length,
+                    Duration.ofNanos(Arrays.stream(sorted).sum()),
+                    Duration.ofNanos(percentile(sorted, 50)),
+                    Duration.ofNanos(percentile(sorted, 99)),
+                    Duration.ofNanos(sorted[sorted.length - 1])));
+        });
+        return rows;
+    }
+
+    // ===== Private =====
+
+    private static String stageOf(RecordedEvent event) {
+        return switch (event.getEventType().getName()) {
+            case "com.ghh.blocker.FileVerdict" -> event.getBoolean("allowed")
+                    ? "verdict/allowed"
+                    : "verdict/blocked:" + event.getString("stage");
+            case "com.ghh.blocker.TikaDetection" -> "tika";
+            case "com.ghh.blocker.RuleReload" -> "rule-reload";
+            case "com.ghh.blocker.RuleLock" -> "lock/" + event.getString("operation");
+            default -> null;
+        };
+    }
+
+    private static long percentile(long[] sorted, int p) {
+        int index = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    private static void print(List<Row> rows) {
+        System.out.printf("%-28s %8s %12s %12s %12s %12s%n", "stage", "count", "total(ms)", "p50(us)", "p99(us)", "max(us)");
+        for (Row row : rows) {
+            System.out.printf("%-28s %8d %12.1f %12d %12d %12d%n", row.stage(), row.count(),
+                    row.total().toNanos() / 1_000_000.0,
+                    row.p50().toNanos() / 1_000, row.p99().toNanos() / 1_000, row.max().toNanos() / 1_000);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.ghh.blocker.inspection;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * ExecutableScanner 후보 검색의 SIMD 구현 (jdk.incubator.vector가 있을 때만 로드)
+ *
+ * 레인 L개씩: v0 = a[i..i+L), v1 = a[i+1..i+L+1) (1바이트 밀린 로드)
+ *   (v0 == 'M' & v1 == 'Z') | (v0 == 0x7F & v1 == 'E') → 하나라도 참이면 첫 레인 반환
+ * 레인 수로 나눠떨어지는 구간만 검색, 남는 꼬리는 ExecutableScanner가 스칼라로
+ *
+ * 인큐베이터 모듈로 컴파일하는 유일한 클래스 → 별도 소스 세트(src/vector), main을 참조하지 않음
+ */
+final class VectorHeaderSearch {
+
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+
+    private VectorHeaderSearch() {
+    }
+
+    static int bitSize() {
+        return SPECIES.vectorBitSize();
+    }
+
+    static int lanes() {
+        return LANES;
+    }
+
+    /**
+     * [from, end) 중 레인 단위로 채워지는 앞부분에서 후보 검색 (a[end]까지 읽음)
+     * @return 후보 위치 (없으면 -1)
+     */
+    static int next(byte[] a, int from, int end) {
+        for (int i = from; i + LANES <= end; i += LANES) {
+            ByteVector v0 = ByteVector.fromArray(SPECIES, a, i);
+            ByteVector v1 = ByteVector.fromArray(SPECIES, a, i + 1);
+            VectorMask<Byte> mz = v0.eq((byte) 'M').and(v1.eq((byte) 'Z'));
+            VectorMask<Byte> elf = v0.eq((byte) 0x7F).and(v1.eq((byte) 'E'));
+            VectorMask<Byte> hit = mz.or(elf);
+            if (hit.anyTrue()) {
+                return i + hit.firstTrue();
+            }
+        }
+        return -1;
+    }
+}